@@ -2,7 +2,9 @@ package de.resume.inventory.management.system.productservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = "de.resume.inventory.management.system.productservice")
 public class ProductserviceApplication {
 
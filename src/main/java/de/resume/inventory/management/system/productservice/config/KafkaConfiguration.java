@@ -1,13 +1,25 @@
 package de.resume.inventory.management.system.productservice.config;
 
 import de.resume.inventory.management.system.productservice.models.events.ProductDeletedEvent;
+import de.resume.inventory.management.system.productservice.models.events.ProductEventHeaders;
+import de.resume.inventory.management.system.productservice.models.events.ProductInvalidationMessage;
 import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
+import de.resume.inventory.management.system.productservice.services.resolver.InstanceIdResolver;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -15,26 +27,57 @@ import java.util.Map;
 @Configuration
 public class KafkaConfiguration {
 
+    private static final String CACHE_INVALIDATION_GROUP_SUFFIX = "-cache-invalidation-";
+
     @Bean
-    public KafkaProducer<String, ProductUpsertedEvent> productUpsertedEventProducer(final KafkaProperties kafkaProperties) {
+    public KafkaProducer<String, ProductUpsertedEvent> productUpsertedEventProducer(final KafkaProperties kafkaProperties,
+                                                                                    final InstanceIdResolver instanceIdResolver) {
         final Map<String, Object> producerProperties = new HashMap<>(kafkaProperties.buildProducerProperties());
-        configureProducerProperties(producerProperties);
+        configureProducerProperties(producerProperties, instanceIdResolver);
         return new KafkaProducer<>(producerProperties);
     }
 
     @Bean
-    public KafkaProducer<String, ProductDeletedEvent> productDeletedEventProducer(final KafkaProperties kafkaProperties) {
+    public KafkaProducer<String, ProductDeletedEvent> productDeletedEventProducer(final KafkaProperties kafkaProperties,
+                                                                                  final InstanceIdResolver instanceIdResolver) {
         final Map<String, Object> producerProperties = new HashMap<>(kafkaProperties.buildProducerProperties());
-        configureProducerProperties(producerProperties);
+        configureProducerProperties(producerProperties, instanceIdResolver);
         return new KafkaProducer<>(producerProperties);
     }
 
-    private void configureProducerProperties(final Map<String, Object> producerProperties) {
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ProductInvalidationMessage> productInvalidationListenerContainerFactory(
+            final KafkaProperties kafkaProperties,
+            final InstanceIdResolver instanceIdResolver,
+            final ConsumerAwareRebalanceListener productInvalidationRebalanceListener,
+            @Value("${spring.application.name}") final String applicationName) {
+        final Map<String, Object> consumerProperties = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG,
+                applicationName + CACHE_INVALIDATION_GROUP_SUFFIX + instanceIdResolver.resolveInstanceId());
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProperties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        consumerProperties.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        consumerProperties.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ProductInvalidationMessage.class.getName());
+        consumerProperties.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+
+        final ConcurrentKafkaListenerContainerFactory<String, ProductInvalidationMessage> containerFactory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        containerFactory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProperties));
+        containerFactory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerFactory.getContainerProperties().setConsumerRebalanceListener(productInvalidationRebalanceListener);
+        return containerFactory;
+    }
+
+    private void configureProducerProperties(final Map<String, Object> producerProperties, final InstanceIdResolver instanceIdResolver) {
         producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, org.springframework.kafka.support.serializer.JsonSerializer.class);
         producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
         producerProperties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         producerProperties.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE);
+        producerProperties.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, OriginInstanceProducerInterceptor.class.getName());
+        producerProperties.put(ProductEventHeaders.ORIGIN_INSTANCE_CONFIG, instanceIdResolver.resolveInstanceId());
     }
 }
@@ -19,6 +19,10 @@ public class OpenApiConfig {
                 • Persist product data
                 • Publish domain events for product lifecycle changes
 
+                Retries:
+                • Create, update and bulk endpoints accept an Idempotency-Key header; a retried request with the same key
+                  and payload is answered with the stored original response (marked Idempotent-Replayed: true).
+
                 Architecture:
                 • Event-driven with Kafka
                 • This service acts primarily as an event producer; downstream services consume product events.
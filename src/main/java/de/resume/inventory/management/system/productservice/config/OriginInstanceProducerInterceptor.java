@@ -0,0 +1,37 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import de.resume.inventory.management.system.productservice.models.events.ProductEventHeaders;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+public class OriginInstanceProducerInterceptor implements ProducerInterceptor<String, Object> {
+
+    private byte[] originInstance;
+
+    @Override
+    public ProducerRecord<String, Object> onSend(final ProducerRecord<String, Object> producerRecord) {
+        if (Objects.nonNull(originInstance) && Objects.isNull(producerRecord.headers().lastHeader(ProductEventHeaders.ORIGIN_INSTANCE))) {
+            producerRecord.headers().add(ProductEventHeaders.ORIGIN_INSTANCE, originInstance);
+        }
+        return producerRecord;
+    }
+
+    @Override
+    public void onAcknowledgement(final RecordMetadata metadata, final Exception exception) { }
+
+    @Override
+    public void close() { }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final Object configuredInstance = configs.get(ProductEventHeaders.ORIGIN_INSTANCE_CONFIG);
+        if (Objects.nonNull(configuredInstance)) {
+            originInstance = configuredInstance.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
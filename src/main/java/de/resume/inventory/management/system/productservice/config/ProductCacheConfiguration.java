@@ -0,0 +1,34 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheConfiguration {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(10);
+    private Invalidation invalidation = new Invalidation();
+    private Pages pages = new Pages();
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Pages {
+        private boolean enabled = true;
+        private long maximumSize = 1_000;
+        private Duration timeToLive = Duration.ofSeconds(30);
+    }
+}
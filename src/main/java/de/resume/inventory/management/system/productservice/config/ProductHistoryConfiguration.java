@@ -0,0 +1,42 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryRetentionAction;
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryWriteMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.history")
+public class ProductHistoryConfiguration {
+    private ProductHistoryWriteMode writeMode = ProductHistoryWriteMode.SYNCHRONOUS;
+    private Async async = new Async();
+    private Partitioning partitioning = new Partitioning();
+
+    @Getter
+    @Setter
+    public static class Async {
+        private int queueCapacity = 10_000;
+        private int batchSize = 500;
+        private Duration flushInterval = Duration.ofMillis(200);
+        private Duration enqueueTimeout = Duration.ofMillis(50);
+        private boolean enqueueAfterCommit = true;
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Partitioning {
+        private boolean enabled = true;
+        private boolean convertOnStartup = false;
+        private int premakeMonths = 3;
+        private int retentionMonths = 24;
+        private ProductHistoryRetentionAction retentionAction = ProductHistoryRetentionAction.DETACH;
+        private Duration maintenanceInterval = Duration.ofHours(12);
+    }
+}
@@ -0,0 +1,23 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.idempotency")
+public class ProductIdempotencyConfiguration {
+    private boolean enabled = true;
+    private Duration timeToLive = Duration.ofHours(24);
+    private Duration inProgressTimeout = Duration.ofMinutes(5);
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+    private DataSize maxCachedBodySize = DataSize.ofKilobytes(64);
+    private int maxKeyLength = 255;
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,15 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.import")
+public class ProductImportConfiguration {
+    private int chunkSize = 50_000;
+    private int maxReportedRejects = 1_000;
+}
@@ -0,0 +1,26 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.key-filter")
+public class ProductKeyFilterConfiguration {
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+    private Duration rebuildInterval = Duration.ofHours(6);
+    private Sync sync = new Sync();
+
+    @Getter
+    @Setter
+    public static class Sync {
+        private boolean enabled = true;
+    }
+}
@@ -0,0 +1,15 @@
+package de.resume.inventory.management.system.productservice.config;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductUniquenessMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "product.validation")
+public class ProductValidationConfiguration {
+    private ProductUniquenessMode uniquenessMode = ProductUniquenessMode.PRE_CHECK;
+}
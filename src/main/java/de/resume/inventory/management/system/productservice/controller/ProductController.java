@@ -1,21 +1,52 @@
 package de.resume.inventory.management.system.productservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBatchResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkDeleteResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursorPage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.domain.ProductSlicePage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpdateResult;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchGetDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkCreateDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkDeleteDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
 import de.resume.inventory.management.system.productservice.services.ProductService;
+import de.resume.inventory.management.system.productservice.services.export.ProductExportService;
+import de.resume.inventory.management.system.productservice.services.imports.ProductImportService;
+import de.resume.inventory.management.system.productservice.services.resolver.ProductETagResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 
 @Slf4j
@@ -24,7 +55,14 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class ProductController implements ProductControllerApi {
 
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String PRODUCT_UNCHANGED_HEADER = "X-Product-Unchanged";
+
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductImportService productImportService;
+    private final ProductETagResolver productETagResolver;
 
     @Override
     public ResponseEntity<Product> create(final ProductToCreateDto productToCreateDto) {
@@ -38,32 +76,91 @@ public class ProductController implements ProductControllerApi {
                 .toUri();
 
         log.info("Product created. id={}, location={}", created.id(), location);
-        return ResponseEntity.created(location).body(created);
+        return ResponseEntity.created(location)
+                .eTag(productETagResolver.resolveProductETag(created.id(), created.version()))
+                .body(created);
+    }
+
+    @Override
+    public ResponseEntity<ProductBulkResult> createBulk(final ProductBulkCreateDto productBulkCreateDto) {
+        log.info("HTTP POST /products/bulk — creating products. count={}", productBulkCreateDto.products().size());
+
+        final ProductBulkResult productBulkResult = productService.createProducts(productBulkCreateDto.products());
+
+        log.info("Products bulk created. created={}, rejected={}", productBulkResult.succeeded(), productBulkResult.rejected());
+        return ResponseEntity.ok(productBulkResult);
     }
 
     @Override
-    public ResponseEntity<Product> update(final ProductToUpdateDto productToUpdateDto) {
-        log.info("HTTP PUT /products — updating product. id={}, articleNumber={}",
-                productToUpdateDto.id(), productToUpdateDto.articleNumber());
+    public ResponseEntity<ProductBulkResult> upsertBulk(final ProductBulkCreateDto productBulkUpsertDto) {
+        log.info("HTTP PUT /products/bulk — upserting products. count={}", productBulkUpsertDto.products().size());
+
+        final ProductBulkResult productBulkResult = productService.upsertProducts(productBulkUpsertDto.products());
 
-        final Product updated = productService.updateProduct(productToUpdateDto);
+        log.info("Products bulk upserted. accepted={}, rejected={}", productBulkResult.succeeded(), productBulkResult.rejected());
+        return ResponseEntity.ok(productBulkResult);
+    }
+
+    @Override
+    public ResponseEntity<ProductBulkResult> applyBatch(final ProductBatchDto productBatchDto) {
+        log.info("HTTP POST /products/batch — applying product batch. operations={}", productBatchDto.operations().size());
+
+        final ProductBulkResult productBulkResult = productService.applyProductBatch(productBatchDto.operations());
+
+        log.info("Product batch applied. operations={}", productBulkResult.succeeded());
+        return ResponseEntity.ok(productBulkResult);
+    }
+
+    @Override
+    public ResponseEntity<Product> update(final ProductToUpdateDto productToUpdateDto, final String ifMatch) {
+        log.info("HTTP PUT /products — updating product. id={}, articleNumber={}, ifMatch={}",
+                productToUpdateDto.id(), productToUpdateDto.articleNumber(), ifMatch);
+
+        final ProductUpdateResult productUpdateResult = productService.updateProduct(productToUpdateDto, ifMatch);
+        return toUpdateResponse(productUpdateResult);
+    }
+
+    @Override
+    public ResponseEntity<Product> patch(final String id, final JsonNode mergePatch, final String ifMatch) {
+        log.info("HTTP PATCH /products/{} — patching product. ifMatch={}", id, ifMatch);
 
-        log.info("Product updated. id={}", updated.id());
-        return ResponseEntity.ok(updated);
+        final ProductUpdateResult productUpdateResult = productService.patchProduct(id, mergePatch, ifMatch);
+        return toUpdateResponse(productUpdateResult);
     }
 
     @Override
-    public ResponseEntity<Void> delete(String id) {
-        log.info("HTTP DELETE /products/{} — deleting product", id);
-        productService.deleteProduct(id);
+    public ResponseEntity<Void> delete(final String id, final String ifMatch) {
+        log.info("HTTP DELETE /products/{} — deleting product. ifMatch={}", id, ifMatch);
+        productService.deleteProduct(id, ifMatch);
         log.info("Product deleted. id={}", id);
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<Product> getById(final String id) {
+    public ResponseEntity<ProductBulkDeleteResult> deleteBulk(final ProductBulkDeleteDto productBulkDeleteDto, final boolean dryRun) {
+        log.info("HTTP POST /products/bulk-delete — deleting products. category={}, unit={}, dryRun={}",
+                productBulkDeleteDto.category(), productBulkDeleteDto.unit(), dryRun);
+
+        final ProductBulkDeleteResult productBulkDeleteResult = productService.deleteProducts(productBulkDeleteDto, dryRun);
+
+        log.info("Products bulk deleted. count={}, hasMore={}, dryRun={}",
+                productBulkDeleteResult.count(), productBulkDeleteResult.hasMore(), productBulkDeleteResult.dryRun());
+        return ResponseEntity.ok(productBulkDeleteResult);
+    }
+
+    @Override
+    public ResponseEntity<Product> getById(final String id, final String ifNoneMatch) {
         log.info("HTTP GET /products/{} — fetching product", id);
 
+        if (ifNoneMatch != null) {
+            final Optional<String> currentETag = productService.getProductETag(id)
+                    .filter(eTag -> productETagResolver.matchesAny(ifNoneMatch, eTag));
+            if (currentETag.isPresent()) {
+                log.info("Product not modified. id={}", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+            }
+        }
+
         final Product productDto = productService.getProductById(id).orElseThrow(() -> {
                     log.warn("Product not found. id={}", id);
                     return new ResponseStatusException(
@@ -72,16 +169,169 @@ public class ProductController implements ProductControllerApi {
         });
 
         log.info("Product fetched. id={}", productDto.id());
-        return ResponseEntity.ok(productDto);
+        return ResponseEntity.ok()
+                .eTag(productETagResolver.resolveProductETag(productDto.id(), productDto.version()))
+                .body(productDto);
+    }
+
+    @Override
+    public ResponseEntity<Product> getByArticleNumber(final String articleNumber) {
+        log.debug("HTTP GET /products/by-article/{} — fetching product", articleNumber);
+
+        final Product product = productService.getProductByArticleNumber(articleNumber).orElseThrow(() -> {
+            log.warn("Product not found. articleNumber={}", articleNumber);
+            return new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Product not found: " + articleNumber
+            );
+        });
+
+        return ResponseEntity.ok(product);
+    }
+
+    @Override
+    public ResponseEntity<Map<String, Object>> getByIdProjected(final String id, final String fields) {
+        log.info("HTTP GET /products/{} — fetching product. fields={}", id, fields);
+
+        final Map<String, Object> product = productService.getProductByIdProjected(id, fields).orElseThrow(() -> {
+            log.warn("Product not found. id={}", id);
+            return new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Product not found: " + id
+            );
+        });
+
+        return ResponseEntity.ok(product);
+    }
+
+    @Override
+    public ResponseEntity<ProductBatchResult<Product>> getByIds(final ProductBatchGetDto productBatchGetDto) {
+        log.info("HTTP POST /products/batch-get - fetching products. ids={}", productBatchGetDto.ids().size());
+        final ProductBatchResult<Product> productBatchResult = productService.getProductsByIds(productBatchGetDto.ids());
+        return ResponseEntity.ok(productBatchResult);
+    }
+
+    @Override
+    public ResponseEntity<ProductBatchResult<Map<String, Object>>> getByIdsProjected(final ProductBatchGetDto productBatchGetDto,
+                                                                                     final String fields) {
+        log.info("HTTP POST /products/batch-get - fetching products. ids={}, fields={}", productBatchGetDto.ids().size(), fields);
+        return ResponseEntity.ok(productService.getProductsByIdsProjected(productBatchGetDto.ids(), fields));
     }
 
     @Override
-    public ResponseEntity<Page<Product>> getAll(final Pageable pageable) {
+    public ResponseEntity<Page<Product>> getAll(final Pageable pageable, final String ifNoneMatch) {
         log.info("HTTP GET /products - listing products. page={}, size={}, sort={}",
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
-        final Page<Product> page = productService.getAllProducts(pageable);
+
+        final long catalogVersion = productService.getCatalogVersion();
+        final String pageETag = productService.getProductPageETag(catalogVersion, pageable);
+        if (productETagResolver.matchesAny(ifNoneMatch, pageETag)) {
+            log.info("Products page not modified. page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(pageETag).build();
+        }
+
+        final Page<Product> page = productService.getAllProducts(catalogVersion, pageable);
+        log.info("Products page fetched. elements={}, totalElements={}, totalPages={}",
+                page.getNumberOfElements(), page.getTotalElements(), page.getTotalPages());
+        return ResponseEntity.ok().eTag(pageETag).body(page);
+    }
+
+    @Override
+    public ResponseEntity<Page<Map<String, Object>>> getAllProjected(final Pageable pageable, final String fields) {
+        log.info("HTTP GET /products - listing products. page={}, size={}, sort={}, fields={}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), fields);
+        final Page<Map<String, Object>> page = productService.getAllProductsProjected(pageable, fields);
         log.info("Products page fetched. elements={}, totalElements={}, totalPages={}",
                 page.getNumberOfElements(), page.getTotalElements(), page.getTotalPages());
         return ResponseEntity.ok(page);
     }
+
+    @Override
+    public ResponseEntity<ProductSlicePage> getSlice(final Pageable pageable, final ProductTotalMode totalMode) {
+        log.info("HTTP GET /products/slice - listing products. page={}, size={}, sort={}, total={}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), totalMode);
+        final ProductSlicePage productSlicePage = productService.getProductSlice(pageable, totalMode);
+        log.info("Products slice fetched. elements={}, hasNext={}, totalElements={}",
+                productSlicePage.content().size(), productSlicePage.hasNext(), productSlicePage.totalElements());
+        return ResponseEntity.ok(productSlicePage);
+    }
+
+    @Override
+    public ResponseEntity<ProductCursorPage> getAllByCursor(final ProductSortKey sortKey, final Sort.Direction direction,
+                                                            final int size, final String cursor) {
+        log.info("HTTP GET /products/cursor - listing products. sortBy={}, direction={}, size={}, cursor={}",
+                sortKey, direction, size, cursor != null);
+        final ProductCursorPage productCursorPage = productService.getProductsByCursor(sortKey, direction, cursor, size);
+        log.info("Products cursor page fetched. elements={}, hasNext={}",
+                productCursorPage.content().size(), productCursorPage.hasNext());
+        return ResponseEntity.ok(productCursorPage);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String acceptEncoding) {
+        final boolean gzipAccepted = acceptsGzip(acceptEncoding);
+        log.info("HTTP GET /products/export - streaming product export. gzip={}", gzipAccepted);
+
+        final StreamingResponseBody responseBody = outputStream -> {
+            if (gzipAccepted) {
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE)) {
+                    productExportService.exportProducts(gzipOutputStream);
+                }
+            } else {
+                productExportService.exportProducts(outputStream);
+            }
+        };
+
+        final ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipAccepted) {
+            responseBuilder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        return responseBuilder.body(responseBody);
+    }
+
+    @Override
+    public ResponseEntity<ProductImportReport> importProducts(final String contentType, final String contentEncoding,
+                                                              final InputStream body) throws IOException {
+        final ProductImportFormat importFormat = ProductImportFormat.fromContentType(contentType);
+        final boolean gzipEncoded = contentEncoding != null && contentEncoding.trim().equalsIgnoreCase(GZIP_ENCODING);
+        log.info("HTTP POST /products/import - importing products. format={}, gzip={}", importFormat, gzipEncoded);
+
+        final ProductImportReport productImportReport = gzipEncoded
+                ? productImportService.importProducts(new GZIPInputStream(body, GZIP_BUFFER_SIZE), importFormat)
+                : productImportService.importProducts(body, importFormat);
+
+        log.info("Products imported. importId={}, imported={}, rejected={}",
+                productImportReport.importId(), productImportReport.imported(), productImportReport.rejected());
+        return ResponseEntity.ok(productImportReport);
+    }
+
+    @Override
+    public ResponseEntity<List<ProductImportReport>> getRunningImports() {
+        log.info("HTTP GET /products/imports - listing running imports");
+        return ResponseEntity.ok(productImportService.getRunningImports());
+    }
+
+    private ResponseEntity<Product> toUpdateResponse(final ProductUpdateResult productUpdateResult) {
+        final Product updated = productUpdateResult.product();
+
+        final String eTag = productETagResolver.resolveProductETag(updated.id(), updated.version());
+
+        if (!productUpdateResult.changed()) {
+            log.info("Product unchanged. id={}", updated.id());
+            return ResponseEntity.ok().eTag(eTag).header(PRODUCT_UNCHANGED_HEADER, Boolean.TRUE.toString()).body(updated);
+        }
+
+        log.info("Product updated. id={}, version={}", updated.id(), updated.version());
+        return ResponseEntity.ok().eTag(eTag).body(updated);
+    }
+
+    private boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(encoding -> encoding.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(encoding -> encoding.equals(GZIP_ENCODING)
+                        || (encoding.startsWith(GZIP_ENCODING + ";") && !encoding.replace(" ", "").endsWith("q=0")));
+    }
 }
@@ -1,9 +1,23 @@
 package de.resume.inventory.management.system.productservice.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBatchResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkDeleteResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursorPage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.domain.ProductSlicePage;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchGetDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkCreateDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkDeleteDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,9 +29,17 @@ import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Products", description = "Manage products (create, update, delete, read)")
 @RequestMapping("/api/products")
@@ -78,12 +100,177 @@ public interface ProductControllerApi {
             final ProductToCreateDto productToCreateDto
     );
 
+    @Operation(
+            summary = "Create products in bulk",
+            description = "Creates up to 5000 products in one transaction. Names and article numbers are checked against the "
+                    + "database with a single set-based query and against each other within the batch; rejected items are "
+                    + "reported per index while the remaining items are inserted with JDBC batching and published as events after commit."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK (per-item results)",
+                    content = @Content(schema = @Schema(implementation = ProductBulkResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Conflict (concurrent insert of a duplicate articleNumber or name)",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/bulk")
+    ResponseEntity<ProductBulkResult> createBulk(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProductBulkCreateDto.class),
+                            examples = @ExampleObject(
+                                    name = "CreateProductsInBulk",
+                                    value = """
+                        {
+                          "products": [
+                            {
+                              "name": "Cordless screwdriver",
+                              "articleNumber": "AS-1000",
+                              "description": "Compact cordless screwdriver with 2 gears",
+                              "category": "OFFICE",
+                              "unit": "PIECE",
+                              "price": 79.90
+                            }
+                          ]
+                        }
+                        """
+                            )
+                    )
+            )
+            final ProductBulkCreateDto productBulkCreateDto
+    );
+
+    @Operation(
+            summary = "Upsert products in bulk by article number",
+            description = "Inserts or updates up to 5000 products keyed on `articleNumber` with a single "
+                    + "`INSERT ... ON CONFLICT (article_number) DO UPDATE` statement. Rows whose values did not change are "
+                    + "reported as `UNCHANGED` and produce neither history entries nor events."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK (per-item results)",
+                    content = @Content(schema = @Schema(implementation = ProductBulkResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Conflict (concurrent insert of a duplicate name)",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PutMapping("/bulk")
+    ResponseEntity<ProductBulkResult> upsertBulk(@Valid @RequestBody final ProductBulkCreateDto productBulkUpsertDto);
+
+    @Operation(
+            summary = "Apply a batch of create, update and delete operations atomically",
+            description = "Applies up to 1000 ordered operations in one transaction. Uniqueness of names and article numbers "
+                    + "is checked against the state after the whole batch, so two products can swap article numbers or a "
+                    + "product can be replaced by a new one with the same name. Deletes run first, then updates, then creates. "
+                    + "If any operation is invalid nothing is applied. Events are published after commit."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK (all operations applied)",
+                    content = @Content(schema = @Schema(implementation = ProductBulkResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error; `errors` lists the messages per operation index",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Conflict (concurrent change of a name or article number)",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/batch")
+    ResponseEntity<ProductBulkResult> applyBatch(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProductBatchDto.class),
+                            examples = @ExampleObject(
+                                    name = "SwapArticleNumbers",
+                                    value = """
+                        {
+                          "operations": [
+                            {
+                              "operation": "UPDATE",
+                              "id": "1a2b3c4d-0000-0000-0000-000000000001",
+                              "product": {
+                                "name": "Cordless screwdriver",
+                                "articleNumber": "AS-2000",
+                                "category": "OFFICE",
+                                "unit": "PIECE",
+                                "price": 79.90
+                              }
+                            },
+                            {
+                              "operation": "UPDATE",
+                              "id": "1a2b3c4d-0000-0000-0000-000000000002",
+                              "product": {
+                                "name": "Cordless drill",
+                                "articleNumber": "AS-1000",
+                                "category": "OFFICE",
+                                "unit": "PIECE",
+                                "price": 99.90
+                              }
+                            },
+                            {
+                              "operation": "DELETE",
+                              "id": "1a2b3c4d-0000-0000-0000-000000000003"
+                            }
+                          ]
+                        }
+                        """
+                            )
+                    )
+            )
+            final ProductBatchDto productBatchDto
+    );
+
     @Operation(
             summary = "Update product",
-            description = "Updates an existing product by ID contained in the request body and publishes a domain event."
+            description = "Updates an existing product by ID contained in the request body and publishes a domain event. "
+                    + "If the request matches the stored product, nothing is written, no history entry or event is produced "
+                    + "and the response carries `X-Product-Unchanged: true`. Send the product `ETag` as `If-Match` to reject the "
+                    + "update with `412` when the product was changed in the meantime."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "No Content (updated)"),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Updated product, or the current product if nothing changed",
+                    headers = {
+                            @Header(name = "ETag", description = "Strong validator of the product version"),
+                            @Header(name = "X-Product-Unchanged", description = "Present with value `true` when the update was a no-op")
+                    }
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Validation error",
@@ -102,6 +289,12 @@ public interface ProductControllerApi {
                     content = @Content(mediaType = "application/problem+json",
                             schema = @Schema(implementation = ProblemDetail.class))
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current product version",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Server error",
@@ -133,10 +326,71 @@ public interface ProductControllerApi {
                             )
                     )
             )
-            final ProductToUpdateDto productToUpdateDto
+            final ProductToUpdateDto productToUpdateDto,
+            final @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @Operation(
+            summary = "Patch product",
+            description = "Applies a JSON Merge Patch (RFC 7396) to the product. Only the supplied fields are changed; "
+                    + "`null` clears `description`. Uniqueness is checked only for a changed name or article number, only changed "
+                    + "columns are written, and the history entry and event list the changed fields. "
+                    + "A patch that changes nothing responds with `X-Product-Unchanged: true`. `If-Match` is enforced as for PUT."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Patched product, or the current product if nothing changed",
+                    headers = {
+                            @Header(name = "ETag", description = "Strong validator of the product version"),
+                            @Header(name = "X-Product-Unchanged", description = "Present with value `true` when the patch was a no-op")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Patch is not an object, targets an unknown or read-only field, or yields an invalid product",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product not found",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current product version",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    ResponseEntity<Product> patch(
+            final @PathVariable String id,
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(mediaType = "application/merge-patch+json",
+                            examples = @ExampleObject(
+                                    name = "PatchPrice",
+                                    value = """
+                        {
+                          "price": 24.90
+                        }
+                        """
+                            )
+                    )
+            )
+            final JsonNode mergePatch,
+            final @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
-    @Operation(summary = "Delete product", description = "Deletes a product and publishes a deletion event.")
+    @Operation(
+            summary = "Delete product",
+            description = "Deletes a product and publishes a deletion event. With `If-Match` the delete is rejected with `412` "
+                    + "unless the product still has the given `ETag`."
+    )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "No Content (deleted)"),
             @ApiResponse(
@@ -145,6 +399,12 @@ public interface ProductControllerApi {
                     content = @Content(mediaType = "application/problem+json",
                             schema = @Schema(implementation = ProblemDetail.class))
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current product version",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Server error",
@@ -153,15 +413,63 @@ public interface ProductControllerApi {
             )
     })
     @DeleteMapping("/{id}")
-    ResponseEntity<Void> delete(final @PathVariable String id);
+    ResponseEntity<Void> delete(
+            final @PathVariable String id,
+            final @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
-    @Operation(summary = "Get product by ID")
+    @Operation(
+            summary = "Delete products in bulk",
+            description = "Deletes either the given `ids` (up to 5000) or products matching a `category` and/or `unit` filter "
+                    + "with a set-based `DELETE ... RETURNING`. Filter deletes remove at most 5000 products per call; "
+                    + "`hasMore` signals that the cap was reached. With `dryRun=true` only the matching products are counted."
+    )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductBulkDeleteResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Neither or both of ids and filter given",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/bulk-delete")
+    ResponseEntity<ProductBulkDeleteResult> deleteBulk(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProductBulkDeleteDto.class),
+                            examples = @ExampleObject(
+                                    name = "DeleteSeasonalToys",
+                                    value = """
+                        {
+                          "category": "TOYS"
+                        }
+                        """
+                            )
+                    )
+            )
+            final ProductBulkDeleteDto productBulkDeleteDto,
+            final @RequestParam(name = "dryRun", defaultValue = "false") boolean dryRun
+    );
+
+    @Operation(
+            summary = "Get product by ID",
+            description = "Returns a strong `ETag`. Send it back as `If-None-Match` to get `304 Not Modified` while the product is unchanged."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    headers = @Header(name = "ETag", description = "Strong validator of the returned product state"),
                     content = @Content(schema = @Schema(implementation = Product.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Not Modified"),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product not found",
@@ -170,19 +478,260 @@ public interface ProductControllerApi {
             )
     })
     @GetMapping("/{id}")
-    ResponseEntity<Product> getById(final @PathVariable String id);
+    ResponseEntity<Product> getById(
+            final @PathVariable String id,
+            final @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @Operation(
+            summary = "Get product by article number",
+            description = "Resolves the article number to the product ID through the covering index "
+                    + "`idx_products_article_number_id (article_number, id)` (index-only scan) and serves both steps from local caches."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = Product.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product not found",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping("/by-article/{articleNumber}")
+    ResponseEntity<Product> getByArticleNumber(final @PathVariable String articleNumber);
+
+    @Operation(
+            summary = "Get product by ID (sparse fieldset)",
+            description = "Returns only the requested comma-separated `fields` (e.g. `fields=name,articleNumber,price`); `id` is always included."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product not found",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    ResponseEntity<Map<String, Object>> getByIdProjected(
+            final @PathVariable String id,
+            final @RequestParam(name = "fields") String fields
+    );
+
+    @Operation(
+            summary = "Get products by ID list",
+            description = "Resolves up to 500 IDs at once: cached products are served from the local cache, "
+                    + "the rest are loaded with a single query. Unknown IDs are returned in `missingIds`."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductBatchResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping("/batch-get")
+    ResponseEntity<ProductBatchResult<Product>> getByIds(
+            @Valid
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ProductBatchGetDto.class),
+                            examples = @ExampleObject(
+                                    name = "BatchGetProducts",
+                                    value = """
+                        {
+                          "ids": ["existing-id-1", "existing-id-2"]
+                        }
+                        """
+                            )
+                    )
+            )
+            final ProductBatchGetDto productBatchGetDto
+    );
+
+    @Operation(
+            summary = "Get products by ID list (sparse fieldset)",
+            description = "Same as batch-get but returns only the requested comma-separated `fields`; `id` is always included."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductBatchResult.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation error or unknown field",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping(value = "/batch-get", params = "fields")
+    ResponseEntity<ProductBatchResult<Map<String, Object>>> getByIdsProjected(
+            @Valid @RequestBody final ProductBatchGetDto productBatchGetDto,
+            final @RequestParam(name = "fields") String fields
+    );
 
     @Operation(
             summary = "List products (paged)",
-            description = "Supports paging & sorting via query params: `page` (0..N), `size`, `sort=field,asc|desc`."
+            description = "Supports paging & sorting via query params: `page` (0..N), `size`, `sort=field,asc|desc`. "
+                    + "Returns an `ETag` derived from the catalog version; send it back as `If-None-Match` to get "
+                    + "`304 Not Modified` until the next product change."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "OK",
+                    headers = @Header(name = "ETag", description = "Validator of the catalog version and the requested page"),
                     content = @Content(schema = @Schema(implementation = Page.class))
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "Not Modified")
     })
     @GetMapping
-    ResponseEntity<Page<Product>> getAll(final @ParameterObject Pageable pageable);
-}
\ No newline at end of file
+    ResponseEntity<Page<Product>> getAll(
+            final @ParameterObject Pageable pageable,
+            final @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @Operation(
+            summary = "List products (paged, sparse fieldset)",
+            description = "Same as the paged listing but selects and returns only the requested comma-separated `fields`; `id` is always included."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping(params = "fields")
+    ResponseEntity<Page<Map<String, Object>>> getAllProjected(
+            final @ParameterObject Pageable pageable,
+            final @RequestParam(name = "fields") String fields
+    );
+
+    @Operation(
+            summary = "List products (slice)",
+            description = "Paged listing without a count query: reads `size + 1` rows to determine `hasNext`. "
+                    + "`total=APPROXIMATE` adds the row estimate from Postgres table statistics, `total=EXACT` runs a COUNT."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductSlicePage.class))
+            )
+    })
+    @GetMapping("/slice")
+    ResponseEntity<ProductSlicePage> getSlice(
+            final @ParameterObject Pageable pageable,
+            final @RequestParam(name = "total", defaultValue = "NONE") ProductTotalMode totalMode
+    );
+
+    @Operation(
+            summary = "List products (cursor)",
+            description = "Keyset pagination: pass `nextCursor` from the previous response as `cursor` to fetch the following page. "
+                    + "`sortBy` (NAME, ARTICLE_NUMBER, UPDATED_AT, CREATED_AT) and `direction` (ASC, DESC) must stay the same "
+                    + "for every page of one listing. No total count is computed."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductCursorPage.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort or size",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @GetMapping("/cursor")
+    ResponseEntity<ProductCursorPage> getAllByCursor(
+            final @RequestParam(name = "sortBy", defaultValue = "NAME") ProductSortKey sortKey,
+            final @RequestParam(name = "direction", defaultValue = "ASC") Sort.Direction direction,
+            final @RequestParam(name = "size", defaultValue = "20") int size,
+            final @RequestParam(name = "cursor", required = false) String cursor
+    );
+
+    @Operation(
+            summary = "Export all products (NDJSON)",
+            description = "Streams the full catalog as newline-delimited JSON, one product per line. "
+                    + "The response is gzip-compressed when the client sends `Accept-Encoding: gzip`."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Product.class))
+            )
+    })
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> export(
+            final @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    );
+
+    @Operation(
+            summary = "Import products (CSV or NDJSON)",
+            description = "Streams the request body into the catalog in chunks. Each chunk is loaded with PostgreSQL `COPY` into a "
+                    + "transaction-local staging table and merged with one set-based insert. CSV input needs a header line with "
+                    + "`name`, `articleNumber`, `category`, `unit`, `price` and optionally `description`. Invalid lines, duplicates "
+                    + "within the file and products whose name or article number already exist are reported as rejects. "
+                    + "The body may be gzip-compressed (`Content-Encoding: gzip`)."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(schema = @Schema(implementation = ProductImportReport.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported content type or CSV header without required columns",
+                    content = @Content(mediaType = "application/problem+json",
+                            schema = @Schema(implementation = ProblemDetail.class))
+            )
+    })
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    ResponseEntity<ProductImportReport> importProducts(
+            final @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            final @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            final InputStream body
+    ) throws IOException;
+
+    @Operation(summary = "List running imports", description = "Returns the progress of all imports currently running on this instance.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "OK",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductImportReport.class)))
+            )
+    })
+    @GetMapping("/imports")
+    ResponseEntity<List<ProductImportReport>> getRunningImports();
+}
@@ -2,6 +2,7 @@ package de.resume.inventory.management.system.productservice.controller.advices;
 
 import de.resume.inventory.management.system.productservice.controller.ProductController;
 import de.resume.inventory.management.system.productservice.exceptions.ProductNotFoundException;
+import de.resume.inventory.management.system.productservice.exceptions.ProductPreconditionFailedException;
 import de.resume.inventory.management.system.productservice.services.advices.ProblemDetailService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,14 @@ public class ProductGenericAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler(ProductPreconditionFailedException.class)
+    public ProblemDetail handleProductPreconditionFailed(
+            final ProductPreconditionFailedException exception, final HttpServletRequest httpServletRequest) {
+        final ProblemDetail problemDetail = problemDetailService.buildPreconditionFailed(exception.getMessage());
+        problemDetailService.attachInstance(problemDetail, httpServletRequest);
+        return problemDetail;
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ProblemDetail handleIllegalArgument(
             final IllegalArgumentException exception, final HttpServletRequest httpServletRequest) {
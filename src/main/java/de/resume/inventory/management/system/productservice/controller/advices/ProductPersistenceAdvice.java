@@ -2,11 +2,13 @@ package de.resume.inventory.management.system.productservice.controller.advices;
 
 import de.resume.inventory.management.system.productservice.controller.ProductController;
 import de.resume.inventory.management.system.productservice.services.advices.ProblemDetailService;
+import de.resume.inventory.management.system.productservice.services.validation.ProductValidationService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ProblemDetail;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -16,10 +18,21 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 public class ProductPersistenceAdvice {
 
     private final ProblemDetailService problemDetailService;
+    private final ProductValidationService productValidationService;
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ProblemDetail handleDataIntegrityViolation(final DataIntegrityViolationException exception, final HttpServletRequest httpServletRequest) {
-        final ProblemDetail problemDetail = problemDetailService.buildDataIntegrityViolation(exception);
+        final ProblemDetail problemDetail = problemDetailService.buildDataIntegrityViolation(exception,
+                productValidationService.resolveViolatedUniqueField(exception).orElse(null));
+        problemDetailService.attachInstance(problemDetail, httpServletRequest);
+        return problemDetail;
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailure(final ObjectOptimisticLockingFailureException exception,
+                                                        final HttpServletRequest httpServletRequest) {
+        final ProblemDetail problemDetail = problemDetailService.buildPreconditionFailed(
+                "Product with id: '" + exception.getIdentifier() + "' was modified concurrently");
         problemDetailService.attachInstance(problemDetail, httpServletRequest);
         return problemDetail;
     }
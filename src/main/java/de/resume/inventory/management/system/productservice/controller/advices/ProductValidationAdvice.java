@@ -1,5 +1,6 @@
 package de.resume.inventory.management.system.productservice.services.advices;
 
+import de.resume.inventory.management.system.productservice.exceptions.ProductBatchValidationException;
 import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -46,6 +47,15 @@ public class ProductValidationAdvice {
         return problemDetail;
     }
 
+    @ExceptionHandler(ProductBatchValidationException.class)
+    public ProblemDetail handleProductBatchValidation(final ProductBatchValidationException exception,
+                                                      final HttpServletRequest httpServletRequest) {
+        final ProblemDetail problemDetail = problemDetailService.buildProductBatchValidation(exception.getMessage(),
+                exception.getValidationErrorsByIndex());
+        problemDetailService.attachInstance(problemDetail, httpServletRequest);
+        return problemDetail;
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ProblemDetail handleHttpMessageNotReadable(final HttpMessageNotReadableException exception,
                                                       final HttpServletRequest httpServletRequest) {
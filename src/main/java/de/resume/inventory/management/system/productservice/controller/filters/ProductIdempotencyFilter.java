@@ -0,0 +1,201 @@
+package de.resume.inventory.management.system.productservice.controller.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.config.ProductIdempotencyConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotencyClaim;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotentResponse;
+import de.resume.inventory.management.system.productservice.services.advices.ProblemDetailService;
+import de.resume.inventory.management.system.productservice.services.idempotency.ProductIdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String PRODUCTS_PATH = "/api/products";
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("POST", "PUT", "PATCH");
+    private static final Set<String> EXCLUDED_PATHS = Set.of(PRODUCTS_PATH + "/import", PRODUCTS_PATH + "/batch-get");
+    private static final Set<String> NOT_STORED_HEADERS = Set.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING);
+
+    private final ProductIdempotencyConfiguration productIdempotencyConfiguration;
+    private final ProductIdempotencyService productIdempotencyService;
+    private final ProblemDetailService problemDetailService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final String requestUri = request.getRequestURI();
+        return !productIdempotencyConfiguration.isEnabled()
+                || Objects.isNull(request.getHeader(IDEMPOTENCY_KEY_HEADER))
+                || !IDEMPOTENT_METHODS.contains(request.getMethod())
+                || !(requestUri.equals(PRODUCTS_PATH) || requestUri.startsWith(PRODUCTS_PATH + "/"))
+                || EXCLUDED_PATHS.contains(requestUri);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).strip();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > productIdempotencyConfiguration.getMaxKeyLength()) {
+            writeProblem(request, response, problemDetailService.buildBadRequest("Invalid Idempotency-Key header",
+                    "Idempotency-Key must be between 1 and " + productIdempotencyConfiguration.getMaxKeyLength() + " characters"));
+            return;
+        }
+
+        final byte[] requestBody = request.getInputStream().readAllBytes();
+        final String requestFingerprint = fingerprint(request, requestBody);
+        final ProductIdempotencyClaim idempotencyClaim = productIdempotencyService.claim(idempotencyKey, requestFingerprint);
+
+        switch (idempotencyClaim.status()) {
+            case ACQUIRED -> executeAndStore(new CachedBodyRequest(request, requestBody), response, filterChain,
+                    idempotencyKey, requestFingerprint);
+            case REPLAY -> replay(response, idempotencyClaim.response(), idempotencyKey);
+            case IN_PROGRESS -> writeProblem(request, response, problemDetailService.buildIdempotencyInProgress(
+                    "A request with Idempotency-Key '" + idempotencyKey + "' is still being processed"));
+            case FINGERPRINT_MISMATCH -> writeProblem(request, response, problemDetailService.buildIdempotencyKeyReused(
+                    "Idempotency-Key '" + idempotencyKey + "' was already used for a different request"));
+        }
+    }
+
+    private void executeAndStore(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain,
+                                 final String idempotencyKey, final String requestFingerprint) throws ServletException, IOException {
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                productIdempotencyService.complete(idempotencyKey, new ProductIdempotentResponse(requestFingerprint,
+                        responseWrapper.getStatus(), responseHeaders(responseWrapper), responseWrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                productIdempotencyService.release(idempotencyKey);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(final HttpServletResponse response, final ProductIdempotentResponse idempotentResponse,
+                        final String idempotencyKey) throws IOException {
+        log.info("Replaying stored response for Idempotency-Key. key={}, status={}", idempotencyKey, idempotentResponse.status());
+        response.setStatus(idempotentResponse.status());
+        idempotentResponse.headers().forEach((headerName, headerValues) ->
+                headerValues.forEach(headerValue -> response.addHeader(headerName, headerValue)));
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.setContentLength(idempotentResponse.body().length);
+        response.getOutputStream().write(idempotentResponse.body());
+    }
+
+    private void writeProblem(final HttpServletRequest request, final HttpServletResponse response,
+                              final ProblemDetail problemDetail) throws IOException {
+        problemDetailService.attachInstance(problemDetail, request);
+        response.setStatus(problemDetail.getStatus());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private Map<String, List<String>> responseHeaders(final ContentCachingResponseWrapper responseWrapper) {
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+        responseWrapper.getHeaderNames().stream()
+                .filter(headerName -> NOT_STORED_HEADERS.stream().noneMatch(headerName::equalsIgnoreCase))
+                .forEach(headerName -> headers.put(headerName, List.copyOf(responseWrapper.getHeaders(headerName))));
+        if (Objects.nonNull(responseWrapper.getContentType())) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(responseWrapper.getContentType()));
+        }
+        return headers;
+    }
+
+    private String fingerprint(final HttpServletRequest request, final byte[] requestBody) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update((request.getMethod() + " " + request.getRequestURI() + "?" + Objects.toString(request.getQueryString(), "") + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(requestBody);
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 not available", exception);
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream bodyStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return bodyStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported for idempotent requests");
+                }
+
+                @Override
+                public int read() {
+                    return bodyStream.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return bodyStream.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final Charset charset = Charset.forName(Objects.requireNonNullElse(getCharacterEncoding(), StandardCharsets.UTF_8.name()));
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package de.resume.inventory.management.system.productservice.exceptions;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProductBatchValidationException extends RuntimeException {
+
+    private final Map<Integer, List<String>> validationErrorsByIndex;
+
+    public ProductBatchValidationException(final Map<Integer, List<String>> validationErrorsByIndex) {
+        super("Product batch rejected: " + validationErrorsByIndex.size() + " invalid operation(s)");
+        this.validationErrorsByIndex = validationErrorsByIndex;
+    }
+
+    public Map<Integer, List<String>> getValidationErrorsByIndex() {
+        return validationErrorsByIndex;
+    }
+}
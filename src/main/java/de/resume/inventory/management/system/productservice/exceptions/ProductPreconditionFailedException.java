@@ -0,0 +1,7 @@
+package de.resume.inventory.management.system.productservice.exceptions;
+
+public class ProductPreconditionFailedException extends RuntimeException {
+    public ProductPreconditionFailedException(final String message) {
+        super(message);
+    }
+}
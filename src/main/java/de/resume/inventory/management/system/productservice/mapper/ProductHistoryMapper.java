@@ -19,5 +19,6 @@ public interface ProductHistoryMapper {
     @Mapping(source = "product.price",         target = "price")
     @Mapping(source = "productAction",         target = "action")
     @Mapping(source = "changedBy",             target = "changedBy")
+    @Mapping(target = "changedFields", ignore = true)
     ProductHistoryEntity toEntity(final ProductEntity product, final ProductAction productAction, final String changedBy);
 }
\ No newline at end of file
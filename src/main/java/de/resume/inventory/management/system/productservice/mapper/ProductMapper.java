@@ -8,6 +8,9 @@ import de.resume.inventory.management.system.productservice.models.enums.Product
 import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
@@ -23,13 +26,34 @@ public interface ProductMapper {
     @Mapping(target = "price", source = "price")
     ProductEntity toEntity(final ProductToUpdateDto toUpdateDto);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(final ProductToCreateDto productToCreateDto, @MappingTarget final ProductEntity productEntity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(final ProductToUpdateDto productToUpdateDto, @MappingTarget final ProductEntity productEntity);
+
     @Mapping(target = "timestamp", source = "productEntity.updatedAt")
     @Mapping(target = "productAction", source = "productAction")
+    @Mapping(target = "changedFields", ignore = true)
     ProductUpsertedEvent toEvent(final ProductEntity productEntity, final ProductAction productAction, final String tenantId);
 
+    @Mapping(target = "timestamp", source = "productEntity.updatedAt")
+    @Mapping(target = "productAction", source = "productAction")
+    @Mapping(target = "changedFields", source = "changedFields")
+    ProductUpsertedEvent toEvent(final ProductEntity productEntity, final ProductAction productAction, final String tenantId,
+                                 final List<String> changedFields);
+
     ProductToUpdateDto toUpdateDto(final ProductEntity productEntity);
 
     ProductToCreateDto toCreateDto(final ProductEntity productEntity);
 
+    ProductToCreateDto toCreateDto(final ProductToUpdateDto productToUpdateDto);
+
     Product toDomain(final ProductEntity productEntity);
 }
@@ -42,5 +42,8 @@ public record Product(
 
         @Column(name = "tenant_id")
         @NotBlank(message = "tenant id must not be blank")
-        String tenantId
+        String tenantId,
+
+        @JsonProperty("version")
+        Long version
 ) {}
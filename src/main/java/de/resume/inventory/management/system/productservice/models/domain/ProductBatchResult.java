@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ProductBatchResult<T>(
+
+        @JsonProperty("products")
+        List<T> products,
+
+        @JsonProperty("missingIds")
+        List<String> missingIds
+) {}
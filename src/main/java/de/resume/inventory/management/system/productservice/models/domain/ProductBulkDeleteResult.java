@@ -0,0 +1,20 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ProductBulkDeleteResult(
+
+        @JsonProperty("dryRun")
+        boolean dryRun,
+
+        @JsonProperty("count")
+        long count,
+
+        @JsonProperty("hasMore")
+        boolean hasMore,
+
+        @JsonProperty("deletedIds")
+        List<String> deletedIds
+) {}
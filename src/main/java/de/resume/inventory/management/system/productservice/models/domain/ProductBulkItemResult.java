@@ -0,0 +1,24 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBulkItemStatus;
+
+import java.util.List;
+
+public record ProductBulkItemResult(
+
+        @JsonProperty("index")
+        int index,
+
+        @JsonProperty("status")
+        ProductBulkItemStatus status,
+
+        @JsonProperty("id")
+        String id,
+
+        @JsonProperty("articleNumber")
+        String articleNumber,
+
+        @JsonProperty("errors")
+        List<String> errors
+) {}
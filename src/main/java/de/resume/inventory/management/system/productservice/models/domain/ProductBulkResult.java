@@ -0,0 +1,17 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ProductBulkResult(
+
+        @JsonProperty("succeeded")
+        int succeeded,
+
+        @JsonProperty("rejected")
+        int rejected,
+
+        @JsonProperty("items")
+        List<ProductBulkItemResult> items
+) {}
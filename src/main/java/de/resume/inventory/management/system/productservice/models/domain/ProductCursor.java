@@ -0,0 +1,20 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import org.springframework.data.domain.Sort;
+
+public record ProductCursor(
+
+        @JsonProperty("sortKey")
+        ProductSortKey sortKey,
+
+        @JsonProperty("direction")
+        Sort.Direction direction,
+
+        @JsonProperty("value")
+        String value,
+
+        @JsonProperty("id")
+        String id
+) {}
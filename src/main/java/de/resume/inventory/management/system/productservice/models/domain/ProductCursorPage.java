@@ -0,0 +1,20 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ProductCursorPage(
+
+        @JsonProperty("content")
+        List<Product> content,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("hasNext")
+        boolean hasNext,
+
+        @JsonProperty("nextCursor")
+        String nextCursor
+) {}
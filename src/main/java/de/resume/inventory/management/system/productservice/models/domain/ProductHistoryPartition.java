@@ -0,0 +1,5 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import java.time.LocalDate;
+
+public record ProductHistoryPartition(String name, LocalDate lowerBound, LocalDate upperBound, boolean defaultPartition) {}
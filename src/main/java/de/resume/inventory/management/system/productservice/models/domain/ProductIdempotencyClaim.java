@@ -0,0 +1,17 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyClaimStatus;
+
+public record ProductIdempotencyClaim(
+        ProductIdempotencyClaimStatus status,
+        ProductIdempotentResponse response
+) {
+
+    public static ProductIdempotencyClaim of(final ProductIdempotencyClaimStatus status) {
+        return new ProductIdempotencyClaim(status, null);
+    }
+
+    public static ProductIdempotencyClaim replay(final ProductIdempotentResponse response) {
+        return new ProductIdempotencyClaim(ProductIdempotencyClaimStatus.REPLAY, response);
+    }
+}
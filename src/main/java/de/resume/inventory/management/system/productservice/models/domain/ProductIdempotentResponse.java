@@ -0,0 +1,11 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public record ProductIdempotentResponse(
+        String requestFingerprint,
+        int status,
+        Map<String, List<String>> headers,
+        byte[] body
+) { }
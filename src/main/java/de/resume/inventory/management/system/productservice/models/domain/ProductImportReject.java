@@ -0,0 +1,12 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ProductImportReject(
+
+        @JsonProperty("lineNumber")
+        long lineNumber,
+
+        @JsonProperty("reason")
+        String reason
+) {}
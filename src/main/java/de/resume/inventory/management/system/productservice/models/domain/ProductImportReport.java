@@ -0,0 +1,38 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ProductImportReport(
+
+        @JsonProperty("importId")
+        String importId,
+
+        @JsonProperty("format")
+        ProductImportFormat format,
+
+        @JsonProperty("status")
+        ProductImportStatus status,
+
+        @JsonProperty("startedAt")
+        LocalDateTime startedAt,
+
+        @JsonProperty("durationMs")
+        long durationMs,
+
+        @JsonProperty("linesRead")
+        long linesRead,
+
+        @JsonProperty("imported")
+        long imported,
+
+        @JsonProperty("rejected")
+        long rejected,
+
+        @JsonProperty("rejects")
+        List<ProductImportReject> rejects
+) {}
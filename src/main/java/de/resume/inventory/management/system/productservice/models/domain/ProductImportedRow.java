@@ -0,0 +1,5 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+
+public record ProductImportedRow(long lineNumber, ProductEntity product) {}
@@ -0,0 +1,27 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
+
+import java.util.List;
+
+public record ProductSlicePage(
+
+        @JsonProperty("content")
+        List<Product> content,
+
+        @JsonProperty("page")
+        int page,
+
+        @JsonProperty("size")
+        int size,
+
+        @JsonProperty("hasNext")
+        boolean hasNext,
+
+        @JsonProperty("totalMode")
+        ProductTotalMode totalMode,
+
+        @JsonProperty("totalElements")
+        Long totalElements
+) {}
@@ -0,0 +1,3 @@
+package de.resume.inventory.management.system.productservice.models.domain;
+
+public record ProductUpdateResult(Product product, boolean changed) {}
@@ -0,0 +1,15 @@
+package de.resume.inventory.management.system.productservice.models.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ProductBatchDto(
+
+        @NotEmpty(message = "operations must not be empty")
+        @Size(max = 1000, message = "operations must not contain more than 1000 entries")
+        List<@Valid @NotNull(message = "operation must not be null") ProductBatchOperationDto> operations
+) {}
@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.models.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ProductBatchGetDto(
+
+        @NotEmpty(message = "ids must not be empty")
+        @Size(max = 500, message = "ids must not contain more than 500 entries")
+        List<@NotBlank(message = "id must not be blank") String> ids
+) {}
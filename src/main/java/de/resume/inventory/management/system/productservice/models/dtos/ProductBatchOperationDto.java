@@ -0,0 +1,16 @@
+package de.resume.inventory.management.system.productservice.models.dtos;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductBatchOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record ProductBatchOperationDto(
+
+        @NotNull(message = "operation must not be null")
+        ProductBatchOperationType operation,
+
+        String id,
+
+        @Valid
+        ProductToCreateDto product
+) {}
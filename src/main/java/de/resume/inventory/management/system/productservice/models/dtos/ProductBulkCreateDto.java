@@ -0,0 +1,15 @@
+package de.resume.inventory.management.system.productservice.models.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ProductBulkCreateDto(
+
+        @NotEmpty(message = "products must not be empty")
+        @Size(max = 5000, message = "products must not contain more than 5000 entries")
+        List<@Valid @NotNull(message = "product must not be null") ProductToCreateDto> products
+) {}
@@ -0,0 +1,18 @@
+package de.resume.inventory.management.system.productservice.models.dtos;
+
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ProductBulkDeleteDto(
+
+        @Size(max = 5000, message = "ids must not contain more than 5000 entries")
+        List<@NotBlank(message = "id must not be blank") String> ids,
+
+        Category category,
+
+        Unit unit
+) {}
@@ -3,14 +3,15 @@ package de.resume.inventory.management.system.productservice.models.entities;
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
 import lombok.Data;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 @Data
@@ -23,7 +24,6 @@ public class BaseEntity implements Serializable {
     private String id;
 
     @DateTimeFormat(pattern = "yyyy-MM-dd")
-    @CreationTimestamp
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
 
@@ -31,4 +31,11 @@ public class BaseEntity implements Serializable {
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    void initializeCreatedAt() {
+        if (Objects.isNull(createdAt)) {
+            createdAt = LocalDateTime.now();
+        }
+    }
 }
@@ -9,24 +9,36 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "products")
+@DynamicUpdate
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_article_number_id", columnList = "article_number, id"),
+        @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = ProductEntity.NAME_UNIQUE_CONSTRAINT, columnNames = "name"),
+        @UniqueConstraint(name = ProductEntity.ARTICLE_NUMBER_UNIQUE_CONSTRAINT, columnNames = "article_number")
+})
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class ProductEntity extends BaseEntity {
 
-    @Column(name = "name", unique = true, nullable = false, length = 30)
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_products_name";
+    public static final String ARTICLE_NUMBER_UNIQUE_CONSTRAINT = "uk_products_article_number";
+
+    @Column(name = "name", nullable = false, length = 30)
     @NotBlank(message = "product name must not be blank")
     @Size(min = 2, max = 30, message = "product name must be between 2 and 30 characters")
     private String name;
 
-    @Column(name = "article_number", unique = true, nullable = false, length = 20)
+    @Column(name = "article_number", nullable = false, length = 20)
     @NotBlank(message = "article number must not be blank")
     @Size(min = 2, max = 20, message = "article number must be between 2 and 20 characters")
     private String articleNumber;
@@ -51,6 +63,20 @@ public class ProductEntity extends BaseEntity {
     @Digits(integer = 10, fraction = 2, message = "price must be a valid amount with max 2 decimals")
     private BigDecimal price;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    public ProductEntity(final String name, final String articleNumber, final String description, final Category category,
+                         final Unit unit, final BigDecimal price) {
+        this.name = name;
+        this.articleNumber = articleNumber;
+        this.description = description;
+        this.category = category;
+        this.unit = unit;
+        this.price = price;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return super.getUpdatedAt();
     }
@@ -62,4 +62,7 @@ public class ProductHistoryEntity extends BaseEntity {
     @Column(name = "changedBy", nullable = false)
     @NotBlank(message = "changed by must not be blank")
     private String changedBy;
+
+    @Column(name = "changed_fields")
+    private String changedFields;
 }
@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductBatchOperationType {
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String operation;
+}
@@ -0,0 +1,9 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+public enum ProductBulkItemStatus {
+    CREATED,
+    UPDATED,
+    UNCHANGED,
+    DELETED,
+    REJECTED
+}
@@ -0,0 +1,44 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductField {
+
+    ID("id", Product::id),
+    NAME("name", Product::name),
+    ARTICLE_NUMBER("articleNumber", Product::articleNumber),
+    DESCRIPTION("description", Product::description),
+    CATEGORY("category", Product::category),
+    UNIT("unit", Product::unit),
+    PRICE("price", Product::price),
+    CREATED_AT("createdAt", Product::createdAt),
+    UPDATED_AT("updatedAt", Product::updatedAt);
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final String fieldName;
+    private final Function<Product, Object> productValueExtractor;
+
+    public Object extractValue(final Product product) {
+        return toJsonValue(productValueExtractor.apply(product));
+    }
+
+    public Object toJsonValue(final Object value) {
+        if (value instanceof final BigDecimal decimalValue) {
+            return decimalValue.doubleValue();
+        }
+        if (value instanceof final LocalDateTime dateTimeValue) {
+            return DATE_FORMATTER.format(dateTimeValue);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,7 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+public enum ProductHistoryWriteMode {
+    SYNCHRONOUS,
+    ASYNC,
+    FUSED
+}
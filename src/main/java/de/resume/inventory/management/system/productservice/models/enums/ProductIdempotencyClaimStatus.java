@@ -0,0 +1,8 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+public enum ProductIdempotencyClaimStatus {
+    ACQUIRED,
+    REPLAY,
+    IN_PROGRESS,
+    FINGERPRINT_MISMATCH
+}
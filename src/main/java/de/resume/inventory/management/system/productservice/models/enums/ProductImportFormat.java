@@ -0,0 +1,28 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    public static ProductImportFormat fromContentType(final String contentType) {
+        if (Objects.isNull(contentType) || contentType.isBlank()) {
+            throw new IllegalArgumentException("Content-Type must be one of text/csv or application/x-ndjson");
+        }
+        final MediaType requestedMediaType = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(importFormat -> MediaType.parseMediaType(importFormat.getMediaType()).equalsTypeAndSubtype(requestedMediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format: " + contentType));
+    }
+}
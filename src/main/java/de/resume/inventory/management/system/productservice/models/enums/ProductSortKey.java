@@ -0,0 +1,30 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductSortKey {
+
+    NAME("name", ProductEntity::getName, value -> value),
+    ARTICLE_NUMBER("articleNumber", ProductEntity::getArticleNumber, value -> value),
+    UPDATED_AT("updatedAt", productEntity -> productEntity.getUpdatedAt().toString(), LocalDateTime::parse),
+    CREATED_AT("createdAt", productEntity -> productEntity.getCreatedAt().toString(), LocalDateTime::parse);
+
+    private final String attributeName;
+    private final Function<ProductEntity, String> valueExtractor;
+    private final Function<String, Comparable<?>> valueParser;
+
+    public String extractValue(final ProductEntity productEntity) {
+        return valueExtractor.apply(productEntity);
+    }
+
+    public Comparable<?> parseValue(final String value) {
+        return valueParser.apply(value);
+    }
+}
@@ -0,0 +1,6 @@
+package de.resume.inventory.management.system.productservice.models.enums;
+
+public enum ProductUniquenessMode {
+    PRE_CHECK,
+    CONSTRAINT
+}
@@ -0,0 +1,9 @@
+package de.resume.inventory.management.system.productservice.models.events;
+
+public final class ProductEventHeaders {
+
+    public static final String ORIGIN_INSTANCE = "origin-instance";
+    public static final String ORIGIN_INSTANCE_CONFIG = "product.origin-instance";
+
+    private ProductEventHeaders() { }
+}
@@ -0,0 +1,22 @@
+package de.resume.inventory.management.system.productservice.models.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProductInvalidationMessage(
+
+        @JsonProperty("id")
+        String id,
+
+        @JsonProperty("name")
+        String name,
+
+        @JsonProperty("articleNumber")
+        String articleNumber
+) {
+
+    public ProductInvalidationMessage(final String id) {
+        this(id, null, null);
+    }
+}
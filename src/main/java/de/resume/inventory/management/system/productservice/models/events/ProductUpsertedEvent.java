@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public record ProductUpsertedEvent(
 
@@ -37,5 +38,18 @@ public record ProductUpsertedEvent(
         ProductAction productAction,
 
         @JsonProperty("tenantId")
-        String tenantId
-) { }
+        String tenantId,
+
+        @JsonProperty("changedFields")
+        List<String> changedFields,
+
+        @JsonProperty("version")
+        Long version
+) {
+
+    public ProductUpsertedEvent(final String id, final String name, final String articleNumber, final String category,
+                                final String unit, final double price, final String description, final LocalDateTime timestamp,
+                                final ProductAction productAction, final String tenantId) {
+        this(id, name, articleNumber, category, unit, price, description, timestamp, productAction, tenantId, null, null);
+    }
+}
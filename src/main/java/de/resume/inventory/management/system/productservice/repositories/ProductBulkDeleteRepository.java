@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductBulkDeleteRepository {
+    List<ProductEntity> deleteAllByIdsReturning(final Collection<String> ids);
+    List<ProductEntity> deleteByFilterReturning(final Category category, final Unit unit, final int limit);
+    long countByFilter(final Category category, final Unit unit);
+}
@@ -0,0 +1,68 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+class ProductBulkDeleteRepositoryImpl implements ProductBulkDeleteRepository {
+
+    private static final String PRODUCT_RETURNING_COLUMNS =
+            " returning p.id, p.name, p.article_number, p.description, p.category, p.unit, p.price, p.created_at, p.updated_at, p.version";
+
+    private static final String DELETE_BY_IDS_SQL =
+            "delete from {h-schema}products p where p.id = any(cast(:ids as varchar[]))" + PRODUCT_RETURNING_COLUMNS;
+
+    private static final String DELETE_BY_FILTER_SQL = """
+            delete from {h-schema}products p
+             where p.id in (select f.id from {h-schema}products f
+                             where (cast(:category as varchar) is null or f.category = cast(:category as varchar))
+                               and (cast(:unit as varchar) is null or f.unit = cast(:unit as varchar))
+                             limit :limit)
+            """ + PRODUCT_RETURNING_COLUMNS;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductEntity> deleteAllByIdsReturning(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                entityManager.createNativeQuery(DELETE_BY_IDS_SQL).unwrap(NativeQuery.class));
+        query.setParameter("ids", ids.toArray(String[]::new));
+        return query.getResultList().stream()
+                .map(ProductNativeRows::toProductEntity)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductEntity> deleteByFilterReturning(final Category category, final Unit unit, final int limit) {
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                entityManager.createNativeQuery(DELETE_BY_FILTER_SQL).unwrap(NativeQuery.class));
+        query.setParameter("category", Objects.toString(category, null));
+        query.setParameter("unit", Objects.toString(unit, null));
+        query.setParameter("limit", limit);
+        return query.getResultList().stream()
+                .map(ProductNativeRows::toProductEntity)
+                .toList();
+    }
+
+    @Override
+    public long countByFilter(final Category category, final Unit unit) {
+        return entityManager.createQuery("select count(p) from ProductEntity p "
+                        + "where (:category is null or p.category = :category) and (:unit is null or p.unit = :unit)", Long.class)
+                .setParameter("category", category)
+                .setParameter("unit", unit)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,7 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+public interface ProductCatalogVersionRepository {
+    void createCatalogVersionSequence();
+    long findCatalogVersion();
+    long nextCatalogVersion();
+}
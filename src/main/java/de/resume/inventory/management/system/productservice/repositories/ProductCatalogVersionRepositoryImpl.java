@@ -0,0 +1,39 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+
+class ProductCatalogVersionRepositoryImpl implements ProductCatalogVersionRepository {
+
+    private static final String SEQUENCE_NAME = "product_catalog_version_seq";
+
+    private static final String CREATE_SEQUENCE_SQL = "create sequence if not exists {h-schema}" + SEQUENCE_NAME;
+
+    private static final String CURRENT_VERSION_SQL = "select last_value from {h-schema}" + SEQUENCE_NAME;
+
+    private static final String NEXT_VERSION_SQL = "select nextval(cast(cast(:sequenceName as text) as regclass))";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:public}")
+    private String schema;
+
+    @Override
+    public void createCatalogVersionSequence() {
+        entityManager.createNativeQuery(CREATE_SEQUENCE_SQL).executeUpdate();
+    }
+
+    @Override
+    public long findCatalogVersion() {
+        return ((Number) entityManager.createNativeQuery(CURRENT_VERSION_SQL).getSingleResult()).longValue();
+    }
+
+    @Override
+    public long nextCatalogVersion() {
+        return ((Number) entityManager.createNativeQuery(NEXT_VERSION_SQL)
+                .setParameter("sequenceName", schema + "." + SEQUENCE_NAME)
+                .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,13 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductCreateRepository {
+    ProductEntity insertWithHistory(final ProductEntity productEntity, final ProductHistoryEntity productHistoryEntity,
+                                    final LocalDateTime createdAt);
+    List<ProductEntity> insertAllSkippingConflicts(final List<ProductEntity> productEntities, final LocalDateTime createdAt);
+}
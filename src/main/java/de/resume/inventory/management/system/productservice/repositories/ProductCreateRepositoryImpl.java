@@ -0,0 +1,99 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+class ProductCreateRepositoryImpl implements ProductCreateRepository {
+
+    private static final String INSERT_WITH_HISTORY_SQL = """
+            with inserted as (
+                insert into {h-schema}products (id, name, article_number, description, category, unit, price, created_at, updated_at, version)
+                values (cast(gen_random_uuid() as varchar), :name, :articleNumber, cast(:description as varchar), cast(:category as varchar),
+                        :unit, :price, :createdAt, :createdAt, 0)
+                returning id, name, article_number, description, category, unit, price, created_at, updated_at, version
+            ),
+            history as (
+                insert into {h-schema}product_history (id, product_id, product_action, name, article_number, description,
+                                                       category, unit, price, changed_by, changed_fields, created_at, updated_at)
+                select cast(gen_random_uuid() as varchar), i.id, :action, :historyName, :historyArticleNumber,
+                       cast(:historyDescription as varchar), cast(:historyCategory as varchar), :historyUnit, :historyPrice,
+                       :changedBy, cast(:changedFields as varchar), i.created_at, i.updated_at
+                  from inserted i
+            )
+            select i.id, i.name, i.article_number, i.description, i.category, i.unit, i.price, i.created_at, i.updated_at, i.version
+              from inserted i
+            """;
+
+    private static final String INSERT_ALL_SKIPPING_CONFLICTS_SQL = """
+            insert into {h-schema}products (id, name, article_number, description, category, unit, price, created_at, updated_at, version)
+            select cast(gen_random_uuid() as varchar), u.name, u.article_number, u.description, u.category, u.unit, u.price,
+                   :createdAt, :createdAt, 0
+            from unnest(cast(:names as varchar[]), cast(:articleNumbers as varchar[]), cast(:descriptions as varchar[]),
+                        cast(:categories as varchar[]), cast(:units as varchar[]), cast(:prices as numeric[]))
+                 as u(name, article_number, description, category, unit, price)
+            on conflict do nothing
+            returning id, name, article_number, description, category, unit, price, created_at, updated_at, version
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ProductEntity insertWithHistory(final ProductEntity productEntity, final ProductHistoryEntity productHistoryEntity,
+                                           final LocalDateTime createdAt) {
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                entityManager.createNativeQuery(INSERT_WITH_HISTORY_SQL).unwrap(NativeQuery.class));
+
+        query.setParameter("name", productEntity.getName());
+        query.setParameter("articleNumber", productEntity.getArticleNumber());
+        query.setParameter("description", productEntity.getDescription());
+        query.setParameter("category", Objects.toString(productEntity.getCategory(), null));
+        query.setParameter("unit", productEntity.getUnit().name());
+        query.setParameter("price", productEntity.getPrice());
+        query.setParameter("createdAt", createdAt);
+        query.setParameter("action", productHistoryEntity.getAction().name());
+        query.setParameter("historyName", productHistoryEntity.getName());
+        query.setParameter("historyArticleNumber", productHistoryEntity.getArticleNumber());
+        query.setParameter("historyDescription", productHistoryEntity.getDescription());
+        query.setParameter("historyCategory", Objects.toString(productHistoryEntity.getCategory(), null));
+        query.setParameter("historyUnit", productHistoryEntity.getUnit().name());
+        query.setParameter("historyPrice", productHistoryEntity.getPrice());
+        query.setParameter("changedBy", productHistoryEntity.getChangedBy());
+        query.setParameter("changedFields", productHistoryEntity.getChangedFields());
+
+        return ProductNativeRows.toProductEntity(query.getSingleResult());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductEntity> insertAllSkippingConflicts(final List<ProductEntity> productEntities, final LocalDateTime createdAt) {
+        if (productEntities.isEmpty()) {
+            return List.of();
+        }
+
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                entityManager.createNativeQuery(INSERT_ALL_SKIPPING_CONFLICTS_SQL).unwrap(NativeQuery.class));
+
+        query.setParameter("createdAt", createdAt);
+        query.setParameter("names", productEntities.stream().map(ProductEntity::getName).toArray(String[]::new));
+        query.setParameter("articleNumbers", productEntities.stream().map(ProductEntity::getArticleNumber).toArray(String[]::new));
+        query.setParameter("descriptions", productEntities.stream().map(ProductEntity::getDescription).toArray(String[]::new));
+        query.setParameter("categories", productEntities.stream()
+                .map(productEntity -> Objects.toString(productEntity.getCategory(), null)).toArray(String[]::new));
+        query.setParameter("units", productEntities.stream().map(productEntity -> productEntity.getUnit().name()).toArray(String[]::new));
+        query.setParameter("prices", productEntities.stream().map(ProductEntity::getPrice).toArray(BigDecimal[]::new));
+
+        return query.getResultList().stream()
+                .map(ProductNativeRows::toProductEntity)
+                .toList();
+    }
+}
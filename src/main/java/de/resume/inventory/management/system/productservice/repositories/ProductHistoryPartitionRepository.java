@@ -0,0 +1,19 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductHistoryPartition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductHistoryPartitionRepository {
+    void lockPartitionMaintenance();
+    boolean tryLockPartitionMaintenance();
+    boolean isPartitioned();
+    boolean isHistoryEmpty();
+    boolean prepareLegacyPartition(final LocalDate legacyUpperBound);
+    boolean convertToPartitioned(final LocalDate legacyUpperBound);
+    List<ProductHistoryPartition> findPartitions();
+    void createPartition(final String partitionName, final LocalDate lowerBound, final LocalDate upperBound);
+    void detachPartition(final String partitionName);
+    void dropPartition(final String partitionName);
+}
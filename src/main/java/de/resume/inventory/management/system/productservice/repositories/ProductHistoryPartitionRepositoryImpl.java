@@ -0,0 +1,236 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductHistoryPartition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class ProductHistoryPartitionRepositoryImpl implements ProductHistoryPartitionRepository {
+
+    private static final String HISTORY_TABLE_NAME = "product_history";
+    private static final String LEGACY_PARTITION_NAME = "product_history_legacy";
+    private static final String DEFAULT_PARTITION_NAME = "product_history_default";
+    private static final String MAINTENANCE_LOCK_KEY = "hashtext('product_history_partition_maintenance')";
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("[a-z0-9_]+");
+    private static final Pattern RANGE_BOUND_PATTERN = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+    private static final String UNBOUNDED_VALUE_PREFIX = "M";
+
+    private static final String LOCK_SQL = "select 1 from pg_advisory_xact_lock(" + MAINTENANCE_LOCK_KEY + ")";
+
+    private static final String TRY_SESSION_LOCK_SQL = "select pg_try_advisory_lock(" + MAINTENANCE_LOCK_KEY + ")";
+
+    private static final String SESSION_UNLOCK_SQL = "select pg_advisory_unlock(" + MAINTENANCE_LOCK_KEY + ")";
+
+    private static final String TRY_LOCK_SQL = "select pg_try_advisory_xact_lock(" + MAINTENANCE_LOCK_KEY + ")";
+
+    private static final String IS_PARTITIONED_SQL =
+            "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass(cast(:tableName as text)))";
+
+    private static final String HISTORY_EMPTY_SQL = "select not exists (select 1 from {h-schema}product_history)";
+
+    private static final String PRIMARY_KEY_NAME_SQL =
+            "select conname from pg_constraint where conrelid = to_regclass(cast(:tableName as text)) and contype = 'p'";
+
+    private static final String INDEX_VALID_SQL =
+            "select i.indisvalid from pg_index i where i.indexrelid = to_regclass(?)";
+
+    private static final String LEGACY_BOUND_CONSTRAINT_NAME = "product_history_legacy_bound";
+    private static final String LEGACY_ID_CREATED_AT_INDEX_NAME = "product_history_legacy_id_created_at_key";
+    private static final String LEGACY_PRODUCT_ID_CREATED_AT_INDEX_NAME = "product_history_legacy_product_id_created_at_idx";
+
+    private static final String LEGACY_HAS_ROWS_SQL = "select exists (select 1 from {h-schema}product_history_legacy)";
+
+    private static final String FIND_PARTITIONS_SQL = """
+            select c.relname as partition_name, pg_get_expr(c.relpartbound, c.oid) as partition_bound
+              from pg_inherits i
+              join pg_class c on c.oid = i.inhrelid
+             where i.inhparent = to_regclass(cast(:tableName as text))
+             order by c.relname
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:public}")
+    private String schema;
+
+    @Override
+    public void lockPartitionMaintenance() {
+        entityManager.createNativeQuery(LOCK_SQL).getSingleResult();
+    }
+
+    @Override
+    public boolean tryLockPartitionMaintenance() {
+        return (Boolean) entityManager.createNativeQuery(TRY_LOCK_SQL).getSingleResult();
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return (Boolean) entityManager.createNativeQuery(IS_PARTITIONED_SQL)
+                .setParameter("tableName", qualified(HISTORY_TABLE_NAME))
+                .getSingleResult();
+    }
+
+    @Override
+    public boolean isHistoryEmpty() {
+        return (Boolean) entityManager.createNativeQuery(HISTORY_EMPTY_SQL).getSingleResult();
+    }
+
+    @Override
+    public boolean prepareLegacyPartition(final LocalDate legacyUpperBound) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            if (!queryBoolean(connection, TRY_SESSION_LOCK_SQL)) {
+                return false;
+            }
+            try {
+                final String historyTable = qualified(HISTORY_TABLE_NAME);
+                execute(connection, "alter table " + historyTable + " drop constraint if exists " + LEGACY_BOUND_CONSTRAINT_NAME);
+                execute(connection, "alter table " + historyTable + " add constraint " + LEGACY_BOUND_CONSTRAINT_NAME
+                        + " check (created_at < '" + legacyUpperBound + "') not valid");
+                execute(connection, "alter table " + historyTable + " validate constraint " + LEGACY_BOUND_CONSTRAINT_NAME);
+                createIndexConcurrently(connection, LEGACY_ID_CREATED_AT_INDEX_NAME, "create unique index concurrently "
+                        + LEGACY_ID_CREATED_AT_INDEX_NAME + " on " + historyTable + " (id, created_at)");
+                createIndexConcurrently(connection, LEGACY_PRODUCT_ID_CREATED_AT_INDEX_NAME, "create index concurrently "
+                        + LEGACY_PRODUCT_ID_CREATED_AT_INDEX_NAME + " on " + historyTable + " (product_id, created_at)");
+                return true;
+            } finally {
+                queryBoolean(connection, SESSION_UNLOCK_SQL);
+            }
+        } catch (final SQLException exception) {
+            throw new DataAccessResourceFailureException("Failed to prepare product_history legacy partition", exception);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean convertToPartitioned(final LocalDate legacyUpperBound) {
+        execute("alter table {h-schema}product_history rename to " + LEGACY_PARTITION_NAME);
+        final List<String> primaryKeyNames = entityManager.createNativeQuery(PRIMARY_KEY_NAME_SQL)
+                .setParameter("tableName", qualified(LEGACY_PARTITION_NAME))
+                .getResultList();
+        primaryKeyNames.forEach(primaryKeyName ->
+                execute("alter table {h-schema}product_history_legacy drop constraint " + primaryKeyName));
+        execute("alter table {h-schema}product_history_legacy add constraint product_history_legacy_pkey primary key using index "
+                + LEGACY_ID_CREATED_AT_INDEX_NAME);
+
+        execute("create table {h-schema}product_history (like {h-schema}product_history_legacy including defaults) partition by range (created_at)");
+        execute("alter table {h-schema}product_history add constraint product_history_pkey primary key (id, created_at)");
+        execute("create index product_history_product_id_created_at_idx on {h-schema}product_history (product_id, created_at)");
+
+        final boolean legacyHasRows = (Boolean) entityManager.createNativeQuery(LEGACY_HAS_ROWS_SQL).getSingleResult();
+        if (legacyHasRows) {
+            execute("alter table {h-schema}product_history attach partition {h-schema}product_history_legacy for values from (minvalue) to ('"
+                    + legacyUpperBound + "')");
+        } else {
+            execute("drop table {h-schema}product_history_legacy");
+        }
+        execute("create table {h-schema}" + DEFAULT_PARTITION_NAME + " partition of {h-schema}product_history default");
+        return legacyHasRows;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductHistoryPartition> findPartitions() {
+        final NativeQuery<Object[]> query = entityManager.createNativeQuery(FIND_PARTITIONS_SQL).unwrap(NativeQuery.class)
+                .addScalar("partition_name", String.class)
+                .addScalar("partition_bound", String.class);
+        query.setParameter("tableName", qualified(HISTORY_TABLE_NAME));
+        return query.getResultList().stream()
+                .map(row -> toPartition((String) row[0], (String) row[1]))
+                .toList();
+    }
+
+    @Override
+    public void createPartition(final String partitionName, final LocalDate lowerBound, final LocalDate upperBound) {
+        execute("create table if not exists {h-schema}" + checkedName(partitionName) + " partition of {h-schema}product_history"
+                + " for values from ('" + lowerBound + "') to ('" + upperBound + "')");
+    }
+
+    @Override
+    public void detachPartition(final String partitionName) {
+        execute("alter table {h-schema}product_history detach partition {h-schema}" + checkedName(partitionName));
+    }
+
+    @Override
+    public void dropPartition(final String partitionName) {
+        execute("drop table if exists {h-schema}" + checkedName(partitionName));
+    }
+
+    private void execute(final String sql) {
+        entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    private void createIndexConcurrently(final Connection connection, final String indexName, final String createIndexSql)
+            throws SQLException {
+        final String qualifiedIndexName = qualified(indexName);
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_VALID_SQL)) {
+            statement.setString(1, qualifiedIndexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    if (resultSet.getBoolean(1)) {
+                        return;
+                    }
+                    execute(connection, "drop index concurrently " + qualifiedIndexName);
+                }
+            }
+        }
+        execute(connection, createIndexSql);
+    }
+
+    private boolean queryBoolean(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private String qualified(final String tableName) {
+        return schema + "." + tableName;
+    }
+
+    private String checkedName(final String partitionName) {
+        if (!PARTITION_NAME_PATTERN.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("Invalid partition name: " + partitionName);
+        }
+        return partitionName;
+    }
+
+    private ProductHistoryPartition toPartition(final String partitionName, final String partitionBound) {
+        final Matcher matcher = RANGE_BOUND_PATTERN.matcher(partitionBound);
+        if (!matcher.find()) {
+            return new ProductHistoryPartition(partitionName, null, null, true);
+        }
+        return new ProductHistoryPartition(partitionName, toBound(matcher.group(1)), toBound(matcher.group(2)), false);
+    }
+
+    private LocalDate toBound(final String boundValue) {
+        if (Objects.isNull(boundValue) || boundValue.startsWith(UNBOUNDED_VALUE_PREFIX)) {
+            return null;
+        }
+        return LocalDate.parse(boundValue.substring(1, 11));
+    }
+}
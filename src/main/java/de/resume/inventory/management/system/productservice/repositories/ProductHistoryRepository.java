@@ -6,4 +6,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProductHistoryRepository extends JpaRepository<ProductHistoryEntity, String> { }
+public interface ProductHistoryRepository extends JpaRepository<ProductHistoryEntity, String>, ProductHistoryPartitionRepository { }
@@ -0,0 +1,43 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductIdempotencyKeyEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProductIdempotencyKeyRepository extends JpaRepository<ProductIdempotencyKeyEntity, String> {
+
+    @Modifying
+    @Query(value = """
+            insert into {h-schema}product_idempotency_keys as k (idempotency_key, request_fingerprint, status, created_at, expires_at)
+            values (:idempotencyKey, :requestFingerprint, 'IN_PROGRESS', :claimedAt, :expiresAt)
+            on conflict (idempotency_key) do update
+               set request_fingerprint = excluded.request_fingerprint,
+                   status = excluded.status,
+                   response_status = null,
+                   response_headers = null,
+                   response_body = null,
+                   created_at = excluded.created_at,
+                   expires_at = excluded.expires_at
+             where k.expires_at < excluded.created_at
+            """, nativeQuery = true)
+    int claim(@Param("idempotencyKey") String idempotencyKey,
+              @Param("requestFingerprint") String requestFingerprint,
+              @Param("claimedAt") LocalDateTime claimedAt,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from ProductIdempotencyKeyEntity k where k.idempotencyKey = :idempotencyKey and k.status = :status")
+    int deleteByIdempotencyKeyAndStatus(@Param("idempotencyKey") String idempotencyKey,
+                                        @Param("status") ProductIdempotencyStatus status);
+
+    @Modifying
+    @Query("delete from ProductIdempotencyKeyEntity k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportedRow;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductImportRepository {
+    long copyIntoImportStaging(final Reader csvRows);
+    List<ProductImportedRow> mergeImportStaging(final LocalDateTime importedAt, final String changedBy);
+}
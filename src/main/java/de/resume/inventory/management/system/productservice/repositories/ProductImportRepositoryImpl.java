@@ -0,0 +1,108 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportedRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ProductImportRepositoryImpl implements ProductImportRepository {
+
+    private static final String CREATE_STAGING_TABLE_SQL = """
+            create temp table if not exists product_import_staging (
+                line_number bigint not null,
+                name varchar(30) not null,
+                article_number varchar(20) not null,
+                description varchar(255),
+                category varchar(32) not null,
+                unit varchar(32) not null,
+                price numeric(12, 2) not null
+            ) on commit drop
+            """;
+
+    private static final String INDEX_STAGING_TABLE_SQL =
+            "create index on product_import_staging (article_number, line_number)";
+
+    private static final String ANALYZE_STAGING_TABLE_SQL = "analyze product_import_staging";
+
+    private static final String COPY_INTO_STAGING_SQL =
+            "copy product_import_staging (line_number, name, article_number, description, category, unit, price) from stdin with (format csv)";
+
+    private static final String MERGE_STAGING_SQL = """
+            with candidates as (
+                select s.*
+                  from product_import_staging s
+                 where not exists (select 1 from {h-schema}products p where p.article_number = s.article_number)
+                   and not exists (select 1 from {h-schema}products p where p.name = s.name)
+            ),
+            article_winners as (
+                select c.*
+                  from (select c.*, row_number() over (partition by c.article_number order by c.line_number) as article_rank
+                          from candidates c) c
+                 where c.article_rank = 1
+            ),
+            accepted as (
+                select w.line_number, w.name, w.article_number, w.description, w.category, w.unit, w.price
+                  from (select w.*, row_number() over (partition by w.name order by w.line_number) as name_rank
+                          from article_winners w) w
+                 where w.name_rank = 1
+            ),
+            inserted as (
+                insert into {h-schema}products (id, name, article_number, description, category, unit, price, created_at, updated_at, version)
+                select cast(gen_random_uuid() as varchar), a.name, a.article_number, a.description, a.category, a.unit, a.price,
+                       :importedAt, :importedAt, 0
+                  from accepted a
+                on conflict do nothing
+                returning id, name, article_number, description, category, unit, price, created_at, updated_at, version
+            ),
+            history as (
+                insert into {h-schema}product_history (id, product_id, product_action, name, article_number, description,
+                                                       category, unit, price, changed_by, created_at, updated_at)
+                select cast(gen_random_uuid() as varchar), i.id, 'CREATED', i.name, i.article_number, i.description,
+                       i.category, i.unit, i.price, :changedBy, :importedAt, :importedAt
+                  from inserted i
+            )
+            select i.id, i.name, i.article_number, i.description, i.category, i.unit, i.price, i.created_at, i.updated_at, i.version,
+                   a.line_number
+              from inserted i
+              join accepted a on a.article_number = i.article_number
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long copyIntoImportStaging(final Reader csvRows) {
+        entityManager.createNativeQuery(CREATE_STAGING_TABLE_SQL).executeUpdate();
+        final long copiedRows = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING_SQL, csvRows);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException("Failed to copy import rows into staging table", exception);
+            }
+        });
+        entityManager.createNativeQuery(INDEX_STAGING_TABLE_SQL).executeUpdate();
+        entityManager.createNativeQuery(ANALYZE_STAGING_TABLE_SQL).executeUpdate();
+        return copiedRows;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductImportedRow> mergeImportStaging(final LocalDateTime importedAt, final String changedBy) {
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                        entityManager.createNativeQuery(MERGE_STAGING_SQL).unwrap(NativeQuery.class))
+                .addScalar("line_number", Long.class);
+        query.setParameter("importedAt", importedAt);
+        query.setParameter("changedBy", changedBy);
+        return query.getResultList().stream()
+                .map(row -> new ProductImportedRow((Long) row[ProductNativeRows.PRODUCT_COLUMN_COUNT], ProductNativeRows.toProductEntity(row)))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface ProductKeysetRepository {
+    List<ProductEntity> findKeysetPage(final ProductSortKey sortKey, final Sort.Direction direction,
+                                       final Comparable<?> lastValue, final String lastId, final int limit);
+}
@@ -0,0 +1,42 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Objects;
+
+class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductEntity> findKeysetPage(final ProductSortKey sortKey, final Sort.Direction direction,
+                                              final Comparable<?> lastValue, final String lastId, final int limit) {
+        final String attributeName = sortKey.getAttributeName();
+        final boolean ascending = direction.isAscending();
+        final boolean hasCursor = Objects.nonNull(lastValue) && Objects.nonNull(lastId);
+
+        final StringBuilder queryBuilder = new StringBuilder("select p from ProductEntity p");
+        if (hasCursor) {
+            queryBuilder.append(" where (p.").append(attributeName).append(", p.id) ")
+                    .append(ascending ? ">" : "<")
+                    .append(" (:lastValue, :lastId)");
+        }
+        final String orderDirection = ascending ? "asc" : "desc";
+        queryBuilder.append(" order by p.").append(attributeName).append(' ').append(orderDirection)
+                .append(", p.id ").append(orderDirection);
+
+        final TypedQuery<ProductEntity> query = entityManager.createQuery(queryBuilder.toString(), ProductEntity.class);
+        if (hasCursor) {
+            query.setParameter("lastValue", lastValue);
+            query.setParameter("lastId", lastId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,48 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+final class ProductNativeRows {
+
+    static final int PRODUCT_COLUMN_COUNT = 10;
+
+    private ProductNativeRows() {
+    }
+
+    static NativeQuery<Object[]> addProductScalars(final NativeQuery<Object[]> query) {
+        return query
+                .addScalar("id", String.class)
+                .addScalar("name", String.class)
+                .addScalar("article_number", String.class)
+                .addScalar("description", String.class)
+                .addScalar("category", String.class)
+                .addScalar("unit", String.class)
+                .addScalar("price", BigDecimal.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class);
+    }
+
+    static ProductEntity toProductEntity(final Object[] row) {
+        final ProductEntity productEntity = new ProductEntity(
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                Objects.isNull(row[4]) ? null : Category.valueOf((String) row[4]),
+                Unit.valueOf((String) row[5]),
+                (BigDecimal) row[6]
+        );
+        productEntity.setId((String) row[0]);
+        productEntity.setCreatedAt((LocalDateTime) row[7]);
+        productEntity.setUpdatedAt((LocalDateTime) row[8]);
+        productEntity.setVersion((Long) row[9]);
+        return productEntity;
+    }
+}
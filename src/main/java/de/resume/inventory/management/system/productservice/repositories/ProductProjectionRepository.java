@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductProjectionRepository {
+    Page<Map<String, Object>> findAllProjected(final List<ProductField> fields, final Pageable pageable);
+    List<Map<String, Object>> findProjectedByIds(final List<ProductField> fields, final Collection<String> ids);
+}
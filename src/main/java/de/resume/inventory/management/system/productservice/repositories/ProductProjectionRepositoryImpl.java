@@ -0,0 +1,82 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+
+    private static final String ID_ATTRIBUTE = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(final List<ProductField> fields, final Pageable pageable) {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> tupleQuery = criteriaBuilder.createTupleQuery();
+        final Root<ProductEntity> productRoot = tupleQuery.from(ProductEntity.class);
+        tupleQuery.multiselect(selections(fields, productRoot));
+        if (pageable.getSort().isSorted()) {
+            tupleQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), productRoot, criteriaBuilder));
+        }
+
+        final TypedQuery<Tuple> query = entityManager.createQuery(tupleQuery);
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        final List<Map<String, Object>> content = toViews(fields, query.getResultList());
+
+        return PageableExecutionUtils.getPage(content, pageable, this::countProducts);
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjectedByIds(final List<ProductField> fields, final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final CriteriaQuery<Tuple> tupleQuery = entityManager.getCriteriaBuilder().createTupleQuery();
+        final Root<ProductEntity> productRoot = tupleQuery.from(ProductEntity.class);
+        tupleQuery.multiselect(selections(fields, productRoot))
+                .where(productRoot.get(ID_ATTRIBUTE).in(ids));
+        return toViews(fields, entityManager.createQuery(tupleQuery).getResultList());
+    }
+
+    private long countProducts() {
+        final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
+        countQuery.select(criteriaBuilder.count(countQuery.from(ProductEntity.class)));
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private List<Selection<?>> selections(final List<ProductField> fields, final Root<ProductEntity> productRoot) {
+        return fields.stream()
+                .<Selection<?>>map(field -> productRoot.get(field.getFieldName()).alias(field.getFieldName()))
+                .toList();
+    }
+
+    private List<Map<String, Object>> toViews(final List<ProductField> fields, final List<Tuple> tuples) {
+        return tuples.stream().map(tuple -> {
+            final Map<String, Object> view = new LinkedHashMap<>();
+            fields.forEach(field -> view.put(field.getFieldName(), field.toJsonValue(tuple.get(field.getFieldName()))));
+            return view;
+        }).toList();
+    }
+}
@@ -1,16 +1,63 @@
 package de.resume.inventory.management.system.productservice.repositories;
 
+import de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<ProductEntity, String> {
+public interface ProductRepository extends JpaRepository<ProductEntity, String>, ProductKeysetRepository,
+        ProductProjectionRepository, ProductUpsertRepository, ProductBulkDeleteRepository,
+        ProductImportRepository, ProductCreateRepository, ProductUniqueKeyRepository, ProductCatalogVersionRepository {
     Optional<ProductEntity> findByArticleNumber(String articleNumber);
     Optional<ProductEntity> findByName(String name);
     boolean existsByArticleNumber(String articleNumber);
     boolean existsByName(String name);
+    long countByIdIn(Collection<String> ids);
+    List<ProductEntity> findAllByNameInOrArticleNumberIn(Collection<String> names, Collection<String> articleNumbers);
+    Slice<ProductEntity> findAllBy(Pageable pageable);
+
+    @Query("select p.version from ProductEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    @Query("select p.id from ProductEntity p where p.articleNumber = :articleNumber")
+    Optional<String> findIdByArticleNumber(@Param("articleNumber") String articleNumber);
+
+    @Query("select new de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys(p.name, p.articleNumber) "
+            + "from ProductEntity p where p.name in :names or p.articleNumber in :articleNumbers")
+    List<ProductUniqueKeys> findUniqueKeysByNamesOrArticleNumbers(@Param("names") Collection<String> names,
+                                                                  @Param("articleNumbers") Collection<String> articleNumbers);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from ProductEntity p")
+    Stream<ProductEntity> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys(p.name, p.articleNumber) "
+            + "from ProductEntity p")
+    Stream<ProductUniqueKeys> streamUniqueKeys();
+
+    @Query(value = "select cast(c.reltuples as bigint) from pg_class c where c.oid = to_regclass(:qualifiedTableName)", nativeQuery = true)
+    Optional<Long> estimateRowCount(@Param("qualifiedTableName") String qualifiedTableName);
 }
 
@@ -0,0 +1,7 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import java.util.Collection;
+
+public interface ProductUniqueKeyRepository {
+    int releaseUniqueKeys(final Collection<String> nameIds, final Collection<String> articleNumberIds);
+}
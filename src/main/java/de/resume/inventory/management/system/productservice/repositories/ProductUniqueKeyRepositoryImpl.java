@@ -0,0 +1,31 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+
+class ProductUniqueKeyRepositoryImpl implements ProductUniqueKeyRepository {
+
+    private static final String RELEASE_UNIQUE_KEYS_SQL = """
+            update {h-schema}products p
+               set name = case when p.id = any(cast(:nameIds as varchar[])) then '~' || left(md5(p.id), 29) else p.name end,
+                   article_number = case when p.id = any(cast(:articleNumberIds as varchar[]))
+                                         then '~' || left(md5(p.id), 19) else p.article_number end
+             where p.id = any(cast(:nameIds as varchar[])) or p.id = any(cast(:articleNumberIds as varchar[]))
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int releaseUniqueKeys(final Collection<String> nameIds, final Collection<String> articleNumberIds) {
+        if (nameIds.isEmpty() && articleNumberIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(RELEASE_UNIQUE_KEYS_SQL)
+                .setParameter("nameIds", nameIds.toArray(String[]::new))
+                .setParameter("articleNumberIds", articleNumberIds.toArray(String[]::new))
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,11 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpsertOutcome;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductUpsertRepository {
+    List<ProductUpsertOutcome> upsertByArticleNumber(final List<ProductEntity> productEntities, final LocalDateTime changedAt);
+}
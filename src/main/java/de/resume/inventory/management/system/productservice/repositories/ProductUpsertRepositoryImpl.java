@@ -0,0 +1,68 @@
+package de.resume.inventory.management.system.productservice.repositories;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpsertOutcome;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+class ProductUpsertRepositoryImpl implements ProductUpsertRepository {
+
+    private static final String UPSERT_BY_ARTICLE_NUMBER_SQL = """
+            insert into {h-schema}products as p (id, name, article_number, description, category, unit, price, created_at, updated_at, version)
+            select cast(gen_random_uuid() as varchar), u.name, u.article_number, u.description, u.category, u.unit, u.price,
+                   :changedAt, :changedAt, 0
+            from unnest(cast(:names as varchar[]), cast(:articleNumbers as varchar[]), cast(:descriptions as varchar[]),
+                        cast(:categories as varchar[]), cast(:units as varchar[]), cast(:prices as numeric[]))
+                 as u(name, article_number, description, category, unit, price)
+            on conflict (article_number) do update
+               set name = excluded.name,
+                   description = excluded.description,
+                   category = excluded.category,
+                   unit = excluded.unit,
+                   price = excluded.price,
+                   updated_at = excluded.updated_at,
+                   version = p.version + 1
+             where (p.name, p.description, p.category, p.unit, p.price)
+                   is distinct from (excluded.name, excluded.description, excluded.category, excluded.unit, excluded.price)
+            returning p.id, p.name, p.article_number, p.description, p.category, p.unit, p.price, p.created_at, p.updated_at, p.version,
+                      (p.xmax = 0) as inserted
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductUpsertOutcome> upsertByArticleNumber(final List<ProductEntity> productEntities, final LocalDateTime changedAt) {
+        if (productEntities.isEmpty()) {
+            return List.of();
+        }
+
+        final NativeQuery<Object[]> query = ProductNativeRows.addProductScalars(
+                        entityManager.createNativeQuery(UPSERT_BY_ARTICLE_NUMBER_SQL).unwrap(NativeQuery.class))
+                .addScalar("inserted", Boolean.class);
+
+        query.setParameter("changedAt", changedAt);
+        query.setParameter("names", productEntities.stream().map(ProductEntity::getName).toArray(String[]::new));
+        query.setParameter("articleNumbers", productEntities.stream().map(ProductEntity::getArticleNumber).toArray(String[]::new));
+        query.setParameter("descriptions", productEntities.stream().map(ProductEntity::getDescription).toArray(String[]::new));
+        query.setParameter("categories", productEntities.stream()
+                .map(productEntity -> Objects.toString(productEntity.getCategory(), null)).toArray(String[]::new));
+        query.setParameter("units", productEntities.stream().map(productEntity -> productEntity.getUnit().name()).toArray(String[]::new));
+        query.setParameter("prices", productEntities.stream().map(ProductEntity::getPrice).toArray(BigDecimal[]::new));
+
+        return query.getResultList().stream()
+                .map(this::toUpsertOutcome)
+                .toList();
+    }
+
+    private ProductUpsertOutcome toUpsertOutcome(final Object[] row) {
+        return new ProductUpsertOutcome(ProductNativeRows.toProductEntity(row), (Boolean) row[ProductNativeRows.PRODUCT_COLUMN_COUNT]);
+    }
+}
@@ -3,6 +3,11 @@ package de.resume.inventory.management.system.productservice.services;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
 
+import java.util.List;
+
 public interface ProductHistoryService {
     void saveProductHistory(final ProductEntity productEntity, final ProductAction productAction, final String changedBy);
+    void saveProductHistory(final ProductEntity productEntity, final ProductAction productAction, final String changedBy,
+                            final List<String> changedFields);
+    void saveProductHistories(final List<ProductEntity> productEntities, final ProductAction productAction, final String changedBy);
 }
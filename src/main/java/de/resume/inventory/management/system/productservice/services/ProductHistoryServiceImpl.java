@@ -4,32 +4,59 @@ import de.resume.inventory.management.system.productservice.mapper.ProductHistor
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
 import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
-import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
 import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.services.history.ProductHistoryWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 class ProductHistoryServiceImpl implements ProductHistoryService {
-    private final ProductHistoryRepository productHistoryRepository;
+
+    private static final String CHANGED_FIELDS_SEPARATOR = ",";
+
+    private final ProductHistoryWriter productHistoryWriter;
     private final ProductHistoryMapper productHistoryMapper;
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveProductHistory(final ProductEntity productEntity, final ProductAction productAction, final String changedBy) {
+        persistProductHistory(productEntity, productAction, changedBy, List.of());
+    }
+
+    @Override
+    public void saveProductHistory(final ProductEntity productEntity, final ProductAction productAction, final String changedBy,
+                                   final List<String> changedFields) {
+        persistProductHistory(productEntity, productAction, changedBy, changedFields);
+    }
+
+    private void persistProductHistory(final ProductEntity productEntity, final ProductAction productAction, final String changedBy,
+                                       final List<String> changedFields) {
         final ProductEntity nonNullProductEntity = Optional.ofNullable(productEntity)
                 .orElseThrow(() -> new ProductValidationException("product entity must not be null"));
         final String productIdForLog = nonNullProductEntity.getId();
         log.info("Saving product history for product with ID: {} and action: {}", productIdForLog, productAction);
         final ProductHistoryEntity historyEntity = productHistoryMapper.toEntity(nonNullProductEntity, productAction, changedBy);
-        log.info("Persisting product history entity: {}", historyEntity);
-        productHistoryRepository.save(historyEntity);
+        historyEntity.setCreatedAt(LocalDateTime.now());
+        if (!changedFields.isEmpty()) {
+            historyEntity.setChangedFields(String.join(CHANGED_FIELDS_SEPARATOR, changedFields));
+        }
+        productHistoryWriter.write(historyEntity);
+    }
+
+    @Override
+    public void saveProductHistories(final List<ProductEntity> productEntities, final ProductAction productAction, final String changedBy) {
+        log.info("Saving {} product history entries with action: {}", productEntities.size(), productAction);
+        final LocalDateTime changedAt = LocalDateTime.now();
+        final List<ProductHistoryEntity> historyEntities = productEntities.stream()
+                .map(productEntity -> productHistoryMapper.toEntity(productEntity, productAction, changedBy))
+                .toList();
+        historyEntities.forEach(historyEntity -> historyEntity.setCreatedAt(changedAt));
+        productHistoryWriter.writeAll(historyEntities);
     }
 }
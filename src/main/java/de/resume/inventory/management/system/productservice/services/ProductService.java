@@ -1,17 +1,46 @@
 package de.resume.inventory.management.system.productservice.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBatchResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkDeleteResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursorPage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductSlicePage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpdateResult;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchOperationDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkDeleteDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductService {
     Product createProduct(final ProductToCreateDto productToCreateDto);
-    Product updateProduct(final ProductToUpdateDto productToCreateDto);
-    void deleteProduct(final String id);
-    Page<Product> getAllProducts(final Pageable pageable);
+    ProductBulkResult createProducts(final List<ProductToCreateDto> productsToCreate);
+    ProductBulkResult upsertProducts(final List<ProductToCreateDto> productsToUpsert);
+    ProductBulkResult applyProductBatch(final List<ProductBatchOperationDto> operations);
+    ProductUpdateResult updateProduct(final ProductToUpdateDto productToCreateDto, final String ifMatch);
+    ProductUpdateResult patchProduct(final String id, final JsonNode mergePatch, final String ifMatch);
+    void deleteProduct(final String id, final String ifMatch);
+    ProductBulkDeleteResult deleteProducts(final ProductBulkDeleteDto productBulkDeleteDto, final boolean dryRun);
+    long getCatalogVersion();
+    Page<Product> getAllProducts(final long catalogVersion, final Pageable pageable);
+    String getProductPageETag(final long catalogVersion, final Pageable pageable);
+    Page<Map<String, Object>> getAllProductsProjected(final Pageable pageable, final String fields);
+    ProductSlicePage getProductSlice(final Pageable pageable, final ProductTotalMode totalMode);
+    ProductCursorPage getProductsByCursor(final ProductSortKey sortKey, final Sort.Direction direction, final String cursor, final int size);
     Optional<Product> getProductById(final String id);
+    Optional<String> getProductETag(final String id);
+    Optional<Product> getProductByArticleNumber(final String articleNumber);
+    Optional<Map<String, Object>> getProductByIdProjected(final String id, final String fields);
+    ProductBatchResult<Product> getProductsByIds(final List<String> ids);
+    ProductBatchResult<Map<String, Object>> getProductsByIdsProjected(final List<String> ids, final String fields);
 }
@@ -1,45 +1,115 @@
 package de.resume.inventory.management.system.productservice.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.exceptions.ProductBatchValidationException;
 import de.resume.inventory.management.system.productservice.exceptions.ProductNotFoundException;
+import de.resume.inventory.management.system.productservice.exceptions.ProductPreconditionFailedException;
+import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.mapper.ProductHistoryMapper;
 import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
 import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBatchResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkDeleteResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkItemResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursor;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursorPage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductSlicePage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpdateResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpsertOutcome;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchOperationDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkDeleteDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBatchOperationType;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBulkItemStatus;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryWriteMode;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
 import de.resume.inventory.management.system.productservice.models.events.ProductDeletedEvent;
 import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
 import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCache;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCatalogVersion;
+import de.resume.inventory.management.system.productservice.services.cache.ProductPageCache;
+import de.resume.inventory.management.system.productservice.services.cursor.ProductCursorCodec;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.patch.ProductMergePatchApplier;
 import de.resume.inventory.management.system.productservice.services.publisher.ProductEventPublisher;
 import de.resume.inventory.management.system.productservice.services.resolver.EventKeyResolver;
+import de.resume.inventory.management.system.productservice.services.resolver.ProductETagResolver;
+import de.resume.inventory.management.system.productservice.services.resolver.ProductFieldsResolver;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
 import de.resume.inventory.management.system.productservice.services.validation.ProductValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    private static final String PRODUCTS_TABLE_NAME = "products";
+    private static final int MAX_BULK_DELETE_SIZE = 5000;
+    private static final int PRICE_SCALE = 2;
+
     private final ProductRepository productRepository;
     private final ProductValidationService productValidationService;
     private final ProductEventPublisher productEventPublisher;
     private final ProductMapper productMapper;
     private final EventKeyResolver eventKeyResolver;
     private final ProductHistoryService productHistoryService;
+    private final ProductCache productCache;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final ProductCursorCodec productCursorCodec;
+    private final ProductFieldsResolver productFieldsResolver;
+    private final ProductETagResolver productETagResolver;
+    private final ProductCatalogVersion productCatalogVersion;
+    private final ProductPageCache productPageCache;
+    private final ProductMergePatchApplier productMergePatchApplier;
+    private final ProductKeyFilter productKeyFilter;
+    private final ProductHistoryMapper productHistoryMapper;
+    private final ProductHistoryConfiguration productHistoryConfiguration;
 
     @Value("${spring.application.name}")
     private String tenantId;
 
+    @Value("${spring.jpa.properties.hibernate.default_schema:public}")
+    private String productSchema;
+
     @Override
     @Transactional
     public Product createProduct(final ProductToCreateDto productToCreateDto) {
@@ -47,51 +117,365 @@ public class ProductServiceImpl implements ProductService {
 
         productValidationService.validateProductToCreate(productToCreateDto);
 
-        final ProductEntity productEntity = productMapper.toEntity(productToCreateDto);
-        final ProductEntity savedProduct = productRepository.save(productEntity);
-        productHistoryService.saveProductHistory(savedProduct, ProductAction.CREATED, tenantId);
+        final ProductEntity savedProduct = persistCreatedProduct(productMapper.toEntity(productToCreateDto));
         log.info("Persisted product with ID: {}", savedProduct.getId());
 
         final ProductUpsertedEvent productUpsertedEvent = productMapper.toEvent(savedProduct, ProductAction.CREATED, tenantId);
         final String kafkaKey = eventKeyResolver.resolveProductKey(tenantId, savedProduct.getId());
-        log.info("Publishing ProductUpsertedEvent for kafkaKey: {}", kafkaKey);
+        log.info("Publishing ProductUpsertedEvent for kafkaKey: {} after commit", kafkaKey);
+        publishUpsertedAfterCommit(kafkaKey, productUpsertedEvent);
 
-        productEventPublisher.publishProductUpserted(kafkaKey, productUpsertedEvent);
-        log.info("Published ProductUpsertedEvent for kafkaKey: {}", kafkaKey);
+        productCache.putAfterCommit(() -> productMapper.toDomain(savedProduct));
+        productCatalogVersion.incrementOnCommit();
         return productMapper.toDomain(savedProduct);
     }
 
     @Override
     @Transactional
-    public Product updateProduct(final ProductToUpdateDto productToUpdateDto) {
+    public ProductBulkResult createProducts(final List<ProductToCreateDto> productsToCreate) {
+        log.info("Bulk creating {} products", productsToCreate.size());
+
+        final Map<Integer, List<String>> validationErrorsByIndex = productValidationService.validateProductsToCreate(productsToCreate);
+        final List<ProductEntity> productEntities = new ArrayList<>();
+        for (int index = 0; index < productsToCreate.size(); index++) {
+            if (!validationErrorsByIndex.containsKey(index)) {
+                productEntities.add(productMapper.toEntity(productsToCreate.get(index)));
+            }
+        }
+
+        final List<ProductEntity> savedProducts = productRepository.insertAllSkippingConflicts(productEntities, LocalDateTime.now());
+        final Map<String, ProductEntity> savedProductsByArticleNumber = savedProducts.stream()
+                .collect(Collectors.toMap(ProductEntity::getArticleNumber, Function.identity()));
+        final Map<String, List<String>> conflictErrorsByArticleNumber = resolveConflictErrors(productsToCreate, validationErrorsByIndex,
+                savedProductsByArticleNumber);
+        productHistoryService.saveProductHistories(savedProducts, ProductAction.CREATED, tenantId);
+        log.info("Persisted {} products in bulk, rejected {}, conflicting {}", savedProducts.size(), validationErrorsByIndex.size(),
+                conflictErrorsByArticleNumber.size());
+
+        final Map<String, ProductUpsertedEvent> productUpsertedEventsByKafkaKey = new LinkedHashMap<>();
+        savedProducts.forEach(savedProduct -> productUpsertedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, savedProduct.getId()),
+                productMapper.toEvent(savedProduct, ProductAction.CREATED, tenantId)));
+        publishUpsertedAfterCommit(productUpsertedEventsByKafkaKey);
+        if (!savedProducts.isEmpty()) {
+            productCatalogVersion.incrementOnCommit();
+        }
+
+        final List<ProductBulkItemResult> itemResults = new ArrayList<>(productsToCreate.size());
+        for (int index = 0; index < productsToCreate.size(); index++) {
+            final String articleNumber = productsToCreate.get(index).articleNumber();
+            final List<String> validationErrors = Optional.ofNullable(validationErrorsByIndex.get(index))
+                    .orElseGet(() -> conflictErrorsByArticleNumber.get(articleNumber));
+            if (Objects.nonNull(validationErrors)) {
+                itemResults.add(new ProductBulkItemResult(index, ProductBulkItemStatus.REJECTED, null, articleNumber, validationErrors));
+            } else {
+                final ProductEntity savedProduct = savedProductsByArticleNumber.get(articleNumber);
+                itemResults.add(new ProductBulkItemResult(index, ProductBulkItemStatus.CREATED, savedProduct.getId(),
+                        savedProduct.getArticleNumber(), List.of()));
+            }
+        }
+        return new ProductBulkResult(savedProducts.size(), productsToCreate.size() - savedProducts.size(), itemResults);
+    }
+
+    private Map<String, List<String>> resolveConflictErrors(final List<ProductToCreateDto> productsToCreate,
+                                                            final Map<Integer, List<String>> validationErrorsByIndex,
+                                                            final Map<String, ProductEntity> savedProductsByArticleNumber) {
+        final List<ProductToCreateDto> conflictingProducts = new ArrayList<>();
+        for (int index = 0; index < productsToCreate.size(); index++) {
+            final ProductToCreateDto productToCreateDto = productsToCreate.get(index);
+            if (!validationErrorsByIndex.containsKey(index) && !savedProductsByArticleNumber.containsKey(productToCreateDto.articleNumber())) {
+                conflictingProducts.add(productToCreateDto);
+            }
+        }
+        if (conflictingProducts.isEmpty()) {
+            return Map.of();
+        }
+
+        log.warn("{} products conflicted with concurrently created products", conflictingProducts.size());
+        final Map<Integer, List<String>> recheckErrorsByIndex = productValidationService.validateProductsToCreate(conflictingProducts);
+        final Map<String, List<String>> conflictErrorsByArticleNumber = new HashMap<>();
+        for (int index = 0; index < conflictingProducts.size(); index++) {
+            final String articleNumber = conflictingProducts.get(index).articleNumber();
+            conflictErrorsByArticleNumber.put(articleNumber, recheckErrorsByIndex.getOrDefault(index,
+                    List.of(String.format("Product with article number: '%s' conflicts with a concurrently created product", articleNumber))));
+        }
+        return conflictErrorsByArticleNumber;
+    }
+
+    @Override
+    @Transactional
+    public ProductBulkResult upsertProducts(final List<ProductToCreateDto> productsToUpsert) {
+        log.info("Bulk upserting {} products", productsToUpsert.size());
+
+        final Map<Integer, List<String>> validationErrorsByIndex = productValidationService.validateProductsToUpsert(productsToUpsert);
+        final List<ProductEntity> productEntities = new ArrayList<>();
+        for (int index = 0; index < productsToUpsert.size(); index++) {
+            if (!validationErrorsByIndex.containsKey(index)) {
+                productEntities.add(productMapper.toEntity(productsToUpsert.get(index)));
+            }
+        }
+
+        final List<ProductUpsertOutcome> upsertOutcomes = productRepository.upsertByArticleNumber(productEntities, LocalDateTime.now());
+        final Map<Boolean, List<ProductEntity>> changedProductsByInserted = upsertOutcomes.stream()
+                .collect(Collectors.partitioningBy(ProductUpsertOutcome::inserted,
+                        Collectors.mapping(ProductUpsertOutcome::product, Collectors.toList())));
+        final List<ProductEntity> createdProducts = changedProductsByInserted.get(true);
+        final List<ProductEntity> updatedProducts = changedProductsByInserted.get(false);
+        productHistoryService.saveProductHistories(createdProducts, ProductAction.CREATED, tenantId);
+        productHistoryService.saveProductHistories(updatedProducts, ProductAction.UPDATED, tenantId);
+        log.info("Upserted products in bulk: created={}, updated={}, unchanged={}, rejected={}", createdProducts.size(),
+                updatedProducts.size(), productEntities.size() - upsertOutcomes.size(), validationErrorsByIndex.size());
+
+        final Map<String, ProductUpsertedEvent> productUpsertedEventsByKafkaKey = new LinkedHashMap<>();
+        upsertOutcomes.forEach(upsertOutcome -> productUpsertedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, upsertOutcome.product().getId()),
+                productMapper.toEvent(upsertOutcome.product(), upsertOutcome.inserted() ? ProductAction.CREATED : ProductAction.UPDATED, tenantId)));
+        publishUpsertedAfterCommit(productUpsertedEventsByKafkaKey);
+        productCache.evictAllAfterCommit(updatedProducts.stream().map(ProductEntity::getId).toList());
+        if (!upsertOutcomes.isEmpty()) {
+            productCatalogVersion.incrementOnCommit();
+        }
+
+        final Map<String, ProductUpsertOutcome> upsertOutcomesByArticleNumber = upsertOutcomes.stream()
+                .collect(Collectors.toMap(upsertOutcome -> upsertOutcome.product().getArticleNumber(), Function.identity()));
+        final List<ProductBulkItemResult> itemResults = new ArrayList<>(productsToUpsert.size());
+        for (int index = 0; index < productsToUpsert.size(); index++) {
+            final String articleNumber = productsToUpsert.get(index).articleNumber();
+            final List<String> validationErrors = validationErrorsByIndex.get(index);
+            final ProductUpsertOutcome upsertOutcome = upsertOutcomesByArticleNumber.get(articleNumber);
+            if (Objects.nonNull(validationErrors)) {
+                itemResults.add(new ProductBulkItemResult(index, ProductBulkItemStatus.REJECTED, null, articleNumber, validationErrors));
+            } else if (Objects.isNull(upsertOutcome)) {
+                itemResults.add(new ProductBulkItemResult(index, ProductBulkItemStatus.UNCHANGED, null, articleNumber, List.of()));
+            } else {
+                final ProductBulkItemStatus itemStatus = upsertOutcome.inserted() ? ProductBulkItemStatus.CREATED : ProductBulkItemStatus.UPDATED;
+                itemResults.add(new ProductBulkItemResult(index, itemStatus, upsertOutcome.product().getId(), articleNumber, List.of()));
+            }
+        }
+        return new ProductBulkResult(productEntities.size(), validationErrorsByIndex.size(), itemResults);
+    }
+
+    @Override
+    @Transactional
+    public ProductBulkResult applyProductBatch(final List<ProductBatchOperationDto> operations) {
+        log.info("Applying product batch with {} operations", operations.size());
+
+        final Map<Integer, List<String>> validationErrorsByIndex = productValidationService.validateProductBatch(operations);
+        if (!validationErrorsByIndex.isEmpty()) {
+            throw new ProductBatchValidationException(validationErrorsByIndex);
+        }
+
+        final Map<ProductBatchOperationType, List<ProductBatchOperationDto>> operationsByType = operations.stream()
+                .collect(Collectors.groupingBy(ProductBatchOperationDto::operation, () -> new EnumMap<>(ProductBatchOperationType.class),
+                        Collectors.toList()));
+        final List<ProductBatchOperationDto> deleteOperations = operationsByType.getOrDefault(ProductBatchOperationType.DELETE, List.of());
+        final List<ProductBatchOperationDto> updateOperations = operationsByType.getOrDefault(ProductBatchOperationType.UPDATE, List.of());
+        final List<ProductBatchOperationDto> createOperations = operationsByType.getOrDefault(ProductBatchOperationType.CREATE, List.of());
+
+        final List<ProductEntity> deletedProducts = deleteOperations.isEmpty() ? List.of()
+                : productRepository.deleteAllByIdsReturning(deleteOperations.stream().map(ProductBatchOperationDto::id).toList());
+
+        final Map<String, ProductEntity> productsById = productRepository.findAllById(
+                        updateOperations.stream().map(ProductBatchOperationDto::id).toList()).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        final Map<String, List<String>> changedFieldsById = new LinkedHashMap<>();
+        updateOperations.forEach(operation -> {
+            final List<String> changedFields = resolveChangedFields(operation.product(), productsById.get(operation.id()));
+            if (!changedFields.isEmpty()) {
+                changedFieldsById.put(operation.id(), changedFields);
+            }
+        });
+        final List<ProductBatchOperationDto> changedUpdateOperations = updateOperations.stream()
+                .filter(operation -> changedFieldsById.containsKey(operation.id()))
+                .toList();
+        if (!changedUpdateOperations.isEmpty()) {
+            releaseRequestedUniqueKeys(changedUpdateOperations, productsById);
+            changedUpdateOperations.forEach(operation -> productMapper.updateEntity(operation.product(), productsById.get(operation.id())));
+            productRepository.flush();
+        }
+
+        final List<ProductEntity> createdProducts = productRepository.saveAll(
+                createOperations.stream().map(operation -> productMapper.toEntity(operation.product())).toList());
+        productRepository.flush();
+
+        final List<ProductEntity> updatedProducts = changedUpdateOperations.stream()
+                .map(operation -> productsById.get(operation.id()))
+                .toList();
+        productHistoryService.saveProductHistories(deletedProducts, ProductAction.DELETED, tenantId);
+        productHistoryService.saveProductHistories(updatedProducts, ProductAction.UPDATED, tenantId);
+        productHistoryService.saveProductHistories(createdProducts, ProductAction.CREATED, tenantId);
+        log.info("Applied product batch: deleted={}, updated={}, unchanged={}, created={}", deletedProducts.size(), updatedProducts.size(),
+                updateOperations.size() - updatedProducts.size(), createdProducts.size());
+
+        final LocalDateTime deletedAt = LocalDateTime.now();
+        final Map<String, ProductDeletedEvent> productDeletedEventsByKafkaKey = new LinkedHashMap<>();
+        deletedProducts.forEach(deletedProduct -> productDeletedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, deletedProduct.getId()),
+                new ProductDeletedEvent(deletedProduct.getId(), deletedAt, ProductAction.DELETED, tenantId)));
+        final Map<String, ProductUpsertedEvent> productUpsertedEventsByKafkaKey = new LinkedHashMap<>();
+        updatedProducts.forEach(updatedProduct -> productUpsertedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, updatedProduct.getId()),
+                productMapper.toEvent(updatedProduct, ProductAction.UPDATED, tenantId, changedFieldsById.get(updatedProduct.getId()))));
+        createdProducts.forEach(createdProduct -> productUpsertedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, createdProduct.getId()),
+                productMapper.toEvent(createdProduct, ProductAction.CREATED, tenantId)));
+        publishDeletedAfterCommit(productDeletedEventsByKafkaKey);
+        publishUpsertedAfterCommit(productUpsertedEventsByKafkaKey);
+        productCache.evictAllAfterCommit(Stream.concat(deletedProducts.stream(), updatedProducts.stream()).map(ProductEntity::getId).toList());
+        if (!deletedProducts.isEmpty() || !updatedProducts.isEmpty() || !createdProducts.isEmpty()) {
+            productCatalogVersion.incrementOnCommit();
+        }
+
+        final Map<String, ProductEntity> deletedProductsById = deletedProducts.stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        final Iterator<ProductEntity> createdProductsIterator = createdProducts.iterator();
+        final List<ProductBulkItemResult> itemResults = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            final ProductBatchOperationDto operation = operations.get(index);
+            final ProductEntity productEntity = switch (operation.operation()) {
+                case CREATE -> createdProductsIterator.next();
+                case UPDATE -> productsById.get(operation.id());
+                case DELETE -> deletedProductsById.get(operation.id());
+            };
+            final ProductBulkItemStatus itemStatus = switch (operation.operation()) {
+                case CREATE -> ProductBulkItemStatus.CREATED;
+                case UPDATE -> changedFieldsById.containsKey(operation.id()) ? ProductBulkItemStatus.UPDATED : ProductBulkItemStatus.UNCHANGED;
+                case DELETE -> ProductBulkItemStatus.DELETED;
+            };
+            itemResults.add(new ProductBulkItemResult(index, itemStatus, productEntity.getId(), productEntity.getArticleNumber(), List.of()));
+        }
+        return new ProductBulkResult(operations.size(), 0, itemResults);
+    }
+
+    @Override
+    @Transactional
+    public ProductUpdateResult updateProduct(final ProductToUpdateDto productToUpdateDto, final String ifMatch) {
         log.info("Updating product from dto: {}", productToUpdateDto);
 
-        productValidationService.validateProductToUpdate(productToUpdateDto);
+        final Optional<ProductEntity> existingProduct = Optional.ofNullable(productToUpdateDto.id()).flatMap(productRepository::findById);
+        if (existingProduct.isEmpty()) {
+            if (Objects.nonNull(ifMatch)) {
+                throw new ProductPreconditionFailedException("Product with id: '" + productToUpdateDto.id() + "' does not exist");
+            }
+            return new ProductUpdateResult(createFromUpdate(productToUpdateDto), true);
+        }
 
-        final ProductEntity productEntity = productMapper.toEntity(productToUpdateDto);
+        verifyIfMatch(existingProduct.get(), ifMatch);
+        return applyUpdate(productToUpdateDto, existingProduct.get());
+    }
 
-        final String productId = productEntity.getId();
-        final boolean exists = productId != null && productRepository.existsById(productId);
+    @Override
+    @Transactional
+    public ProductUpdateResult patchProduct(final String id, final JsonNode mergePatch, final String ifMatch) {
+        log.info("Patching product with ID: {}", id);
 
-        if (!exists) {
-            log.warn("Product with ID {} does not exist (or no ID provided). It will be created.", productId);
+        final ProductEntity productEntity = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        verifyIfMatch(productEntity, ifMatch);
+        final ProductToUpdateDto patchedProduct = productMergePatchApplier.applyMergePatch(productMapper.toUpdateDto(productEntity), mergePatch);
+        return applyUpdate(patchedProduct, productEntity);
+    }
+
+    private ProductUpdateResult applyUpdate(final ProductToUpdateDto productToUpdateDto, final ProductEntity productEntity) {
+        final List<String> changedFields = resolveChangedFields(productToUpdateDto, productEntity);
+        if (changedFields.isEmpty()) {
+            log.info("Product with ID: {} is unchanged, skipping persistence and event", productEntity.getId());
+            return new ProductUpdateResult(productMapper.toDomain(productEntity), false);
         }
 
+        productValidationService.validateProductToUpdate(productToUpdateDto, productEntity);
+        productMapper.updateEntity(productToUpdateDto, productEntity);
+        flushTranslatingUniqueViolations(productToUpdateDto.name(), productToUpdateDto.articleNumber());
+        productHistoryService.saveProductHistory(productEntity, ProductAction.UPDATED, tenantId, changedFields);
+
+        final ProductUpsertedEvent productUpsertedEvent = productMapper.toEvent(productEntity, ProductAction.UPDATED, tenantId, changedFields);
+        final String kafkaKey = eventKeyResolver.resolveProductKey(tenantId, productEntity.getId());
+        publishUpsertedAfterCommit(kafkaKey, productUpsertedEvent);
+
+        log.info("Persisted product with ID: {} and scheduled {} event. changedFields={}", productEntity.getId(), ProductAction.UPDATED, changedFields);
+        productCache.evictAfterCommit(productEntity.getId());
+        productCatalogVersion.incrementOnCommit();
+        return new ProductUpdateResult(productMapper.toDomain(productEntity), true);
+    }
+
+    private ProductEntity persistCreatedProduct(final ProductEntity productEntity) {
+        if (productHistoryConfiguration.getWriteMode() == ProductHistoryWriteMode.FUSED) {
+            final ProductHistoryEntity productHistoryEntity = productHistoryMapper.toEntity(productEntity, ProductAction.CREATED, tenantId);
+            return translatingUniqueViolations(() -> productRepository.insertWithHistory(productEntity, productHistoryEntity, LocalDateTime.now()),
+                    productEntity.getName(), productEntity.getArticleNumber());
+        }
         final ProductEntity savedProduct = productRepository.save(productEntity);
-        final ProductAction productAction = exists ? ProductAction.UPDATED : ProductAction.CREATED;
-        productHistoryService.saveProductHistory(savedProduct, productAction, tenantId);
+        flushTranslatingUniqueViolations(productEntity.getName(), productEntity.getArticleNumber());
+        productHistoryService.saveProductHistory(savedProduct, ProductAction.CREATED, tenantId);
+        return savedProduct;
+    }
 
-        final ProductUpsertedEvent productUpsertedEvent = productMapper.toEvent(savedProduct, productAction, tenantId);
-        final String kafkaKey = eventKeyResolver.resolveProductKey(tenantId, savedProduct.getId());
-        productEventPublisher.publishProductUpserted(kafkaKey, productUpsertedEvent);
+    private void flushTranslatingUniqueViolations(final String name, final String articleNumber) {
+        translatingUniqueViolations(() -> {
+            productRepository.flush();
+            return null;
+        }, name, articleNumber);
+    }
 
-        log.info("Persisted product with ID: {} and published {} event", savedProduct.getId(), productAction);
-        return productMapper.toDomain(savedProduct);
+    private <T> T translatingUniqueViolations(final Supplier<T> write, final String name, final String articleNumber) {
+        try {
+            return write.get();
+        } catch (final DataIntegrityViolationException exception) {
+            final Optional<ProductValidationException> validationException =
+                    productValidationService.translateUniqueConstraintViolation(exception, name, articleNumber);
+            if (validationException.isPresent()) {
+                throw validationException.get();
+            }
+            throw exception;
+        }
+    }
+
+    private void verifyIfMatch(final ProductEntity productEntity, final String ifMatch) {
+        if (Objects.isNull(ifMatch)) {
+            return;
+        }
+        final String currentETag = productETagResolver.resolveProductETag(productEntity.getId(), productEntity.getVersion());
+        if (!productETagResolver.matchesAnyStrong(ifMatch, currentETag)) {
+            log.info("If-Match precondition failed for product with ID: {}. ifMatch={}, currentETag={}", productEntity.getId(), ifMatch, currentETag);
+            throw new ProductPreconditionFailedException("Product with id: '" + productEntity.getId() + "' was modified. Current ETag is " + currentETag);
+        }
+    }
+
+    private List<String> resolveChangedFields(final ProductToCreateDto productToCreateDto, final ProductEntity productEntity) {
+        return resolveChangedFields(new ProductToUpdateDto(productEntity.getId(), productToCreateDto.name(), productToCreateDto.articleNumber(),
+                productToCreateDto.description(), productToCreateDto.category(), productToCreateDto.unit(), productToCreateDto.price()), productEntity);
+    }
+
+    private List<String> resolveChangedFields(final ProductToUpdateDto productToUpdateDto, final ProductEntity productEntity) {
+        final List<String> changedFields = new ArrayList<>();
+        if (!Objects.equals(productToUpdateDto.name(), productEntity.getName())) {
+            changedFields.add(ProductField.NAME.getFieldName());
+        }
+        if (!Objects.equals(productToUpdateDto.articleNumber(), productEntity.getArticleNumber())) {
+            changedFields.add(ProductField.ARTICLE_NUMBER.getFieldName());
+        }
+        if (!Objects.equals(productToUpdateDto.description(), productEntity.getDescription())) {
+            changedFields.add(ProductField.DESCRIPTION.getFieldName());
+        }
+        if (productToUpdateDto.category() != productEntity.getCategory()) {
+            changedFields.add(ProductField.CATEGORY.getFieldName());
+        }
+        if (productToUpdateDto.unit() != productEntity.getUnit()) {
+            changedFields.add(ProductField.UNIT.getFieldName());
+        }
+        if (normalizePrice(productToUpdateDto.price()).compareTo(productEntity.getPrice().setScale(PRICE_SCALE, RoundingMode.HALF_UP)) != 0) {
+            changedFields.add(ProductField.PRICE.getFieldName());
+        }
+        return changedFields;
+    }
+
+    private BigDecimal normalizePrice(final Double price) {
+        return BigDecimal.valueOf(price).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
     }
 
     @Override
     @Transactional
-    public void deleteProduct(final String id) {
+    public void deleteProduct(final String id, final String ifMatch) {
         if (Objects.isNull(id) || id.isBlank()) {
             throw new IllegalArgumentException("Product ID must not be null or blank");
         }
@@ -99,28 +483,283 @@ public class ProductServiceImpl implements ProductService {
        log.info("Deleting product with ID: {}", id);
         final ProductEntity productEntity = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException(id));
+        verifyIfMatch(productEntity, ifMatch);
 
        productHistoryService.saveProductHistory(productEntity, ProductAction.DELETED, tenantId);
        productRepository.deleteById(productEntity.getId());
+       productCache.evictAfterCommit(productEntity.getId());
+       productCatalogVersion.incrementOnCommit();
 
        log.info("Deleted product with ID: {}", productEntity.getId());
 
        final ProductDeletedEvent productDeletedEvent = new ProductDeletedEvent(id, LocalDateTime.now(), ProductAction.DELETED, tenantId);
        final String kafkaKey = eventKeyResolver.resolveProductKey(tenantId, id);
-       productEventPublisher.publishProductDeleted(kafkaKey, productDeletedEvent);
-       log.info("Published ProductDeletedEvent for kafkaKey: {}", kafkaKey);
+       afterCommitExecutor.execute(() -> {
+           productEventPublisher.publishProductDeleted(kafkaKey, productDeletedEvent);
+           log.info("Published ProductDeletedEvent for kafkaKey: {}", kafkaKey);
+       });
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return productCatalogVersion.currentVersion();
+    }
+
+    @Override
+    public Page<Product> getAllProducts(final long catalogVersion, final Pageable pageable) {
+        return productPageCache.getPage(catalogVersion, pageable,
+                productPageable -> productRepository.findAll(productPageable).map(productMapper::toDomain));
+    }
+
+    @Override
+    public String getProductPageETag(final long catalogVersion, final Pageable pageable) {
+        return productETagResolver.resolveCatalogPageETag(catalogVersion, pageable);
+    }
+
+    @Override
+    @Transactional
+    public ProductBulkDeleteResult deleteProducts(final ProductBulkDeleteDto productBulkDeleteDto, final boolean dryRun) {
+        final boolean deleteByIds = Objects.nonNull(productBulkDeleteDto.ids()) && !productBulkDeleteDto.ids().isEmpty();
+        final boolean deleteByFilter = Objects.nonNull(productBulkDeleteDto.category()) || Objects.nonNull(productBulkDeleteDto.unit());
+        if (deleteByIds == deleteByFilter) {
+            throw new IllegalArgumentException("Either ids or a category/unit filter must be provided");
+        }
+        log.info("Bulk deleting products. ids={}, category={}, unit={}, dryRun={}", deleteByIds ? productBulkDeleteDto.ids().size() : 0,
+                productBulkDeleteDto.category(), productBulkDeleteDto.unit(), dryRun);
+
+        final Set<String> requestedIds = deleteByIds ? new LinkedHashSet<>(productBulkDeleteDto.ids()) : Set.of();
+        if (dryRun) {
+            final long matchingProducts = deleteByIds
+                    ? productRepository.countByIdIn(requestedIds)
+                    : productRepository.countByFilter(productBulkDeleteDto.category(), productBulkDeleteDto.unit());
+            return new ProductBulkDeleteResult(true, matchingProducts, matchingProducts > MAX_BULK_DELETE_SIZE, List.of());
+        }
+
+        final List<ProductEntity> deletedProducts = deleteByIds
+                ? productRepository.deleteAllByIdsReturning(requestedIds)
+                : productRepository.deleteByFilterReturning(productBulkDeleteDto.category(), productBulkDeleteDto.unit(), MAX_BULK_DELETE_SIZE);
+        productHistoryService.saveProductHistories(deletedProducts, ProductAction.DELETED, tenantId);
+        log.info("Deleted {} products in bulk", deletedProducts.size());
+
+        final List<String> deletedIds = deletedProducts.stream().map(ProductEntity::getId).toList();
+        final LocalDateTime deletedAt = LocalDateTime.now();
+        final Map<String, ProductDeletedEvent> productDeletedEventsByKafkaKey = new LinkedHashMap<>();
+        deletedIds.forEach(deletedId -> productDeletedEventsByKafkaKey.put(eventKeyResolver.resolveProductKey(tenantId, deletedId),
+                new ProductDeletedEvent(deletedId, deletedAt, ProductAction.DELETED, tenantId)));
+        publishDeletedAfterCommit(productDeletedEventsByKafkaKey);
+        productCache.evictAllAfterCommit(deletedIds);
+        if (!deletedIds.isEmpty()) {
+            productCatalogVersion.incrementOnCommit();
+        }
+
+        final boolean hasMore = !deleteByIds && deletedIds.size() == MAX_BULK_DELETE_SIZE;
+        return new ProductBulkDeleteResult(false, deletedIds.size(), hasMore, deletedIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllProductsProjected(final Pageable pageable, final String fields) {
+        final List<ProductField> productFields = productFieldsResolver.resolveFields(fields);
+        return productRepository.findAllProjected(productFields, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<Product> getAllProducts(final Pageable pageable) {
-        final Page<ProductEntity> productEntities = productRepository.findAll(pageable);
-        return productEntities.map(productMapper::toDomain);
+    public ProductSlicePage getProductSlice(final Pageable pageable, final ProductTotalMode totalMode) {
+        final Slice<ProductEntity> productEntities = productRepository.findAllBy(pageable);
+        final List<Product> products = productEntities.map(productMapper::toDomain).getContent();
+
+        final Long totalElements = switch (totalMode) {
+            case NONE -> null;
+            case EXACT -> productRepository.count();
+            case APPROXIMATE -> estimateProductCount();
+        };
+
+        return new ProductSlicePage(products, pageable.getPageNumber(), pageable.getPageSize(),
+                productEntities.hasNext(), totalMode, totalElements);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public ProductCursorPage getProductsByCursor(final ProductSortKey sortKey, final Sort.Direction direction,
+                                                 final String cursor, final int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        final Optional<ProductCursor> productCursor = Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(productCursorCodec::decode);
+
+        if (productCursor.isPresent() && (productCursor.get().sortKey() != sortKey || productCursor.get().direction() != direction)) {
+            throw new IllegalArgumentException("Cursor was issued for sortBy=" + productCursor.get().sortKey()
+                    + " and direction=" + productCursor.get().direction());
+        }
+
+        final Comparable<?> lastValue = productCursor.map(value -> sortKey.parseValue(value.value())).orElse(null);
+        final String lastId = productCursor.map(ProductCursor::id).orElse(null);
+        final List<ProductEntity> productEntities = productRepository.findKeysetPage(sortKey, direction, lastValue, lastId, size + 1);
+
+        final boolean hasNext = productEntities.size() > size;
+        final List<ProductEntity> pageEntities = hasNext ? productEntities.subList(0, size) : productEntities;
+        final String nextCursor = hasNext
+                ? productCursorCodec.encode(toCursor(sortKey, direction, pageEntities.getLast()))
+                : null;
+
+        final List<Product> products = pageEntities.stream().map(productMapper::toDomain).toList();
+        return new ProductCursorPage(products, size, hasNext, nextCursor);
+    }
+
+    @Override
     public Optional<Product> getProductById(final String id) {
-        return productRepository.findById(id).map(productMapper::toDomain);
+        return productCache.getProductById(id, productId -> productRepository.findById(productId).map(productMapper::toDomain));
+    }
+
+    @Override
+    public Optional<String> getProductETag(final String id) {
+        final Optional<Long> version = Optional.ofNullable(productCache.getPresentProducts(List.of(id)).get(id))
+                .map(Product::version)
+                .or(() -> productRepository.findVersionById(id));
+        return version.map(productVersion -> productETagResolver.resolveProductETag(id, productVersion));
+    }
+
+    @Override
+    public Optional<Product> getProductByArticleNumber(final String articleNumber) {
+        return productCache.getProductByArticleNumber(articleNumber, productRepository::findIdByArticleNumber,
+                productId -> productRepository.findById(productId).map(productMapper::toDomain));
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getProductByIdProjected(final String id, final String fields) {
+        return getProductsByIdsProjected(List.of(id), fields).products().stream().findFirst();
+    }
+
+    @Override
+    public ProductBatchResult<Product> getProductsByIds(final List<String> ids) {
+        final Set<String> requestedIds = new LinkedHashSet<>(ids);
+        final Map<String, Product> productsById = productCache.getProductsByIds(requestedIds, this::loadProductsByIds);
+        return toBatchResult(requestedIds, productsById);
+    }
+
+    @Override
+    public ProductBatchResult<Map<String, Object>> getProductsByIdsProjected(final List<String> ids, final String fields) {
+        final List<ProductField> productFields = productFieldsResolver.resolveFields(fields);
+        final Set<String> requestedIds = new LinkedHashSet<>(ids);
+
+        final Map<String, Map<String, Object>> viewsById = new HashMap<>();
+        productCache.getPresentProducts(requestedIds)
+                .forEach((productId, product) -> viewsById.put(productId, toView(product, productFields)));
+
+        final List<String> uncachedIds = requestedIds.stream().filter(id -> !viewsById.containsKey(id)).toList();
+        productRepository.findProjectedByIds(productFields, uncachedIds)
+                .forEach(view -> viewsById.put((String) view.get(ProductField.ID.getFieldName()), view));
+
+        return toBatchResult(requestedIds, viewsById);
+    }
+
+    private <T> ProductBatchResult<T> toBatchResult(final Set<String> requestedIds, final Map<String, T> resolvedById) {
+        final List<T> products = requestedIds.stream()
+                .map(resolvedById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        final List<String> missingIds = requestedIds.stream()
+                .filter(id -> !resolvedById.containsKey(id))
+                .toList();
+
+        log.info("Resolved product batch. requested={}, found={}, missing={}", requestedIds.size(), products.size(), missingIds.size());
+        return new ProductBatchResult<>(products, missingIds);
+    }
+
+    private Map<String, Object> toView(final Product product, final List<ProductField> productFields) {
+        final Map<String, Object> view = new LinkedHashMap<>();
+        productFields.forEach(productField -> view.put(productField.getFieldName(), productField.extractValue(product)));
+        return view;
+    }
+
+    private Map<String, Product> loadProductsByIds(final Set<String> ids) {
+        return productRepository.findAllById(ids).stream()
+                .map(productMapper::toDomain)
+                .collect(Collectors.toMap(Product::id, Function.identity()));
+    }
+
+    private Long estimateProductCount() {
+        final Optional<Long> estimatedRowCount = productRepository.estimateRowCount(productSchema + "." + PRODUCTS_TABLE_NAME)
+                .filter(rowCount -> rowCount >= 0);
+        if (estimatedRowCount.isEmpty()) {
+            log.info("No table statistics for {}.{} yet, falling back to exact count", productSchema, PRODUCTS_TABLE_NAME);
+        }
+        return estimatedRowCount.orElseGet(productRepository::count);
+    }
+
+    private ProductCursor toCursor(final ProductSortKey sortKey, final Sort.Direction direction, final ProductEntity productEntity) {
+        return new ProductCursor(sortKey, direction, sortKey.extractValue(productEntity), productEntity.getId());
+    }
+
+    private Product createFromUpdate(final ProductToUpdateDto productToUpdateDto) {
+        log.warn("Product with ID {} does not exist (or no ID provided). It will be created.", productToUpdateDto.id());
+        final ProductToCreateDto productToCreateDto = productMapper.toCreateDto(productToUpdateDto);
+        productValidationService.validateProductToCreate(productToCreateDto);
+
+        final ProductEntity savedProduct = persistCreatedProduct(productMapper.toEntity(productToCreateDto));
+
+        final ProductUpsertedEvent productUpsertedEvent = productMapper.toEvent(savedProduct, ProductAction.CREATED, tenantId);
+        final String kafkaKey = eventKeyResolver.resolveProductKey(tenantId, savedProduct.getId());
+        publishUpsertedAfterCommit(kafkaKey, productUpsertedEvent);
+
+        log.info("Persisted product with ID: {} and scheduled {} event", savedProduct.getId(), ProductAction.CREATED);
+        productCache.evictAfterCommit(savedProduct.getId());
+        productCatalogVersion.incrementOnCommit();
+        return productMapper.toDomain(savedProduct);
+    }
+
+    private void releaseRequestedUniqueKeys(final List<ProductBatchOperationDto> updateOperations,
+                                            final Map<String, ProductEntity> productsById) {
+        final Map<String, String> requestingIdsByName = new HashMap<>();
+        final Map<String, String> requestingIdsByArticleNumber = new HashMap<>();
+        updateOperations.forEach(operation -> {
+            requestingIdsByName.put(operation.product().name(), operation.id());
+            requestingIdsByArticleNumber.put(operation.product().articleNumber(), operation.id());
+        });
+
+        final List<String> nameIds = new ArrayList<>();
+        final List<String> articleNumberIds = new ArrayList<>();
+        updateOperations.forEach(operation -> {
+            final ProductEntity productEntity = productsById.get(operation.id());
+            final String nameRequestedBy = requestingIdsByName.get(productEntity.getName());
+            if (Objects.nonNull(nameRequestedBy) && !nameRequestedBy.equals(productEntity.getId())) {
+                nameIds.add(productEntity.getId());
+            }
+            final String articleNumberRequestedBy = requestingIdsByArticleNumber.get(productEntity.getArticleNumber());
+            if (Objects.nonNull(articleNumberRequestedBy) && !articleNumberRequestedBy.equals(productEntity.getId())) {
+                articleNumberIds.add(productEntity.getId());
+            }
+        });
+        if (!nameIds.isEmpty() || !articleNumberIds.isEmpty()) {
+            productRepository.releaseUniqueKeys(nameIds, articleNumberIds);
+        }
+    }
+
+    private void publishDeletedAfterCommit(final Map<String, ProductDeletedEvent> productDeletedEventsByKafkaKey) {
+        afterCommitExecutor.execute(() -> {
+            productDeletedEventsByKafkaKey.forEach(productEventPublisher::publishProductDeleted);
+            log.info("Published {} ProductDeletedEvents", productDeletedEventsByKafkaKey.size());
+        });
+    }
+
+    private void publishUpsertedAfterCommit(final Map<String, ProductUpsertedEvent> productUpsertedEventsByKafkaKey) {
+        afterCommitExecutor.execute(() -> {
+            productUpsertedEventsByKafkaKey.values().forEach(productUpsertedEvent ->
+                    productKeyFilter.put(productUpsertedEvent.name(), productUpsertedEvent.articleNumber()));
+            productUpsertedEventsByKafkaKey.forEach(productEventPublisher::publishProductUpserted);
+            log.info("Published {} ProductUpsertedEvents", productUpsertedEventsByKafkaKey.size());
+        });
+    }
+
+    private void publishUpsertedAfterCommit(final String kafkaKey, final ProductUpsertedEvent productUpsertedEvent) {
+        afterCommitExecutor.execute(() -> {
+            productKeyFilter.put(productUpsertedEvent.name(), productUpsertedEvent.articleNumber());
+            productEventPublisher.publishProductUpserted(kafkaKey, productUpsertedEvent);
+            log.info("Published ProductUpsertedEvent for kafkaKey: {}", kafkaKey);
+        });
     }
 }
@@ -2,6 +2,7 @@ package de.resume.inventory.management.system.productservice.services.advices;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -51,6 +52,13 @@ public class ProblemDetailService {
         return problemDetail;
     }
 
+    public ProblemDetail buildProductBatchValidation(final String message, final Map<Integer, List<String>> validationErrorsByIndex) {
+        final ProblemDetail problemDetail = base(HttpStatus.BAD_REQUEST, "Product batch validation failed", "validation-error");
+        problemDetail.setDetail(message);
+        problemDetail.setProperty("errors", new TreeMap<>(validationErrorsByIndex));
+        return problemDetail;
+    }
+
     public ProblemDetail buildFromUnreadableMessage(final HttpMessageNotReadableException exception) {
         final Throwable cause = exception.getCause();
         if (cause instanceof final InvalidFormatException invalidFormatException
@@ -85,8 +93,18 @@ public class ProblemDetailService {
     }
 
     public ProblemDetail buildDataIntegrityViolation(final org.springframework.dao.DataIntegrityViolationException exception) {
+        return buildDataIntegrityViolation(exception, null);
+    }
+
+    public ProblemDetail buildDataIntegrityViolation(final org.springframework.dao.DataIntegrityViolationException exception,
+                                                     final ProductField violatedField) {
         final ProblemDetail problemDetail = base(HttpStatus.CONFLICT, "Data integrity violation", "conflict");
-        problemDetail.setDetail("Unique or foreign key constraint violated.");
+        if (violatedField != null) {
+            problemDetail.setDetail("Value of '" + violatedField.getFieldName() + "' is already taken.");
+            problemDetail.setProperty("field", violatedField.getFieldName());
+        } else {
+            problemDetail.setDetail("Unique or foreign key constraint violated.");
+        }
         final String rootCauseMessage = Optional.ofNullable(exception.getRootCause()).map(Throwable::getMessage).orElse(null);
         if (rootCauseMessage != null) {
             problemDetail.setProperty("rootCause", rootCauseMessage);
@@ -94,6 +112,24 @@ public class ProblemDetailService {
         return problemDetail;
     }
 
+    public ProblemDetail buildPreconditionFailed(final String detail) {
+        final ProblemDetail problemDetail = base(HttpStatus.PRECONDITION_FAILED, "Precondition failed", "precondition-failed");
+        problemDetail.setDetail(detail);
+        return problemDetail;
+    }
+
+    public ProblemDetail buildIdempotencyInProgress(final String detail) {
+        final ProblemDetail problemDetail = base(HttpStatus.CONFLICT, "Request already in progress", "idempotency-in-progress");
+        problemDetail.setDetail(detail);
+        return problemDetail;
+    }
+
+    public ProblemDetail buildIdempotencyKeyReused(final String detail) {
+        final ProblemDetail problemDetail = base(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key reused", "idempotency-key-reused");
+        problemDetail.setDetail(detail);
+        return problemDetail;
+    }
+
     public ProblemDetail buildNotFound(final String title, final String detail) {
         final ProblemDetail problemDetail = base(HttpStatus.NOT_FOUND, title, "not-found");
         problemDetail.setDetail(detail);
@@ -0,0 +1,23 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public interface ProductCache {
+    Optional<Product> getProductById(final String id, final Function<String, Optional<Product>> loader);
+    Optional<Product> getProductByArticleNumber(final String articleNumber,
+                                                final Function<String, Optional<String>> idLoader,
+                                                final Function<String, Optional<Product>> loader);
+    Map<String, Product> getProductsByIds(final Collection<String> ids, final Function<Set<String>, Map<String, Product>> loader);
+    Map<String, Product> getPresentProducts(final Collection<String> ids);
+    void putAfterCommit(final Supplier<Product> productSupplier);
+    void evictAfterCommit(final String id);
+    void evictAllAfterCommit(final Collection<String> ids);
+    void evict(final String id);
+}
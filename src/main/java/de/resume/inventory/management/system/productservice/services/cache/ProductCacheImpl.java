@@ -0,0 +1,187 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.resume.inventory.management.system.productservice.config.ProductCacheConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.services.listener.ProductInvalidationReadiness;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+class ProductCacheImpl implements ProductCache {
+
+    private static final String CACHE_NAME = "products";
+    private static final String ARTICLE_CACHE_NAME = "product-ids-by-article-number";
+
+    private final ProductCacheConfiguration productCacheConfiguration;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final ProductInvalidationReadiness productInvalidationReadiness;
+    private final Cache<String, Product> productsById;
+    private final Cache<String, String> productIdsByArticleNumber;
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    ProductCacheImpl(final ProductCacheConfiguration productCacheConfiguration,
+                     final AfterCommitExecutor afterCommitExecutor,
+                     final ProductInvalidationReadiness productInvalidationReadiness,
+                     final MeterRegistry meterRegistry) {
+        this.productCacheConfiguration = productCacheConfiguration;
+        this.afterCommitExecutor = afterCommitExecutor;
+        this.productInvalidationReadiness = productInvalidationReadiness;
+        this.productsById = Caffeine.newBuilder()
+                .maximumSize(productCacheConfiguration.getMaximumSize())
+                .expireAfterWrite(productCacheConfiguration.getTimeToLive())
+                .recordStats()
+                .build();
+        this.productIdsByArticleNumber = Caffeine.newBuilder()
+                .maximumSize(productCacheConfiguration.getMaximumSize())
+                .expireAfterWrite(productCacheConfiguration.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, productsById, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, productIdsByArticleNumber, ARTICLE_CACHE_NAME);
+        log.info("Product cache initialized. enabled={}, maximumSize={}, timeToLive={}",
+                productCacheConfiguration.isEnabled(), productCacheConfiguration.getMaximumSize(),
+                productCacheConfiguration.getTimeToLive());
+    }
+
+    @Override
+    public Optional<Product> getProductById(final String id, final Function<String, Optional<Product>> loader) {
+        if (!isActive() || Objects.isNull(id)) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(productsById.get(id, productId -> loader.apply(productId).orElse(null)));
+    }
+
+    @Override
+    public Optional<Product> getProductByArticleNumber(final String articleNumber,
+                                                       final Function<String, Optional<String>> idLoader,
+                                                       final Function<String, Optional<Product>> loader) {
+        if (!isActive() || Objects.isNull(articleNumber)) {
+            return idLoader.apply(articleNumber).flatMap(loader);
+        }
+
+        final String cachedProductId = productIdsByArticleNumber.get(articleNumber, number -> idLoader.apply(number).orElse(null));
+        if (Objects.isNull(cachedProductId)) {
+            return Optional.empty();
+        }
+
+        final Optional<Product> product = loadMatchingProduct(cachedProductId, articleNumber, loader);
+        if (product.isPresent()) {
+            return product;
+        }
+
+        log.debug("Stale article number mapping, reloading. articleNumber={}, productId={}", articleNumber, cachedProductId);
+        productIdsByArticleNumber.asMap().remove(articleNumber, cachedProductId);
+        evict(cachedProductId);
+        return idLoader.apply(articleNumber).flatMap(productId -> {
+            final Optional<Product> reloadedProduct = loadMatchingProduct(productId, articleNumber, loader);
+            reloadedProduct.ifPresent(matchingProduct -> productIdsByArticleNumber.put(articleNumber, productId));
+            return reloadedProduct;
+        });
+    }
+
+    @Override
+    public Map<String, Product> getProductsByIds(final Collection<String> ids,
+                                                 final Function<Set<String>, Map<String, Product>> loader) {
+        if (!isActive()) {
+            return loader.apply(Set.copyOf(ids));
+        }
+        final Map<String, Product> presentProducts = productsById.getAllPresent(ids);
+        final Set<String> missingIds = ids.stream()
+                .filter(id -> !presentProducts.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return presentProducts;
+        }
+
+        final long generation = evictionGeneration.get();
+        final Map<String, Product> loadedProducts = loader.apply(missingIds);
+        loadedProducts.forEach((id, product) -> productsById.asMap().compute(id, (productId, cachedProduct) ->
+                Objects.nonNull(cachedProduct) || evictionGeneration.get() != generation ? cachedProduct : product));
+
+        final Map<String, Product> products = new HashMap<>(presentProducts);
+        products.putAll(loadedProducts);
+        return products;
+    }
+
+    @Override
+    public Map<String, Product> getPresentProducts(final Collection<String> ids) {
+        if (!isActive()) {
+            return Map.of();
+        }
+        return productsById.getAllPresent(ids);
+    }
+
+    @Override
+    public void putAfterCommit(final Supplier<Product> productSupplier) {
+        if (!isActive()) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> {
+            final Product product = productSupplier.get();
+            if (Objects.isNull(product) || Objects.isNull(product.id())) {
+                return;
+            }
+            log.debug("Caching product after commit. id={}", product.id());
+            productsById.put(product.id(), product);
+            if (Objects.nonNull(product.articleNumber())) {
+                productIdsByArticleNumber.put(product.articleNumber(), product.id());
+            }
+        });
+    }
+
+    @Override
+    public void evictAfterCommit(final String id) {
+        if (!isActive() || Objects.isNull(id)) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> evict(id));
+    }
+
+    @Override
+    public void evictAllAfterCommit(final Collection<String> ids) {
+        if (!isActive() || ids.isEmpty()) {
+            return;
+        }
+        afterCommitExecutor.execute(() -> ids.forEach(this::evict));
+    }
+
+    @Override
+    public void evict(final String id) {
+        if (Objects.isNull(id)) {
+            return;
+        }
+        log.debug("Evicting product from cache. id={}", id);
+        evictionGeneration.incrementAndGet();
+        Optional.ofNullable(productsById.asMap().remove(id))
+                .map(Product::articleNumber)
+                .ifPresent(articleNumber -> productIdsByArticleNumber.asMap().remove(articleNumber, id));
+    }
+
+    private boolean isActive() {
+        return productCacheConfiguration.isEnabled()
+                && (!productCacheConfiguration.getInvalidation().isEnabled() || productInvalidationReadiness.isReady());
+    }
+
+    private Optional<Product> loadMatchingProduct(final String productId, final String articleNumber,
+                                                  final Function<String, Optional<Product>> loader) {
+        return getProductById(productId, loader)
+                .filter(product -> articleNumber.equals(product.articleNumber()));
+    }
+}
@@ -0,0 +1,6 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+public interface ProductCatalogVersion {
+    long currentVersion();
+    void incrementOnCommit();
+}
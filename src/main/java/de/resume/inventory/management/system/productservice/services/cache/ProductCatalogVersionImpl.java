@@ -0,0 +1,66 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+class ProductCatalogVersionImpl implements ProductCatalogVersion {
+
+    private static final String CATALOG_VERSION_METRIC = "product.catalog.version";
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong lastObservedVersion = new AtomicLong();
+
+    ProductCatalogVersionImpl(final ProductRepository productRepository,
+                              final PlatformTransactionManager transactionManager,
+                              final MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder(CATALOG_VERSION_METRIC, lastObservedVersion, AtomicLong::get)
+                .description("Last observed shared product catalog version, incremented by every product change")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void createSequence() {
+        transactionTemplate.executeWithoutResult(status -> productRepository.createCatalogVersionSequence());
+    }
+
+    @Override
+    public long currentVersion() {
+        final long currentVersion = productRepository.findCatalogVersion();
+        lastObservedVersion.set(currentVersion);
+        return currentVersion;
+    }
+
+    @Override
+    public void incrementOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                increment();
+            }
+        });
+    }
+
+    private void increment() {
+        final long nextVersion = productRepository.nextCatalogVersion();
+        log.debug("Product catalog version incremented. version={}", nextVersion);
+    }
+}
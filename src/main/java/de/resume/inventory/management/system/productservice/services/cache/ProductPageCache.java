@@ -0,0 +1,11 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.function.Function;
+
+public interface ProductPageCache {
+    Page<Product> getPage(final long catalogVersion, final Pageable pageable, final Function<Pageable, Page<Product>> loader);
+}
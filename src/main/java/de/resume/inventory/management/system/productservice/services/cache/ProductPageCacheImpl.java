@@ -0,0 +1,52 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.resume.inventory.management.system.productservice.config.ProductCacheConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Function;
+
+@Slf4j
+@Service
+class ProductPageCacheImpl implements ProductPageCache {
+
+    private static final String CACHE_NAME = "product-pages";
+
+    private final ProductCacheConfiguration productCacheConfiguration;
+    private final Cache<PageKey, Page<Product>> pagesByKey;
+
+    ProductPageCacheImpl(final ProductCacheConfiguration productCacheConfiguration, final MeterRegistry meterRegistry) {
+        this.productCacheConfiguration = productCacheConfiguration;
+        this.pagesByKey = Caffeine.newBuilder()
+                .maximumSize(productCacheConfiguration.getPages().getMaximumSize())
+                .expireAfterWrite(productCacheConfiguration.getPages().getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pagesByKey, CACHE_NAME);
+        log.info("Product page cache initialized. enabled={}, maximumSize={}, timeToLive={}",
+                isEnabled(), productCacheConfiguration.getPages().getMaximumSize(),
+                productCacheConfiguration.getPages().getTimeToLive());
+    }
+
+    @Override
+    public Page<Product> getPage(final long catalogVersion, final Pageable pageable, final Function<Pageable, Page<Product>> loader) {
+        if (!isEnabled() || pageable.isUnpaged()) {
+            return loader.apply(pageable);
+        }
+        final PageKey pageKey = new PageKey(catalogVersion, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        return pagesByKey.get(pageKey, key -> loader.apply(pageable));
+    }
+
+    private boolean isEnabled() {
+        return productCacheConfiguration.isEnabled() && productCacheConfiguration.getPages().isEnabled();
+    }
+
+    private record PageKey(long catalogVersion, int pageNumber, int pageSize, String sort) { }
+}
@@ -0,0 +1,8 @@
+package de.resume.inventory.management.system.productservice.services.cursor;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursor;
+
+public interface ProductCursorCodec {
+    String encode(final ProductCursor productCursor);
+    ProductCursor decode(final String cursor);
+}
@@ -0,0 +1,46 @@
+package de.resume.inventory.management.system.productservice.services.cursor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+class ProductCursorCodecImpl implements ProductCursorCodec {
+
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String encode(final ProductCursor productCursor) {
+        try {
+            final byte[] cursorBytes = objectMapper.writeValueAsBytes(productCursor);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(cursorBytes);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException("Could not encode cursor", exception);
+        }
+    }
+
+    @Override
+    public ProductCursor decode(final String cursor) {
+        try {
+            final byte[] cursorBytes = Base64.getUrlDecoder().decode(cursor);
+            final ProductCursor productCursor = objectMapper.readValue(cursorBytes, ProductCursor.class);
+            if (Objects.isNull(productCursor) || Objects.isNull(productCursor.sortKey()) || Objects.isNull(productCursor.direction())
+                    || Objects.isNull(productCursor.value()) || Objects.isNull(productCursor.id())) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            productCursor.sortKey().parseValue(productCursor.value());
+            return productCursor;
+        } catch (final IOException | RuntimeException exception) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, exception);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package de.resume.inventory.management.system.productservice.services.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ProductExportService {
+    long exportProducts(final OutputStream outputStream) throws IOException;
+}
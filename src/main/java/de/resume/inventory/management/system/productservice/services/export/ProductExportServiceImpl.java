@@ -0,0 +1,63 @@
+package de.resume.inventory.management.system.productservice.services.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class ProductExportServiceImpl implements ProductExportService {
+
+    private static final char RECORD_SEPARATOR = '\n';
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProducts(final OutputStream outputStream) throws IOException {
+        final long startedAt = System.nanoTime();
+        long exportedProducts = 0;
+        final ObjectWriter productWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<ProductEntity> productEntities = productRepository.streamAll();
+             JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .setRootValueSeparator(null)) {
+            final Iterator<ProductEntity> productIterator = productEntities.iterator();
+            while (productIterator.hasNext()) {
+                final ProductEntity productEntity = productIterator.next();
+                productWriter.writeValue(jsonGenerator, productMapper.toDomain(productEntity));
+                jsonGenerator.writeRaw(RECORD_SEPARATOR);
+                entityManager.detach(productEntity);
+
+                exportedProducts++;
+                if (exportedProducts % PROGRESS_LOG_INTERVAL == 0) {
+                    log.info("Product export in progress. exported={}", exportedProducts);
+                }
+            }
+            jsonGenerator.flush();
+        }
+
+        log.info("Product export finished. exported={}, durationMs={}", exportedProducts, (System.nanoTime() - startedAt) / 1_000_000);
+        return exportedProducts;
+    }
+}
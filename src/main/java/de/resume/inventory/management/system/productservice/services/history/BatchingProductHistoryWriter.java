@@ -0,0 +1,180 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "product.history", name = "write-mode", havingValue = "ASYNC")
+class BatchingProductHistoryWriter implements ProductHistoryWriter {
+
+    private static final String ENTRIES_METRIC = "product.history.entries";
+    private static final String QUEUE_SIZE_METRIC = "product.history.queue.size";
+    private static final String FLUSH_METRIC = "product.history.flush";
+
+    private final ProductHistoryConfiguration.Async asyncConfiguration;
+    private final ProductHistoryRepository productHistoryRepository;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ProductHistoryEntity> queue;
+    private final Counter flushedEntries;
+    private final Counter callerWrittenEntries;
+    private final Counter failedEntries;
+    private final Timer flushTimer;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    BatchingProductHistoryWriter(final ProductHistoryConfiguration productHistoryConfiguration,
+                                 final ProductHistoryRepository productHistoryRepository,
+                                 final AfterCommitExecutor afterCommitExecutor,
+                                 final PlatformTransactionManager transactionManager,
+                                 final MeterRegistry meterRegistry) {
+        this.asyncConfiguration = productHistoryConfiguration.getAsync();
+        this.productHistoryRepository = productHistoryRepository;
+        this.afterCommitExecutor = afterCommitExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(asyncConfiguration.getQueueCapacity());
+        this.flushedEntries = Counter.builder(ENTRIES_METRIC).tag("result", "flushed").register(meterRegistry);
+        this.callerWrittenEntries = Counter.builder(ENTRIES_METRIC).tag("result", "caller").register(meterRegistry);
+        this.failedEntries = Counter.builder(ENTRIES_METRIC).tag("result", "failed").register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_METRIC)
+                .description("Time to write one batch of product history entries")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+                .description("Product history entries waiting to be written")
+                .register(meterRegistry);
+        this.writerThread = Thread.ofPlatform().name("product-history-writer").daemon().start(this::drainQueue);
+        log.info("Product history writer initialized. mode=ASYNC, queueCapacity={}, batchSize={}, flushInterval={}, enqueueAfterCommit={}",
+                asyncConfiguration.getQueueCapacity(), asyncConfiguration.getBatchSize(), asyncConfiguration.getFlushInterval(),
+                asyncConfiguration.isEnqueueAfterCommit());
+    }
+
+    @Override
+    public void write(final ProductHistoryEntity productHistoryEntity) {
+        writeAll(List.of(productHistoryEntity));
+    }
+
+    @Override
+    public void writeAll(final List<ProductHistoryEntity> productHistoryEntities) {
+        if (productHistoryEntities.isEmpty()) {
+            return;
+        }
+        if (asyncConfiguration.isEnqueueAfterCommit()) {
+            afterCommitExecutor.execute(() -> enqueue(productHistoryEntities, true));
+        } else {
+            enqueue(productHistoryEntities, false);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(asyncConfiguration.getShutdownTimeout().toMillis());
+        if (writerThread.isAlive()) {
+            log.warn("Product history writer did not drain within {}. pendingEntries={}",
+                    asyncConfiguration.getShutdownTimeout(), queue.size());
+            return;
+        }
+        log.info("Product history writer stopped");
+    }
+
+    private void enqueue(final List<ProductHistoryEntity> productHistoryEntities, final boolean committed) {
+        int enqueued = 0;
+        while (enqueued < productHistoryEntities.size() && running && offer(productHistoryEntities.get(enqueued))) {
+            enqueued++;
+        }
+        if (enqueued < productHistoryEntities.size()) {
+            writeInCaller(productHistoryEntities.subList(enqueued, productHistoryEntities.size()), committed);
+        }
+    }
+
+    private boolean offer(final ProductHistoryEntity productHistoryEntity) {
+        try {
+            return queue.offer(productHistoryEntity, asyncConfiguration.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeInCaller(final List<ProductHistoryEntity> productHistoryEntities, final boolean committed) {
+        log.warn("Product history queue saturated, writing {} entries in caller thread", productHistoryEntities.size());
+        if (committed) {
+            transactionTemplate.executeWithoutResult(status -> productHistoryRepository.saveAll(productHistoryEntities));
+        } else {
+            productHistoryRepository.saveAll(productHistoryEntities);
+        }
+        callerWrittenEntries.increment(productHistoryEntities.size());
+    }
+
+    private void drainQueue() {
+        final List<ProductHistoryEntity> batch = new ArrayList<>(asyncConfiguration.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (final InterruptedException exception) {
+                log.warn("Product history writer interrupted, draining remaining entries");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(final List<ProductHistoryEntity> batch) throws InterruptedException {
+        final long flushIntervalNanos = asyncConfiguration.getFlushInterval().toNanos();
+        final ProductHistoryEntity first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (Objects.isNull(first)) {
+            return;
+        }
+        batch.add(first);
+        final long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < asyncConfiguration.getBatchSize()) {
+            queue.drainTo(batch, asyncConfiguration.getBatchSize() - batch.size());
+            final long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= asyncConfiguration.getBatchSize() || remainingNanos <= 0 || !running) {
+                return;
+            }
+            final ProductHistoryEntity next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (Objects.isNull(next)) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<ProductHistoryEntity> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> productHistoryRepository.saveAll(batch)));
+            flushedEntries.increment(batch.size());
+            log.debug("Flushed {} product history entries", batch.size());
+        } catch (final RuntimeException exception) {
+            failedEntries.increment(batch.size());
+            log.error("Failed to write {} product history entries", batch.size(), exception);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+public interface ProductHistoryPartitionService {
+    void convertToPartitioned();
+    void maintainPartitions();
+}
@@ -0,0 +1,162 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductHistoryPartition;
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryRetentionAction;
+import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+class ProductHistoryPartitionServiceImpl implements ProductHistoryPartitionService {
+
+    private static final String PARTITION_NAME_PREFIX = "product_history_";
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final int LEGACY_BOUND_MONTHS = 2;
+
+    private final ProductHistoryConfiguration.Partitioning partitioningConfiguration;
+    private final ProductHistoryRepository productHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    ProductHistoryPartitionServiceImpl(final ProductHistoryConfiguration productHistoryConfiguration,
+                                       final ProductHistoryRepository productHistoryRepository,
+                                       final PlatformTransactionManager transactionManager) {
+        this.partitioningConfiguration = productHistoryConfiguration.getPartitioning();
+        this.productHistoryRepository = productHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        if (!partitioningConfiguration.isEnabled()) {
+            log.info("Product history partitioning disabled");
+            return;
+        }
+        if (!partitioningConfiguration.isConvertOnStartup()) {
+            convertIfEmpty();
+            maintainPartitions();
+            return;
+        }
+        Thread.ofPlatform().name("product-history-partitioning").daemon().start(() -> {
+            try {
+                convertToPartitioned();
+                maintainPartitions();
+            } catch (final RuntimeException exception) {
+                log.error("Failed to convert product_history to a partitioned table", exception);
+            }
+        });
+    }
+
+    @Override
+    public void convertToPartitioned() {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> productHistoryRepository.isPartitioned()))) {
+            log.info("product_history is already partitioned");
+            return;
+        }
+        final LocalDate legacyUpperBound = currentMonth().plusMonths(LEGACY_BOUND_MONTHS);
+        log.info("Preparing product_history for partitioning. legacyUpperBound={}", legacyUpperBound);
+        if (!productHistoryRepository.prepareLegacyPartition(legacyUpperBound)) {
+            log.info("product_history partitioning prepared by another instance, skipping");
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            productHistoryRepository.lockPartitionMaintenance();
+            if (productHistoryRepository.isPartitioned()) {
+                return;
+            }
+            final boolean legacyAttached = productHistoryRepository.convertToPartitioned(legacyUpperBound);
+            log.info("Converted product_history to a monthly range-partitioned table. legacyPartitionAttached={}, legacyUpperBound={}",
+                    legacyAttached, legacyUpperBound);
+        });
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${product.history.partitioning.maintenance-interval:12h}",
+            fixedDelayString = "${product.history.partitioning.maintenance-interval:12h}")
+    public void maintainPartitions() {
+        if (!partitioningConfiguration.isEnabled()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!productHistoryRepository.tryLockPartitionMaintenance()) {
+                log.info("Product history partition maintenance running on another instance, skipping");
+                return;
+            }
+            if (!productHistoryRepository.isPartitioned()) {
+                log.warn("product_history holds rows but is not partitioned, skipping partition maintenance. "
+                        + "Set product.history.partitioning.convert-on-startup=true to convert it");
+                return;
+            }
+            final List<ProductHistoryPartition> partitions = productHistoryRepository.findPartitions();
+            premakePartitions(partitions);
+            applyRetention(partitions);
+        });
+    }
+
+    private void convertIfEmpty() {
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    !productHistoryRepository.isPartitioned() && productHistoryRepository.isHistoryEmpty()))) {
+                log.info("product_history is empty, converting to a partitioned table");
+                convertToPartitioned();
+            }
+        } catch (final RuntimeException exception) {
+            log.error("Failed to convert empty product_history to a partitioned table", exception);
+        }
+    }
+
+    private void premakePartitions(final List<ProductHistoryPartition> partitions) {
+        final LocalDate currentMonth = currentMonth();
+        for (int monthOffset = 0; monthOffset <= partitioningConfiguration.getPremakeMonths(); monthOffset++) {
+            final LocalDate lowerBound = currentMonth.plusMonths(monthOffset);
+            final LocalDate upperBound = lowerBound.plusMonths(1);
+            if (partitions.stream().anyMatch(partition -> overlaps(partition, lowerBound, upperBound))) {
+                continue;
+            }
+            final String partitionName = PARTITION_NAME_PREFIX + lowerBound.format(PARTITION_SUFFIX_FORMAT);
+            productHistoryRepository.createPartition(partitionName, lowerBound, upperBound);
+            log.info("Created product history partition {} for [{}, {})", partitionName, lowerBound, upperBound);
+        }
+    }
+
+    private void applyRetention(final List<ProductHistoryPartition> partitions) {
+        final ProductHistoryRetentionAction retentionAction = partitioningConfiguration.getRetentionAction();
+        if (retentionAction == ProductHistoryRetentionAction.NONE) {
+            return;
+        }
+        final LocalDate cutoff = currentMonth().minusMonths(Math.max(partitioningConfiguration.getRetentionMonths(), 1));
+        partitions.stream()
+                .filter(partition -> !partition.defaultPartition())
+                .filter(partition -> Objects.nonNull(partition.upperBound()) && !partition.upperBound().isAfter(cutoff))
+                .forEach(partition -> {
+                    if (retentionAction == ProductHistoryRetentionAction.DROP) {
+                        productHistoryRepository.dropPartition(partition.name());
+                    } else {
+                        productHistoryRepository.detachPartition(partition.name());
+                    }
+                    log.info("Applied retention to product history partition. partition={}, action={}, upperBound={}, cutoff={}",
+                            partition.name(), retentionAction, partition.upperBound(), cutoff);
+                });
+    }
+
+    private boolean overlaps(final ProductHistoryPartition partition, final LocalDate lowerBound, final LocalDate upperBound) {
+        return !partition.defaultPartition()
+                && (Objects.isNull(partition.lowerBound()) || partition.lowerBound().isBefore(upperBound))
+                && (Objects.isNull(partition.upperBound()) || partition.upperBound().isAfter(lowerBound));
+    }
+
+    private LocalDate currentMonth() {
+        return LocalDate.now().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,10 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+
+import java.util.List;
+
+public interface ProductHistoryWriter {
+    void write(final ProductHistoryEntity productHistoryEntity);
+    void writeAll(final List<ProductHistoryEntity> productHistoryEntities);
+}
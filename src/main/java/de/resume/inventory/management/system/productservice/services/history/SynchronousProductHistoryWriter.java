@@ -0,0 +1,33 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnExpression("!'${product.history.write-mode:SYNCHRONOUS}'.equalsIgnoreCase('ASYNC')")
+class SynchronousProductHistoryWriter implements ProductHistoryWriter {
+
+    private final ProductHistoryRepository productHistoryRepository;
+
+    @Override
+    @Transactional
+    public void write(final ProductHistoryEntity productHistoryEntity) {
+        log.info("Persisting product history entity: {}", productHistoryEntity);
+        productHistoryRepository.save(productHistoryEntity);
+    }
+
+    @Override
+    @Transactional
+    public void writeAll(final List<ProductHistoryEntity> productHistoryEntities) {
+        productHistoryRepository.saveAll(productHistoryEntities);
+    }
+}
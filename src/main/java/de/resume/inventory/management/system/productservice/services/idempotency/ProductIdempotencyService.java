@@ -0,0 +1,11 @@
+package de.resume.inventory.management.system.productservice.services.idempotency;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotencyClaim;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotentResponse;
+
+public interface ProductIdempotencyService {
+    ProductIdempotencyClaim claim(final String idempotencyKey, final String requestFingerprint);
+    void complete(final String idempotencyKey, final ProductIdempotentResponse response);
+    void release(final String idempotencyKey);
+    void purgeExpired();
+}
@@ -0,0 +1,179 @@
+package de.resume.inventory.management.system.productservice.services.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import de.resume.inventory.management.system.productservice.config.ProductIdempotencyConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotencyClaim;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotentResponse;
+import de.resume.inventory.management.system.productservice.models.entities.ProductIdempotencyKeyEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyClaimStatus;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyStatus;
+import de.resume.inventory.management.system.productservice.repositories.ProductIdempotencyKeyRepository;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+class ProductIdempotencyServiceImpl implements ProductIdempotencyService {
+
+    private static final String CACHE_NAME = "product-idempotency";
+    private static final TypeReference<Map<String, List<String>>> HEADERS_TYPE = new TypeReference<>() { };
+
+    private final ProductIdempotencyConfiguration productIdempotencyConfiguration;
+    private final ProductIdempotencyKeyRepository productIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final Cache<String, CompletedResponse> completedResponses;
+
+    ProductIdempotencyServiceImpl(final ProductIdempotencyConfiguration productIdempotencyConfiguration,
+                                  final ProductIdempotencyKeyRepository productIdempotencyKeyRepository,
+                                  final ObjectMapper objectMapper,
+                                  final AfterCommitExecutor afterCommitExecutor,
+                                  final MeterRegistry meterRegistry) {
+        this.productIdempotencyConfiguration = productIdempotencyConfiguration;
+        this.productIdempotencyKeyRepository = productIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.afterCommitExecutor = afterCommitExecutor;
+        this.completedResponses = Caffeine.newBuilder()
+                .maximumWeight(productIdempotencyConfiguration.getMaximumWeight().toBytes())
+                .weigher((String idempotencyKey, CompletedResponse completedResponse) -> weigh(idempotencyKey, completedResponse))
+                .expireAfter(Expiry.writing((String idempotencyKey, CompletedResponse completedResponse) ->
+                        remainingTimeToLive(completedResponse.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completedResponses, CACHE_NAME);
+        log.info("Product idempotency store initialized. enabled={}, maximumWeight={}, maxCachedBodySize={}, timeToLive={}",
+                productIdempotencyConfiguration.isEnabled(), productIdempotencyConfiguration.getMaximumWeight(),
+                productIdempotencyConfiguration.getMaxCachedBodySize(), productIdempotencyConfiguration.getTimeToLive());
+    }
+
+    @Override
+    @Transactional
+    public ProductIdempotencyClaim claim(final String idempotencyKey, final String requestFingerprint) {
+        final CompletedResponse completedResponse = completedResponses.getIfPresent(idempotencyKey);
+        if (Objects.nonNull(completedResponse)) {
+            log.debug("Idempotency key served from local store. key={}", idempotencyKey);
+            return toReplayClaim(completedResponse.response(), requestFingerprint);
+        }
+
+        final LocalDateTime claimedAt = LocalDateTime.now();
+        final LocalDateTime leaseExpiresAt = claimedAt.plus(productIdempotencyConfiguration.getInProgressTimeout());
+        if (productIdempotencyKeyRepository.claim(idempotencyKey, requestFingerprint, claimedAt, leaseExpiresAt) == 1) {
+            log.debug("Idempotency key claimed. key={}", idempotencyKey);
+            return ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.ACQUIRED);
+        }
+
+        return productIdempotencyKeyRepository.findById(idempotencyKey)
+                .map(idempotencyKeyEntity -> toClaim(idempotencyKeyEntity, requestFingerprint))
+                .orElseGet(() -> ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.IN_PROGRESS));
+    }
+
+    @Override
+    @Transactional
+    public void complete(final String idempotencyKey, final ProductIdempotentResponse response) {
+        final LocalDateTime expiresAt = LocalDateTime.now().plus(productIdempotencyConfiguration.getTimeToLive());
+        productIdempotencyKeyRepository.findById(idempotencyKey)
+                .filter(idempotencyKeyEntity -> idempotencyKeyEntity.getStatus() == ProductIdempotencyStatus.IN_PROGRESS)
+                .filter(idempotencyKeyEntity -> idempotencyKeyEntity.getRequestFingerprint().equals(response.requestFingerprint()))
+                .ifPresentOrElse(idempotencyKeyEntity -> {
+                    idempotencyKeyEntity.setStatus(ProductIdempotencyStatus.COMPLETED);
+                    idempotencyKeyEntity.setResponseStatus(response.status());
+                    idempotencyKeyEntity.setResponseHeaders(writeHeaders(response.headers()));
+                    idempotencyKeyEntity.setResponseBody(response.body());
+                    idempotencyKeyEntity.setExpiresAt(expiresAt);
+                    afterCommitExecutor.execute(() -> cacheCompletedResponse(idempotencyKey, new CompletedResponse(response, expiresAt)));
+                }, () -> log.warn("Idempotency key lease lost before completion; response not stored. key={}", idempotencyKey));
+    }
+
+    @Override
+    @Transactional
+    public void release(final String idempotencyKey) {
+        final int released = productIdempotencyKeyRepository.deleteByIdempotencyKeyAndStatus(idempotencyKey, ProductIdempotencyStatus.IN_PROGRESS);
+        log.debug("Idempotency key released. key={}, released={}", idempotencyKey, released);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${product.idempotency.cleanup-interval:10m}")
+    public void purgeExpired() {
+        final int purged = productIdempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged expired idempotency keys. count={}", purged);
+        }
+    }
+
+    private ProductIdempotencyClaim toClaim(final ProductIdempotencyKeyEntity idempotencyKeyEntity, final String requestFingerprint) {
+        if (idempotencyKeyEntity.getStatus() == ProductIdempotencyStatus.IN_PROGRESS) {
+            return idempotencyKeyEntity.getRequestFingerprint().equals(requestFingerprint)
+                    ? ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.IN_PROGRESS)
+                    : ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.FINGERPRINT_MISMATCH);
+        }
+        final ProductIdempotentResponse response = new ProductIdempotentResponse(
+                idempotencyKeyEntity.getRequestFingerprint(),
+                idempotencyKeyEntity.getResponseStatus(),
+                readHeaders(idempotencyKeyEntity.getResponseHeaders()),
+                Objects.requireNonNullElse(idempotencyKeyEntity.getResponseBody(), new byte[0]));
+        cacheCompletedResponse(idempotencyKeyEntity.getIdempotencyKey(), new CompletedResponse(response, idempotencyKeyEntity.getExpiresAt()));
+        return toReplayClaim(response, requestFingerprint);
+    }
+
+    private void cacheCompletedResponse(final String idempotencyKey, final CompletedResponse completedResponse) {
+        if (completedResponse.response().body().length > productIdempotencyConfiguration.getMaxCachedBodySize().toBytes()) {
+            log.debug("Idempotent response too large for local store, replaying from database only. key={}, bodySize={}",
+                    idempotencyKey, completedResponse.response().body().length);
+            return;
+        }
+        completedResponses.put(idempotencyKey, completedResponse);
+    }
+
+    private ProductIdempotencyClaim toReplayClaim(final ProductIdempotentResponse response, final String requestFingerprint) {
+        return response.requestFingerprint().equals(requestFingerprint)
+                ? ProductIdempotencyClaim.replay(response)
+                : ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.FINGERPRINT_MISMATCH);
+    }
+
+    private String writeHeaders(final Map<String, List<String>> headers) {
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize response headers", exception);
+        }
+    }
+
+    private Map<String, List<String>> readHeaders(final String headers) {
+        if (Objects.isNull(headers)) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(headers, HEADERS_TYPE);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException("Could not deserialize stored response headers", exception);
+        }
+    }
+
+    private static int weigh(final String idempotencyKey, final CompletedResponse completedResponse) {
+        return idempotencyKey.length() + completedResponse.response().body().length;
+    }
+
+    private static Duration remainingTimeToLive(final LocalDateTime expiresAt) {
+        final Duration remaining = Duration.between(LocalDateTime.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private record CompletedResponse(ProductIdempotentResponse response, LocalDateTime expiresAt) { }
+}
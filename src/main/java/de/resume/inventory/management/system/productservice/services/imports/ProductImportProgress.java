@@ -0,0 +1,69 @@
+package de.resume.inventory.management.system.productservice.services.imports;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReject;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ProductImportProgress {
+
+    private final String importId = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startedAtNanos = System.nanoTime();
+    private final ProductImportFormat importFormat;
+    private final int maxReportedRejects;
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ProductImportReject> reportedRejects = new ArrayList<>();
+    private volatile ProductImportStatus status = ProductImportStatus.RUNNING;
+
+    ProductImportProgress(final ProductImportFormat importFormat, final int maxReportedRejects) {
+        this.importFormat = importFormat;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    String getImportId() {
+        return importId;
+    }
+
+    void recordLineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    void recordImported(final long importedProducts) {
+        imported.addAndGet(importedProducts);
+    }
+
+    void recordReject(final long lineNumber, final String reason) {
+        rejected.incrementAndGet();
+        synchronized (reportedRejects) {
+            if (reportedRejects.size() < maxReportedRejects) {
+                reportedRejects.add(new ProductImportReject(lineNumber, reason));
+            }
+        }
+    }
+
+    void markCompleted() {
+        status = ProductImportStatus.COMPLETED;
+    }
+
+    void markFailed() {
+        status = ProductImportStatus.FAILED;
+    }
+
+    ProductImportReport toReport() {
+        final List<ProductImportReject> rejectsSnapshot;
+        synchronized (reportedRejects) {
+            rejectsSnapshot = List.copyOf(reportedRejects);
+        }
+        return new ProductImportReport(importId, importFormat, status, startedAt, (System.nanoTime() - startedAtNanos) / 1_000_000,
+                linesRead.get(), imported.get(), rejected.get(), rejectsSnapshot);
+    }
+}
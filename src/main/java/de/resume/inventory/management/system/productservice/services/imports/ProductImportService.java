@@ -0,0 +1,13 @@
+package de.resume.inventory.management.system.productservice.services.imports;
+
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface ProductImportService {
+    ProductImportReport importProducts(final InputStream inputStream, final ProductImportFormat importFormat) throws IOException;
+    List<ProductImportReport> getRunningImports();
+}
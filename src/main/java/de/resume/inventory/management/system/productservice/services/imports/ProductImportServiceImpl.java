@@ -0,0 +1,265 @@
+package de.resume.inventory.management.system.productservice.services.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import de.resume.inventory.management.system.productservice.config.ProductImportConfiguration;
+import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportedRow;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
+import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCatalogVersion;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.publisher.ProductEventPublisher;
+import de.resume.inventory.management.system.productservice.services.resolver.EventKeyResolver;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "articleNumber", "category", "unit", "price");
+    private static final String DUPLICATE_REJECT_REASON = "name or article number already exists or occurs earlier in the file";
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductEventPublisher productEventPublisher;
+    private final EventKeyResolver eventKeyResolver;
+    private final AfterCommitExecutor afterCommitExecutor;
+    private final ProductCatalogVersion productCatalogVersion;
+    private final ProductKeyFilter productKeyFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductImportConfiguration productImportConfiguration;
+    private final Map<String, ProductImportProgress> runningImports = new ConcurrentHashMap<>();
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    @Value("${spring.application.name}")
+    private String tenantId;
+
+    @Override
+    public ProductImportReport importProducts(final InputStream inputStream, final ProductImportFormat importFormat) throws IOException {
+        final ProductImportProgress importProgress = new ProductImportProgress(importFormat, productImportConfiguration.getMaxReportedRejects());
+        runningImports.put(importProgress.getImportId(), importProgress);
+        log.info("Product import started. importId={}, format={}", importProgress.getImportId(), importFormat);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+            readAndImport(reader, importFormat, importProgress);
+            importProgress.markCompleted();
+        } catch (final IOException | RuntimeException exception) {
+            importProgress.markFailed();
+            log.error("Product import failed. report={}", importProgress.toReport(), exception);
+            throw exception;
+        } finally {
+            runningImports.remove(importProgress.getImportId());
+        }
+
+        final ProductImportReport productImportReport = importProgress.toReport();
+        log.info("Product import finished. importId={}, linesRead={}, imported={}, rejected={}, durationMs={}",
+                productImportReport.importId(), productImportReport.linesRead(), productImportReport.imported(),
+                productImportReport.rejected(), productImportReport.durationMs());
+        return productImportReport;
+    }
+
+    @Override
+    public List<ProductImportReport> getRunningImports() {
+        return runningImports.values().stream()
+                .map(ProductImportProgress::toReport)
+                .toList();
+    }
+
+    private void readAndImport(final BufferedReader reader, final ProductImportFormat importFormat,
+                               final ProductImportProgress importProgress) throws IOException {
+        long lineNumber = 0;
+        final ObjectReader rowReader;
+        if (importFormat == ProductImportFormat.CSV) {
+            rowReader = csvRowReader(stripByteOrderMark(reader.readLine()));
+            lineNumber++;
+        } else {
+            rowReader = objectMapper.readerFor(ProductToCreateDto.class);
+        }
+
+        final int chunkSize = productImportConfiguration.getChunkSize();
+        final StringBuilder copyRows = new StringBuilder();
+        final List<Long> chunkLineNumbers = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            importProgress.recordLineRead();
+
+            final Optional<ProductToCreateDto> productToCreate = parseRow(rowReader, lineNumber == 1 ? stripByteOrderMark(line) : line,
+                    lineNumber, importProgress);
+            if (productToCreate.isPresent()) {
+                appendCopyRow(copyRows, lineNumber, productToCreate.get());
+                chunkLineNumbers.add(lineNumber);
+            }
+            if (chunkLineNumbers.size() >= chunkSize) {
+                importChunk(copyRows, chunkLineNumbers, importProgress);
+            }
+        }
+        importChunk(copyRows, chunkLineNumbers, importProgress);
+    }
+
+    private ObjectReader csvRowReader(final String headerLine) throws IOException {
+        if (Objects.isNull(headerLine) || headerLine.isBlank()) {
+            throw new IllegalArgumentException("CSV import must start with a header line");
+        }
+        final String[] columns = csvMapper.readerForArrayOf(String.class).readValue(headerLine);
+        final Set<String> headerColumns = Arrays.stream(columns).map(String::trim).collect(Collectors.toSet());
+        final List<String> missingColumns = REQUIRED_CSV_COLUMNS.stream()
+                .filter(requiredColumn -> !headerColumns.contains(requiredColumn))
+                .toList();
+        if (!missingColumns.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing required columns: " + missingColumns);
+        }
+
+        final CsvSchema.Builder schemaBuilder = CsvSchema.builder();
+        Arrays.stream(columns).map(String::trim).forEach(schemaBuilder::addColumn);
+        return csvMapper.readerFor(ProductToCreateDto.class)
+                .with(schemaBuilder.build())
+                .with(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .with(CsvParser.Feature.TRIM_SPACES)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private Optional<ProductToCreateDto> parseRow(final ObjectReader rowReader, final String line, final long lineNumber,
+                                                  final ProductImportProgress importProgress) {
+        final ProductToCreateDto productToCreate;
+        try {
+            productToCreate = rowReader.readValue(line);
+        } catch (final JsonProcessingException exception) {
+            importProgress.recordReject(lineNumber, exception.getOriginalMessage());
+            return Optional.empty();
+        }
+
+        final Set<ConstraintViolation<ProductToCreateDto>> constraintViolations = validator.validate(productToCreate);
+        if (!constraintViolations.isEmpty()) {
+            importProgress.recordReject(lineNumber, constraintViolations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return Optional.empty();
+        }
+        return Optional.of(productToCreate);
+    }
+
+    private void importChunk(final StringBuilder copyRows, final List<Long> chunkLineNumbers,
+                             final ProductImportProgress importProgress) {
+        if (chunkLineNumbers.isEmpty()) {
+            return;
+        }
+
+        final List<ProductImportedRow> importedRows = transactionTemplate.execute(transactionStatus -> {
+            final long copiedRows = productRepository.copyIntoImportStaging(new StringReader(copyRows.toString()));
+            final List<ProductImportedRow> mergedRows = productRepository.mergeImportStaging(LocalDateTime.now(), tenantId);
+            log.debug("Merged product import chunk. copied={}, merged={}", copiedRows, mergedRows.size());
+            publishCreatedAfterCommit(mergedRows);
+            return mergedRows;
+        });
+
+        final Set<Long> importedLineNumbers = new HashSet<>();
+        importedRows.forEach(importedRow -> importedLineNumbers.add(importedRow.lineNumber()));
+        chunkLineNumbers.stream()
+                .filter(chunkLineNumber -> !importedLineNumbers.contains(chunkLineNumber))
+                .forEach(chunkLineNumber -> importProgress.recordReject(chunkLineNumber, DUPLICATE_REJECT_REASON));
+        importProgress.recordImported(importedRows.size());
+
+        final ProductImportReport productImportReport = importProgress.toReport();
+        log.info("Product import in progress. importId={}, linesRead={}, imported={}, rejected={}",
+                productImportReport.importId(), productImportReport.linesRead(), productImportReport.imported(),
+                productImportReport.rejected());
+        copyRows.setLength(0);
+        chunkLineNumbers.clear();
+    }
+
+    private void publishCreatedAfterCommit(final List<ProductImportedRow> importedRows) {
+        if (importedRows.isEmpty()) {
+            return;
+        }
+        final Map<String, ProductUpsertedEvent> productUpsertedEventsByKafkaKey = new LinkedHashMap<>();
+        importedRows.forEach(importedRow -> productUpsertedEventsByKafkaKey.put(
+                eventKeyResolver.resolveProductKey(tenantId, importedRow.product().getId()),
+                productMapper.toEvent(importedRow.product(), ProductAction.CREATED, tenantId)));
+        afterCommitExecutor.execute(() -> {
+            importedRows.forEach(importedRow -> productKeyFilter.put(importedRow.product().getName(), importedRow.product().getArticleNumber()));
+            productUpsertedEventsByKafkaKey.forEach(productEventPublisher::publishProductUpserted);
+            log.info("Published {} ProductUpsertedEvents", productUpsertedEventsByKafkaKey.size());
+        });
+        productCatalogVersion.incrementOnCommit();
+    }
+
+    private void appendCopyRow(final StringBuilder copyRows, final long lineNumber, final ProductToCreateDto productToCreate) {
+        copyRows.append(lineNumber).append(',');
+        appendQuoted(copyRows, productToCreate.name()).append(',');
+        appendQuoted(copyRows, productToCreate.articleNumber()).append(',');
+        if (Objects.nonNull(productToCreate.description())) {
+            appendQuoted(copyRows, productToCreate.description());
+        }
+        copyRows.append(',')
+                .append(productToCreate.category().name()).append(',')
+                .append(productToCreate.unit().name()).append(',')
+                .append(BigDecimal.valueOf(productToCreate.price()).toPlainString())
+                .append('\n');
+    }
+
+    private StringBuilder appendQuoted(final StringBuilder copyRows, final String value) {
+        copyRows.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            final char character = value.charAt(index);
+            if (character == '"') {
+                copyRows.append('"');
+            }
+            copyRows.append(character);
+        }
+        return copyRows.append('"');
+    }
+
+    private String stripByteOrderMark(final String line) {
+        if (Objects.nonNull(line) && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            return line.substring(1);
+        }
+        return line;
+    }
+}
@@ -0,0 +1,92 @@
+package de.resume.inventory.management.system.productservice.services.keyfilter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class ProductBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctionCount;
+    private final AtomicLong setBitCount = new AtomicLong();
+
+    private ProductBloomFilter(final long bitCount, final int hashFunctionCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = (long) words.length() * Long.SIZE;
+        this.hashFunctionCount = hashFunctionCount;
+    }
+
+    static ProductBloomFilter create(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("expectedInsertions must be > 0 and falsePositiveProbability in (0, 1)");
+        }
+        final long bitCount = Math.max(Long.SIZE, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2)));
+        final int hashFunctionCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN_2));
+        return new ProductBloomFilter(bitCount, hashFunctionCount);
+    }
+
+    void put(final String value) {
+        final long firstHash = mix(fnv1a(value));
+        final long secondHash = mix(firstHash ^ GOLDEN_GAMMA);
+        for (int hashIndex = 0; hashIndex < hashFunctionCount; hashIndex++) {
+            setBit(bitIndex(firstHash, secondHash, hashIndex));
+        }
+    }
+
+    boolean mightContain(final String value) {
+        final long firstHash = mix(fnv1a(value));
+        final long secondHash = mix(firstHash ^ GOLDEN_GAMMA);
+        for (int hashIndex = 0; hashIndex < hashFunctionCount; hashIndex++) {
+            final long bitIndex = bitIndex(firstHash, secondHash, hashIndex);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBitCount.get() / bitCount, hashFunctionCount);
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    private void setBit(final long bitIndex) {
+        final int wordIndex = (int) (bitIndex >>> 6);
+        final long mask = 1L << bitIndex;
+        long word;
+        do {
+            word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, word, word | mask));
+        setBitCount.incrementAndGet();
+    }
+
+    private long bitIndex(final long firstHash, final long secondHash, final int hashIndex) {
+        return ((firstHash + hashIndex * secondHash) & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long fnv1a(final String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(final long hash) {
+        long mixed = hash;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xff51afd7ed558ccdL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return mixed ^ (mixed >>> 33);
+    }
+}
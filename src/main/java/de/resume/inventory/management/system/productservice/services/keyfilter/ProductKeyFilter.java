@@ -0,0 +1,11 @@
+package de.resume.inventory.management.system.productservice.services.keyfilter;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+
+import java.util.function.Predicate;
+
+public interface ProductKeyFilter {
+    boolean exists(final ProductField keyField, final String value, final Predicate<String> databaseLookup);
+    void put(final String name, final String articleNumber);
+    void rebuild();
+}
@@ -0,0 +1,204 @@
+package de.resume.inventory.management.system.productservice.services.keyfilter;
+
+import de.resume.inventory.management.system.productservice.config.ProductKeyFilterConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.listener.ProductInvalidationReadiness;
+import de.resume.inventory.management.system.productservice.services.listener.ProductInvalidationReadyEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+class ProductKeyFilterImpl implements ProductKeyFilter {
+
+    private static final String CHECKS_METRIC = "product.key.filter.checks";
+    private static final String FALSE_POSITIVE_RATE_METRIC = "product.key.filter.false.positive.rate";
+    private static final String EXPECTED_FALSE_POSITIVE_RATE_METRIC = "product.key.filter.expected.false.positive.rate";
+    private static final String REBUILD_METRIC = "product.key.filter.rebuild";
+
+    private final ProductKeyFilterConfiguration productKeyFilterConfiguration;
+    private final ProductRepository productRepository;
+    private final ProductInvalidationReadiness productInvalidationReadiness;
+    private final Timer rebuildTimer;
+    private final Map<ProductField, KeyMetrics> keyMetricsByField = new EnumMap<>(ProductField.class);
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock filtersLock = new ReentrantLock();
+
+    private volatile KeyFilters currentFilters;
+    private volatile KeyFilters rebuildingFilters;
+
+    ProductKeyFilterImpl(final ProductKeyFilterConfiguration productKeyFilterConfiguration,
+                         final ProductRepository productRepository,
+                         final ProductInvalidationReadiness productInvalidationReadiness,
+                         final MeterRegistry meterRegistry) {
+        this.productKeyFilterConfiguration = productKeyFilterConfiguration;
+        this.productRepository = productRepository;
+        this.productInvalidationReadiness = productInvalidationReadiness;
+        this.rebuildTimer = Timer.builder(REBUILD_METRIC)
+                .description("Time to rebuild the name and article number filters from a full scan")
+                .register(meterRegistry);
+        keyMetricsByField.put(ProductField.NAME, new KeyMetrics(ProductField.NAME, meterRegistry));
+        keyMetricsByField.put(ProductField.ARTICLE_NUMBER, new KeyMetrics(ProductField.ARTICLE_NUMBER, meterRegistry));
+    }
+
+    @Override
+    public boolean exists(final ProductField keyField, final String value, final Predicate<String> databaseLookup) {
+        final KeyMetrics keyMetrics = keyMetricsFor(keyField);
+        final KeyFilters keyFilters = currentFilters;
+        if (!productKeyFilterConfiguration.isEnabled() || Objects.isNull(keyFilters)) {
+            return databaseLookup.test(value);
+        }
+        if (!keyFilters.filterFor(keyField).mightContain(value)) {
+            keyMetrics.definitelyAbsent.increment();
+            return false;
+        }
+        final boolean present = databaseLookup.test(value);
+        if (present) {
+            keyMetrics.confirmedPresent.increment();
+        } else {
+            keyMetrics.falsePositives.increment();
+            log.debug("Key filter false positive. field={}, value='{}'", keyField.getFieldName(), value);
+        }
+        return present;
+    }
+
+    @Override
+    public void put(final String name, final String articleNumber) {
+        filtersLock.lock();
+        try {
+            putInto(currentFilters, name, articleNumber);
+            putInto(rebuildingFilters, name, articleNumber);
+        } finally {
+            filtersLock.unlock();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener({ ApplicationReadyEvent.class, ProductInvalidationReadyEvent.class })
+    @Scheduled(initialDelayString = "${product.key-filter.rebuild-interval:6h}", fixedDelayString = "${product.key-filter.rebuild-interval:6h}")
+    public void rebuild() {
+        if (!productKeyFilterConfiguration.isEnabled()) {
+            return;
+        }
+        if (productKeyFilterConfiguration.getSync().isEnabled() && !productInvalidationReadiness.isReady()) {
+            log.info("Key filter rebuild deferred until the invalidation partitions are assigned");
+            return;
+        }
+        if (!rebuildLock.tryLock()) {
+            log.info("Key filter rebuild already running, skipping");
+            return;
+        }
+        try {
+            final long expectedInsertions = Math.max(productKeyFilterConfiguration.getExpectedInsertions(), productRepository.count() * 2);
+            final KeyFilters nextFilters = new KeyFilters(
+                    ProductBloomFilter.create(expectedInsertions, productKeyFilterConfiguration.getFalsePositiveProbability()),
+                    ProductBloomFilter.create(expectedInsertions, productKeyFilterConfiguration.getFalsePositiveProbability()));
+            final AtomicLong scannedKeys = new AtomicLong();
+            swapFilters(currentFilters, nextFilters);
+            rebuildTimer.record(() -> {
+                try (Stream<ProductUniqueKeys> uniqueKeys = productRepository.streamUniqueKeys()) {
+                    uniqueKeys.forEach(productUniqueKeys -> {
+                        putInto(nextFilters, productUniqueKeys.name(), productUniqueKeys.articleNumber());
+                        scannedKeys.incrementAndGet();
+                    });
+                }
+            });
+            swapFilters(nextFilters, null);
+            log.info("Key filters rebuilt. products={}, expectedInsertions={}, bitsPerFilter={}",
+                    scannedKeys.get(), expectedInsertions, nextFilters.names().bitCount());
+        } finally {
+            if (Objects.nonNull(rebuildingFilters)) {
+                swapFilters(currentFilters, null);
+            }
+            rebuildLock.unlock();
+        }
+    }
+
+    private void swapFilters(final KeyFilters nextCurrentFilters, final KeyFilters nextRebuildingFilters) {
+        filtersLock.lock();
+        try {
+            currentFilters = nextCurrentFilters;
+            rebuildingFilters = nextRebuildingFilters;
+        } finally {
+            filtersLock.unlock();
+        }
+    }
+
+    private void putInto(final KeyFilters keyFilters, final String name, final String articleNumber) {
+        if (Objects.isNull(keyFilters)) {
+            return;
+        }
+        if (Objects.nonNull(name)) {
+            keyFilters.names().put(name);
+        }
+        if (Objects.nonNull(articleNumber)) {
+            keyFilters.articleNumbers().put(articleNumber);
+        }
+    }
+
+    private KeyMetrics keyMetricsFor(final ProductField keyField) {
+        final KeyMetrics keyMetrics = keyMetricsByField.get(keyField);
+        if (Objects.isNull(keyMetrics)) {
+            throw new IllegalArgumentException("No key filter for field: " + keyField.getFieldName());
+        }
+        return keyMetrics;
+    }
+
+    private double expectedFalsePositiveRate(final ProductField keyField) {
+        final KeyFilters keyFilters = currentFilters;
+        return Objects.isNull(keyFilters) ? Double.NaN : keyFilters.filterFor(keyField).expectedFalsePositiveProbability();
+    }
+
+    private record KeyFilters(ProductBloomFilter names, ProductBloomFilter articleNumbers) {
+
+        private ProductBloomFilter filterFor(final ProductField keyField) {
+            return keyField == ProductField.NAME ? names : articleNumbers;
+        }
+    }
+
+    private final class KeyMetrics {
+
+        private final Counter definitelyAbsent;
+        private final Counter confirmedPresent;
+        private final Counter falsePositives;
+
+        private KeyMetrics(final ProductField keyField, final MeterRegistry meterRegistry) {
+            final String key = keyField.getFieldName();
+            this.definitelyAbsent = Counter.builder(CHECKS_METRIC).tag("key", key).tag("result", "absent").register(meterRegistry);
+            this.confirmedPresent = Counter.builder(CHECKS_METRIC).tag("key", key).tag("result", "present").register(meterRegistry);
+            this.falsePositives = Counter.builder(CHECKS_METRIC).tag("key", key).tag("result", "false_positive").register(meterRegistry);
+            Gauge.builder(FALSE_POSITIVE_RATE_METRIC, this, KeyMetrics::observedFalsePositiveRate)
+                    .description("Share of absent keys the filter reported as maybe present")
+                    .tag("key", key)
+                    .register(meterRegistry);
+            Gauge.builder(EXPECTED_FALSE_POSITIVE_RATE_METRIC, () -> expectedFalsePositiveRate(keyField))
+                    .description("False positive probability implied by the current filter fill")
+                    .tag("key", key)
+                    .register(meterRegistry);
+        }
+
+        private double observedFalsePositiveRate() {
+            final double absentKeys = definitelyAbsent.count() + falsePositives.count();
+            return absentKeys == 0 ? 0 : falsePositives.count() / absentKeys;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+import de.resume.inventory.management.system.productservice.models.events.ProductEventHeaders;
+import de.resume.inventory.management.system.productservice.models.events.ProductInvalidationMessage;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCache;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.resolver.InstanceIdResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
+@Component
+class ProductCacheInvalidationListener {
+
+    private static final String INVALIDATION_LAG_METRIC = "product.cache.invalidation.lag";
+    private static final String INVALIDATIONS_METRIC = "product.cache.invalidations";
+
+    private final ProductCache productCache;
+    private final ProductKeyFilter productKeyFilter;
+    private final String instanceId;
+    private final Timer invalidationLagTimer;
+    private final Counter appliedInvalidations;
+    private final Counter skippedInvalidations;
+
+    ProductCacheInvalidationListener(final ProductCache productCache,
+                                     final ProductKeyFilter productKeyFilter,
+                                     final InstanceIdResolver instanceIdResolver,
+                                     final MeterRegistry meterRegistry) {
+        this.productCache = productCache;
+        this.productKeyFilter = productKeyFilter;
+        this.instanceId = instanceIdResolver.resolveInstanceId();
+        this.invalidationLagTimer = Timer.builder(INVALIDATION_LAG_METRIC)
+                .description("Time between a product event being produced and the local cache entry being invalidated")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.appliedInvalidations = Counter.builder(INVALIDATIONS_METRIC).tag("result", "applied").register(meterRegistry);
+        this.skippedInvalidations = Counter.builder(INVALIDATIONS_METRIC).tag("result", "skipped").register(meterRegistry);
+    }
+
+    @KafkaListener(
+            id = "product-cache-invalidation",
+            idIsGroup = false,
+            topics = { "${topics.product-upsert}", "${topics.product-delete}" },
+            containerFactory = "productInvalidationListenerContainerFactory",
+            autoStartup = "#{('${product.cache.enabled:true}' == 'true' and '${product.cache.invalidation.enabled:true}' == 'true')"
+                    + " or ('${product.key-filter.enabled:true}' == 'true'"
+                    + " and '${product.key-filter.sync.enabled:${product.cache.invalidation.enabled:true}}' == 'true')}"
+    )
+    public void onProductChanged(final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord,
+                                 final Acknowledgment acknowledgment) {
+        try {
+            invalidate(consumerRecord);
+        } finally {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private void invalidate(final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord) {
+        final ProductInvalidationMessage invalidationMessage = consumerRecord.value();
+        if (Objects.isNull(invalidationMessage) || Objects.isNull(invalidationMessage.id())) {
+            log.warn("Skipping product event without id. topic={}, offset={}", consumerRecord.topic(), consumerRecord.offset());
+            skippedInvalidations.increment();
+            return;
+        }
+
+        productKeyFilter.put(invalidationMessage.name(), invalidationMessage.articleNumber());
+
+        if (isProducedByThisInstance(consumerRecord)) {
+            log.debug("Skipping product event produced by this instance. id={}", invalidationMessage.id());
+            skippedInvalidations.increment();
+            return;
+        }
+
+        productCache.evict(invalidationMessage.id());
+        appliedInvalidations.increment();
+        invalidationLagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - consumerRecord.timestamp())));
+        log.debug("Invalidated cached product from {} event. id={}", consumerRecord.topic(), invalidationMessage.id());
+    }
+
+    private boolean isProducedByThisInstance(final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord) {
+        return Optional.ofNullable(consumerRecord.headers().lastHeader(ProductEventHeaders.ORIGIN_INSTANCE))
+                .map(Header::value)
+                .map(originInstance -> new String(originInstance, StandardCharsets.UTF_8))
+                .filter(instanceId::equals)
+                .isPresent();
+    }
+}
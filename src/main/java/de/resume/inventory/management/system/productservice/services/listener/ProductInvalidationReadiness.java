@@ -0,0 +1,5 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+public interface ProductInvalidationReadiness {
+    boolean isReady();
+}
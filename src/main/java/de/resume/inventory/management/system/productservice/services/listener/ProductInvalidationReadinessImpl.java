@@ -0,0 +1,42 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+class ProductInvalidationReadinessImpl implements ProductInvalidationReadiness, ConsumerAwareRebalanceListener {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AtomicBoolean ready = new AtomicBoolean();
+
+    ProductInvalidationReadinessImpl(final ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Consumer<?, ?> consumer, final Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            log.warn("No invalidation partitions assigned, product cache and key filter stay bypassed");
+            return;
+        }
+        partitions.forEach(consumer::position);
+        if (ready.compareAndSet(false, true)) {
+            log.info("Invalidation partitions assigned, enabling product cache and key filter. partitions={}", partitions);
+            applicationEventPublisher.publishEvent(new ProductInvalidationReadyEvent(Set.copyOf(partitions)));
+        }
+    }
+}
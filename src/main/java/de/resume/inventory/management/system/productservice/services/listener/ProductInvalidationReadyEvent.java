@@ -0,0 +1,8 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Set;
+
+public record ProductInvalidationReadyEvent(Set<TopicPartition> partitions) {
+}
@@ -0,0 +1,9 @@
+package de.resume.inventory.management.system.productservice.services.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+
+public interface ProductMergePatchApplier {
+
+    ProductToUpdateDto applyMergePatch(final ProductToUpdateDto productToUpdateDto, final JsonNode mergePatch);
+}
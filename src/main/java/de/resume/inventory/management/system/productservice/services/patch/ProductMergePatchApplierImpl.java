@@ -0,0 +1,77 @@
+package de.resume.inventory.management.system.productservice.services.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class ProductMergePatchApplierImpl implements ProductMergePatchApplier {
+
+    private static final Set<ProductField> PATCHABLE_FIELDS = EnumSet.of(ProductField.NAME, ProductField.ARTICLE_NUMBER,
+            ProductField.DESCRIPTION, ProductField.CATEGORY, ProductField.UNIT, ProductField.PRICE);
+    private static final Map<String, ProductField> PATCHABLE_FIELDS_BY_NAME = PATCHABLE_FIELDS.stream()
+            .collect(Collectors.toUnmodifiableMap(ProductField::getFieldName, Function.identity()));
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Override
+    public ProductToUpdateDto applyMergePatch(final ProductToUpdateDto productToUpdateDto, final JsonNode mergePatch) {
+        if (Objects.isNull(mergePatch) || !mergePatch.isObject()) {
+            throw new IllegalArgumentException("merge patch must be a JSON object");
+        }
+
+        final ObjectNode patchedProduct = objectMapper.valueToTree(productToUpdateDto);
+        mergePatch.properties().forEach(patchEntry -> {
+            if (!PATCHABLE_FIELDS_BY_NAME.containsKey(patchEntry.getKey())) {
+                throw new IllegalArgumentException("Field '" + patchEntry.getKey() + "' cannot be patched. Patchable fields: " + patchableFields());
+            }
+            if (patchEntry.getValue().isNull()) {
+                patchedProduct.remove(patchEntry.getKey());
+            } else {
+                patchedProduct.set(patchEntry.getKey(), patchEntry.getValue());
+            }
+        });
+
+        final ProductToUpdateDto patchedProductToUpdate = toProductToUpdateDto(patchedProduct);
+        final Set<ConstraintViolation<ProductToUpdateDto>> constraintViolations = validator.validate(patchedProductToUpdate);
+        if (!constraintViolations.isEmpty()) {
+            throw new ProductValidationException(constraintViolations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        log.debug("Applied merge patch to product with ID: {}", productToUpdateDto.id());
+        return patchedProductToUpdate;
+    }
+
+    private ProductToUpdateDto toProductToUpdateDto(final ObjectNode patchedProduct) {
+        try {
+            return objectMapper.treeToValue(patchedProduct, ProductToUpdateDto.class);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalArgumentException("merge patch contains an invalid value: " + exception.getOriginalMessage(), exception);
+        }
+    }
+
+    private String patchableFields() {
+        return PATCHABLE_FIELDS.stream().map(ProductField::getFieldName).collect(Collectors.joining(", "));
+    }
+}
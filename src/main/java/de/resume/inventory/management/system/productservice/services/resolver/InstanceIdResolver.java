@@ -0,0 +1,6 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+public interface InstanceIdResolver {
+
+    String resolveInstanceId();
+}
@@ -0,0 +1,49 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+class InstanceIdResolverImpl implements InstanceIdResolver {
+
+    private static final String HOSTNAME_VARIABLE = "HOSTNAME";
+
+    private final String instanceId;
+
+    InstanceIdResolverImpl(@Value("${product.instance-id:}") final String configuredInstanceId) {
+        this.instanceId = nonBlank(configuredInstanceId)
+                .or(() -> nonBlank(System.getenv(HOSTNAME_VARIABLE)))
+                .or(InstanceIdResolverImpl::resolveHostName)
+                .orElseGet(() -> {
+                    final String randomInstanceId = UUID.randomUUID().toString();
+                    log.warn("No instance id or host name available, using a random instance id. instanceId={}", randomInstanceId);
+                    return randomInstanceId;
+                });
+        log.info("Resolved instance id. instanceId={}", instanceId);
+    }
+
+    @Override
+    public String resolveInstanceId() {
+        return instanceId;
+    }
+
+    private static Optional<String> resolveHostName() {
+        try {
+            return nonBlank(InetAddress.getLocalHost().getHostName());
+        } catch (final UnknownHostException unknownHostException) {
+            log.warn("Could not resolve local host name. message={}", unknownHostException.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> nonBlank(final String value) {
+        return Optional.ofNullable(value).filter(id -> !id.isBlank());
+    }
+}
@@ -0,0 +1,14 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import org.springframework.data.domain.Pageable;
+
+public interface ProductETagResolver {
+
+    String resolveProductETag(final String productId, final Long version);
+
+    String resolveCatalogPageETag(final long catalogVersion, final Pageable pageable);
+
+    boolean matchesAny(final String ifNoneMatch, final String eTag);
+
+    boolean matchesAnyStrong(final String ifMatch, final String eTag);
+}
@@ -0,0 +1,63 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+@Service
+class ProductETagResolverImpl implements ProductETagResolver {
+
+    private static final String ETAG_SEPARATOR = ":";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+
+    @Override
+    public String resolveProductETag(final String productId, final Long version) {
+        if (Objects.isNull(productId) || Objects.isNull(version)) {
+            throw new IllegalArgumentException("Product ID and version must not be null");
+        }
+        return toStrongETag(productId + ETAG_SEPARATOR + version);
+    }
+
+    @Override
+    public String resolveCatalogPageETag(final long catalogVersion, final Pageable pageable) {
+        if (Objects.isNull(pageable)) {
+            throw new IllegalArgumentException("Pageable must not be null");
+        }
+        final String pageDescriptor = pageable.isPaged()
+                ? pageable.getPageNumber() + ETAG_SEPARATOR + pageable.getPageSize()
+                : "unpaged";
+        return toStrongETag(catalogVersion + ETAG_SEPARATOR + pageDescriptor
+                + ETAG_SEPARATOR + pageable.getSort());
+    }
+
+    @Override
+    public boolean matchesAny(final String ifNoneMatch, final String eTag) {
+        if (Objects.isNull(ifNoneMatch) || Objects.isNull(eTag)) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith(WEAK_ETAG_PREFIX) ? candidate.substring(WEAK_ETAG_PREFIX.length()) : candidate)
+                .anyMatch(candidate -> candidate.equals(ANY_ETAG) || candidate.equals(eTag));
+    }
+
+    @Override
+    public boolean matchesAnyStrong(final String ifMatch, final String eTag) {
+        if (Objects.isNull(ifMatch) || Objects.isNull(eTag) || eTag.startsWith(WEAK_ETAG_PREFIX)) {
+            return false;
+        }
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .filter(candidate -> !candidate.startsWith(WEAK_ETAG_PREFIX))
+                .anyMatch(candidate -> candidate.equals(ANY_ETAG) || candidate.equals(eTag));
+    }
+
+    private String toStrongETag(final String eTagSource) {
+        return "\"" + DigestUtils.md5DigestAsHex(eTagSource.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
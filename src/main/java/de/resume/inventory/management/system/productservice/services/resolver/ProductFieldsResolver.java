@@ -0,0 +1,10 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+
+import java.util.List;
+
+public interface ProductFieldsResolver {
+
+    List<ProductField> resolveFields(final String fields);
+}
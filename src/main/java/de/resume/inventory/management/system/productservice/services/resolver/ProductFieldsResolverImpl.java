@@ -0,0 +1,47 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+class ProductFieldsResolverImpl implements ProductFieldsResolver {
+
+    private static final String FIELD_SEPARATOR = ",";
+    private static final Map<String, ProductField> FIELDS_BY_NAME = Arrays.stream(ProductField.values())
+            .collect(Collectors.toUnmodifiableMap(ProductField::getFieldName, Function.identity()));
+
+    @Override
+    public List<ProductField> resolveFields(final String fields) {
+        if (Objects.isNull(fields) || fields.isBlank()) {
+            throw new IllegalArgumentException("fields must not be blank. Allowed fields: " + allowedFields());
+        }
+
+        final Set<ProductField> resolvedFields = new LinkedHashSet<>();
+        resolvedFields.add(ProductField.ID);
+        for (final String fieldName : fields.split(FIELD_SEPARATOR)) {
+            final String trimmedFieldName = fieldName.trim();
+            if (trimmedFieldName.isEmpty()) {
+                continue;
+            }
+            final ProductField productField = FIELDS_BY_NAME.get(trimmedFieldName);
+            if (Objects.isNull(productField)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmedFieldName + "'. Allowed fields: " + allowedFields());
+            }
+            resolvedFields.add(productField);
+        }
+        return List.copyOf(resolvedFields);
+    }
+
+    private String allowedFields() {
+        return Arrays.stream(ProductField.values()).map(ProductField::getFieldName).collect(Collectors.joining(", "));
+    }
+}
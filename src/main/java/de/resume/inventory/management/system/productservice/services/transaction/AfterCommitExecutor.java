@@ -0,0 +1,5 @@
+package de.resume.inventory.management.system.productservice.services.transaction;
+
+public interface AfterCommitExecutor {
+    void execute(final Runnable action);
+}
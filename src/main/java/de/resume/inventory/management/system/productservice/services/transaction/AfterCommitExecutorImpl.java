@@ -0,0 +1,27 @@
+package de.resume.inventory.management.system.productservice.services.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+class AfterCommitExecutorImpl implements AfterCommitExecutor {
+
+    @Override
+    public void execute(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.debug("No active transaction synchronization, executing action immediately");
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
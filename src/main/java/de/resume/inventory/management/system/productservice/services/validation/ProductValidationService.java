@@ -1,9 +1,24 @@
 package de.resume.inventory.management.system.productservice.services.validation;
 
+import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchOperationDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ProductValidationService {
     void validateProductToCreate(final ProductToCreateDto productToCreateDto);
-    void validateProductToUpdate(final ProductToUpdateDto productToUpdateDto);
+    void validateProductToUpdate(final ProductToUpdateDto productToUpdateDto, final ProductEntity existingProduct);
+    Map<Integer, List<String>> validateProductsToCreate(final List<ProductToCreateDto> productsToCreate);
+    Map<Integer, List<String>> validateProductsToUpsert(final List<ProductToCreateDto> productsToUpsert);
+    Map<Integer, List<String>> validateProductBatch(final List<ProductBatchOperationDto> operations);
+    Optional<ProductField> resolveViolatedUniqueField(final DataIntegrityViolationException exception);
+    Optional<ProductValidationException> translateUniqueConstraintViolation(final DataIntegrityViolationException exception,
+                                                                            final String name, final String articleNumber);
 }
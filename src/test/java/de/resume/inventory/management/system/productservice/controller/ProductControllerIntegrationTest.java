@@ -7,8 +7,14 @@ import de.resume.inventory.management.system.productservice.config.TestEventPubl
 import de.resume.inventory.management.system.productservice.config.TestEventPublisherConfig.RecordingProductEventPublisher;
 import de.resume.inventory.management.system.productservice.config.TestEventPublisherConfig.RecordingProductEventPublisher.SentDelete;
 import de.resume.inventory.management.system.productservice.config.TestEventPublisherConfig.RecordingProductEventPublisher.SentUpsert;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
 import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
+import jakarta.persistence.EntityManagerFactory;
 import org.awaitility.Awaitility;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +30,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -32,9 +40,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Import({ TestContainerConfiguration.class, TestEventPublisherConfig.class })
@@ -51,6 +61,7 @@ class ProductControllerIntegrationTest {
 
     @Autowired private MockMvc mockMvc;
     @Autowired private RecordingProductEventPublisher recordingPublisher;
+    @Autowired private EntityManagerFactory entityManagerFactory;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -118,6 +129,88 @@ class ProductControllerIntegrationTest {
         assertThat(sent.event().id()).isEqualTo(id);
     }
 
+    @Test
+    void updateProduct_modifiedPrice_shouldUseFourStatements() throws Exception {
+        final String createBody = uniqueCreateJson(readResource("/json/product-create.json"));
+        final String createdJson = mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        final Map<String, Object> updateMap = objectMapper.readValue(createBody, new TypeReference<>() {});
+        updateMap.put("id", extractId(createdJson));
+        updateMap.put("price", 77.7);
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(put("/api/products/update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateMap)))
+                .andExpect(status().isOk());
+
+        // select and update of the product, the history row written in the same transaction (SYNCHRONOUS history mode)
+        // and the catalog version nextval; a price-only change must not add a uniqueness query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        final EntityStatistics productStatistics = statistics.getEntityStatistics(ProductEntity.class.getName());
+        assertThat(productStatistics.getLoadCount()).isEqualTo(1);
+        assertThat(productStatistics.getUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateProduct_unchanged_shouldReturnCurrentProduct_noEvent() throws Exception {
+        final String createBody = uniqueCreateJson(readResource("/json/product-create.json"));
+        final String createdJson = mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        final String id = extractId(createdJson);
+
+        Awaitility.await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(recordingPublisher.upsertHistory()).hasSize(1));
+        recordingPublisher.clearAll();
+
+        final Map<String, Object> updateMap = objectMapper.readValue(createBody, new TypeReference<>() {});
+        updateMap.put("id", id);
+        updateMap.put("price", 12.5);
+
+        final String updatedJson = mockMvc.perform(put("/api/products/update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateMap)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Product-Unchanged", "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(extractId(updatedJson)).isEqualTo(id);
+        assertThat(recordingPublisher.upsertHistory()).isEmpty();
+    }
+
+    @Test
+    void updateProduct_unknownId_shouldCreateProductAndSendCreatedEvent() throws Exception {
+        String updateBody = readResource("/json/product-update.json");
+        updateBody = updateBody.replace("${ID}", UUID.randomUUID().toString());
+        final Map<String, Object> updateMap = objectMapper.readValue(uniqueUpdateJson(updateBody), new TypeReference<>() {});
+        updateMap.put("articleNumber", trimToMax("Art-" + UUID.randomUUID().toString().substring(0, 6), 20));
+
+        final String createdJson = mockMvc.perform(put("/api/products/update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateMap)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        final String id = extractId(createdJson);
+        assertThat(id).isNotBlank();
+        mockMvc.perform(get("/api/products/{id}", id)).andExpect(status().isOk());
+
+        Awaitility.await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(recordingPublisher.upsertHistory()).hasSize(1));
+        final SentUpsert sent = recordingPublisher.upsertHistory().get(0);
+        assertThat(sent.event().id()).isEqualTo(id);
+        assertThat(sent.event().productAction()).isEqualTo(ProductAction.CREATED);
+    }
+
     @Test
     void deleteProduct_shouldDeleteAndSendEvent() throws Exception {
         final String createBody = uniqueCreateJson(readResource("/json/product-create.json"));
@@ -198,6 +291,106 @@ class ProductControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void applyBatch_renameThenCreateWithOldName_shouldHandOverName() throws Exception {
+        final Map<String, Object> existing = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        final String id = extractId(mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existing)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        final Map<String, Object> renamed = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        renamed.put("articleNumber", existing.get("articleNumber"));
+        final Map<String, Object> replacement = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        replacement.put("name", existing.get("name"));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("operations", List.of(
+                                Map.of("operation", "UPDATE", "id", id, "product", renamed),
+                                Map.of("operation", "CREATE", "product", replacement))))))
+                .andExpect(status().isOk());
+
+        final String updatedJson = mockMvc.perform(get("/api/products/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readValue(updatedJson, Map.class).get("name")).isEqualTo(renamed.get("name"));
+        mockMvc.perform(get("/api/products/by-article/{articleNumber}", replacement.get("articleNumber")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void applyBatch_createWithUpdatedProductsOldArticleNumber_shouldHandOverArticleNumber() throws Exception {
+        final Map<String, Object> existing = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        final String id = extractId(mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existing)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        final Map<String, Object> renumbered = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        renumbered.put("name", existing.get("name"));
+        final Map<String, Object> replacement = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        replacement.put("articleNumber", existing.get("articleNumber"));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("operations", List.of(
+                                Map.of("operation", "CREATE", "product", replacement),
+                                Map.of("operation", "UPDATE", "id", id, "product", renumbered))))))
+                .andExpect(status().isOk());
+
+        final String replacementJson = mockMvc.perform(get("/api/products/by-article/{articleNumber}", existing.get("articleNumber")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(extractId(replacementJson)).isNotEqualTo(id);
+        final String updatedJson = mockMvc.perform(get("/api/products/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readValue(updatedJson, Map.class).get("articleNumber")).isEqualTo(renumbered.get("articleNumber"));
+    }
+
+    @Test
+    void applyBatch_swapArticleNumbers_shouldBumpEachVersionOnce() throws Exception {
+        final Map<String, Object> first = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        final Map<String, Object> second = objectMapper.readValue(uniqueCreateJson(readResource("/json/product-create.json")),
+                new TypeReference<>() {});
+        final Map<String, Object> firstCreated = objectMapper.readValue(mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), new TypeReference<>() {});
+        final Map<String, Object> secondCreated = objectMapper.readValue(mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), new TypeReference<>() {});
+        final Map<String, Object> firstSwapped = new HashMap<>(first);
+        firstSwapped.put("articleNumber", second.get("articleNumber"));
+        final Map<String, Object> secondSwapped = new HashMap<>(second);
+        secondSwapped.put("articleNumber", first.get("articleNumber"));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("operations", List.of(
+                                Map.of("operation", "UPDATE", "id", firstCreated.get("id"), "product", firstSwapped),
+                                Map.of("operation", "UPDATE", "id", secondCreated.get("id"), "product", secondSwapped))))))
+                .andExpect(status().isOk());
+
+        for (final Map<String, Object> created : List.of(firstCreated, secondCreated)) {
+            final Map<String, Object> updated = objectMapper.readValue(mockMvc.perform(get("/api/products/{id}", created.get("id")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(), new TypeReference<>() {});
+            assertThat(((Number) updated.get("version")).longValue()).isEqualTo(((Number) created.get("version")).longValue() + 1);
+        }
+    }
+
     private String readResource(final String path) throws Exception {
         try (final var is = getClass().getResourceAsStream(path)) {
             if (is == null) {
@@ -0,0 +1,139 @@
+package de.resume.inventory.management.system.productservice.controller.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.config.ProductIdempotencyConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotencyClaim;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotentResponse;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyClaimStatus;
+import de.resume.inventory.management.system.productservice.services.advices.ProblemDetailService;
+import de.resume.inventory.management.system.productservice.services.idempotency.ProductIdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+class ProductIdempotencyFilterTest {
+
+    private final ProductIdempotencyService productIdempotencyService = Mockito.mock(ProductIdempotencyService.class);
+    private final ProductIdempotencyFilter sut = new ProductIdempotencyFilter(new ProductIdempotencyConfiguration(),
+            productIdempotencyService, new ProblemDetailService(), new ObjectMapper());
+
+    @Test
+    void doFilter_withoutKey_passesThroughUntouched() throws Exception {
+        final MockHttpServletRequest request = createRequest(null);
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        sut.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        Assertions.assertSame(request, filterChain.getRequest());
+        Mockito.verifyNoInteractions(productIdempotencyService);
+    }
+
+    @Test
+    void doFilter_whenAcquired_runsHandlerWithBodyAndStoresSuccessfulResponse() throws Exception {
+        Mockito.when(productIdempotencyService.claim(ArgumentMatchers.eq("key-1"), ArgumentMatchers.anyString()))
+                .thenReturn(ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.ACQUIRED));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final FilterChain filterChain = (chainRequest, chainResponse) -> {
+            Assertions.assertEquals("{\"name\":\"Spirit level\"}", new String(chainRequest.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            final HttpServletResponse httpResponse = (HttpServletResponse) chainResponse;
+            httpResponse.setStatus(201);
+            httpResponse.setHeader("ETag", "\"v0\"");
+            httpResponse.setContentType("application/json");
+            httpResponse.getOutputStream().write("{\"id\":\"product-1\"}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        sut.doFilter(createRequest("key-1"), response, filterChain);
+
+        final ArgumentCaptor<ProductIdempotentResponse> responseCaptor = ArgumentCaptor.forClass(ProductIdempotentResponse.class);
+        Mockito.verify(productIdempotencyService).complete(ArgumentMatchers.eq("key-1"), responseCaptor.capture());
+        Mockito.verify(productIdempotencyService, Mockito.never()).release(ArgumentMatchers.anyString());
+        Assertions.assertEquals(201, responseCaptor.getValue().status());
+        Assertions.assertEquals(List.of("\"v0\""), responseCaptor.getValue().headers().get("ETag"));
+        Assertions.assertEquals("{\"id\":\"product-1\"}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_whenHandlerFails_releasesKey() throws Exception {
+        Mockito.when(productIdempotencyService.claim(ArgumentMatchers.eq("key-2"), ArgumentMatchers.anyString()))
+                .thenReturn(ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.ACQUIRED));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sut.doFilter(createRequest("key-2"), response,
+                (chainRequest, chainResponse) -> ((HttpServletResponse) chainResponse).setStatus(409));
+
+        Mockito.verify(productIdempotencyService).release("key-2");
+        Mockito.verify(productIdempotencyService, Mockito.never()).complete(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+        Assertions.assertEquals(409, response.getStatus());
+    }
+
+    @Test
+    void doFilter_whenReplay_writesStoredResponseWithoutCallingHandler() throws Exception {
+        final ProductIdempotentResponse storedResponse = new ProductIdempotentResponse("fingerprint", 201,
+                Map.of("ETag", List.of("\"v0\""), "Content-Type", List.of("application/json")),
+                "{\"id\":\"product-1\"}".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(productIdempotencyService.claim(ArgumentMatchers.eq("key-3"), ArgumentMatchers.anyString()))
+                .thenReturn(ProductIdempotencyClaim.replay(storedResponse));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        sut.doFilter(createRequest("key-3"), response, filterChain);
+
+        Assertions.assertNull(filterChain.getRequest());
+        Assertions.assertEquals(201, response.getStatus());
+        Assertions.assertEquals("\"v0\"", response.getHeader("ETag"));
+        Assertions.assertEquals("true", response.getHeader(ProductIdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        Assertions.assertEquals("{\"id\":\"product-1\"}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_whenKeyReusedForDifferentPayload_returnsUnprocessableEntity() throws Exception {
+        Mockito.when(productIdempotencyService.claim(ArgumentMatchers.eq("key-4"), ArgumentMatchers.anyString()))
+                .thenReturn(ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.FINGERPRINT_MISMATCH));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        sut.doFilter(createRequest("key-4"), response, filterChain);
+
+        Assertions.assertNull(filterChain.getRequest());
+        Assertions.assertEquals(422, response.getStatus());
+        Assertions.assertEquals("application/problem+json", response.getContentType());
+    }
+
+    @Test
+    void doFilter_sameMethodPathAndBody_produceSameFingerprint() throws Exception {
+        final ArgumentCaptor<String> fingerprintCaptor = ArgumentCaptor.forClass(String.class);
+        Mockito.when(productIdempotencyService.claim(ArgumentMatchers.anyString(), fingerprintCaptor.capture()))
+                .thenReturn(ProductIdempotencyClaim.of(ProductIdempotencyClaimStatus.IN_PROGRESS));
+
+        sut.doFilter(createRequest("key-5"), new MockHttpServletResponse(), new MockFilterChain());
+        sut.doFilter(createRequest("key-5"), new MockHttpServletResponse(), new MockFilterChain());
+        final MockHttpServletRequest otherBody = createRequest("key-5");
+        otherBody.setContent("{\"name\":\"Other\"}".getBytes(StandardCharsets.UTF_8));
+        sut.doFilter(otherBody, new MockHttpServletResponse(), new MockFilterChain());
+
+        final List<String> fingerprints = fingerprintCaptor.getAllValues();
+        Assertions.assertEquals(fingerprints.get(0), fingerprints.get(1));
+        Assertions.assertNotEquals(fingerprints.get(0), fingerprints.get(2));
+    }
+
+    private MockHttpServletRequest createRequest(final String idempotencyKey) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/products");
+        request.setContentType("application/json");
+        request.setContent("{\"name\":\"Spirit level\"}".getBytes(StandardCharsets.UTF_8));
+        if (idempotencyKey != null) {
+            request.addHeader(ProductIdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return request;
+    }
+}
@@ -1,19 +1,28 @@
 package de.resume.inventory.management.system.productservice.repositories;
 
 import de.resume.inventory.management.system.productservice.config.TestContainerConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportedRow;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
 import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
 import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -28,6 +37,9 @@ class ProductRepositoryTest {
     @Autowired
     private ProductRepository sut;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void shouldSave() {
         final ProductEntity productEntity = createProduct("test", "1234567890");
@@ -130,6 +142,65 @@ class ProductRepositoryTest {
         Assertions.assertThrows(Exception.class, () -> sut.saveAndFlush(productEntity2));
     }
 
+    @Test
+    void shouldReportNamedUniqueConstraintOnDuplicateName() {
+        sut.save(createProduct("namedConstraintTest", "8901234567"));
+
+        final DataIntegrityViolationException exception = Assertions.assertThrows(DataIntegrityViolationException.class,
+                () -> sut.saveAndFlush(createProduct("namedConstraintTest", "8901234568")));
+
+        final ConstraintViolationException constraintViolation = Assertions.assertInstanceOf(ConstraintViolationException.class, exception.getCause());
+        Assertions.assertEquals(ProductEntity.NAME_UNIQUE_CONSTRAINT, constraintViolation.getConstraintName());
+    }
+
+    @Test
+    void shouldInsertProductAndHistoryInOneStatement() {
+        final ProductEntity productEntity = createProduct("fusedInsertTest", "9012345678");
+        final ProductHistoryEntity productHistoryEntity = new ProductHistoryEntity();
+        productHistoryEntity.setAction(ProductAction.CREATED);
+        productHistoryEntity.setName(productEntity.getName());
+        productHistoryEntity.setArticleNumber(productEntity.getArticleNumber());
+        productHistoryEntity.setDescription(productEntity.getDescription());
+        productHistoryEntity.setCategory(productEntity.getCategory());
+        productHistoryEntity.setUnit(productEntity.getUnit());
+        productHistoryEntity.setPrice(productEntity.getPrice());
+        productHistoryEntity.setChangedBy("product-service");
+        final LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+        final ProductEntity actual = sut.insertWithHistory(productEntity, productHistoryEntity, createdAt);
+
+        Assertions.assertNotNull(actual.getId());
+        Assertions.assertEquals(0L, actual.getVersion());
+        Assertions.assertEquals(createdAt, actual.getCreatedAt());
+        final ProductHistoryEntity persistedHistory = entityManager
+                .createQuery("select h from ProductHistoryEntity h where h.productId = :productId", ProductHistoryEntity.class)
+                .setParameter("productId", actual.getId())
+                .getSingleResult();
+        assertThat(persistedHistory)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "productId", "createdAt", "updatedAt")
+                .isEqualTo(productHistoryEntity);
+        Assertions.assertEquals(createdAt, persistedHistory.getCreatedAt());
+    }
+
+    @Test
+    void shouldNotLetRejectedImportRowsClaimKeysOfLaterRows() {
+        sut.saveAndFlush(createProduct("importExisting", "IMP-1"));
+        final String csvRows = """
+                1,"importTape","IMP-1",,ELECTRONICS,PIECE,1.00
+                2,"importTape","IMP-2",,ELECTRONICS,PIECE,1.00
+                3,"importLevel","IMP-2",,ELECTRONICS,PIECE,1.00
+                4,"importLevel","IMP-3",,ELECTRONICS,PIECE,1.00
+                """;
+
+        sut.copyIntoImportStaging(new StringReader(csvRows));
+        final List<ProductImportedRow> actual = sut.mergeImportStaging(LocalDateTime.of(2025, 3, 1, 10, 0), "product-service");
+
+        Assertions.assertEquals(List.of(2L, 4L), actual.stream().map(ProductImportedRow::lineNumber).sorted().toList());
+        Assertions.assertEquals(List.of("IMP-2", "IMP-3"),
+                actual.stream().map(importedRow -> importedRow.product().getArticleNumber()).sorted().toList());
+    }
+
     @Test
     void shouldFindProductByName() {
 
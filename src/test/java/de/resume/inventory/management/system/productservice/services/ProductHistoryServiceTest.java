@@ -6,7 +6,7 @@ import de.resume.inventory.management.system.productservice.models.entities.Prod
 import de.resume.inventory.management.system.productservice.models.enums.Category;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
 import de.resume.inventory.management.system.productservice.models.enums.Unit;
-import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import de.resume.inventory.management.system.productservice.services.history.ProductHistoryWriter;
 import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -20,6 +20,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @ExtendWith(MockitoExtension.class)
 class ProductHistoryServiceTest {
@@ -28,7 +30,7 @@ class ProductHistoryServiceTest {
     private ProductHistoryServiceImpl sut;
 
     @Mock
-    private ProductHistoryRepository productHistoryRepository;
+    private ProductHistoryWriter productHistoryWriter;
 
     @Mock
     private ProductHistoryMapper productHistoryMapper;
@@ -73,12 +75,36 @@ class ProductHistoryServiceTest {
         sut.saveProductHistory(productEntity, productAction, changedBy);
 
         final ArgumentCaptor<ProductHistoryEntity> captor = ArgumentCaptor.forClass(ProductHistoryEntity.class);
-        Mockito.verify(productHistoryRepository).save(captor.capture());
+        Mockito.verify(productHistoryWriter).write(captor.capture());
         final ProductHistoryEntity actualHistoryEntity = captor.getValue();
 
         Assertions.assertThat(actualHistoryEntity).usingRecursiveComparison().isEqualTo(expectedHistoryEntity);
     }
 
+    @Test
+    void saveProductHistory_withChangedFields_recordsThemOnHistoryEntity() {
+        final ProductEntity productEntity = new ProductEntity(
+                "Impact Drill",
+                "ID-2003",
+                "Impact drill with 750W motor",
+                Category.HOUSEHOLD,
+                Unit.PIECE,
+                BigDecimal.valueOf(74.90)
+        );
+        productEntity.setId("product-2003");
+        final ProductHistoryEntity mappedHistoryEntity = new ProductHistoryEntity();
+        mappedHistoryEntity.setProductId("product-2003");
+
+        Mockito.when(productHistoryMapper.toEntity(productEntity, ProductAction.UPDATED, "Event-tenant"))
+                .thenReturn(mappedHistoryEntity);
+
+        sut.saveProductHistory(productEntity, ProductAction.UPDATED, "Event-tenant", List.of("description", "price"));
+
+        final ArgumentCaptor<ProductHistoryEntity> captor = ArgumentCaptor.forClass(ProductHistoryEntity.class);
+        Mockito.verify(productHistoryWriter).write(captor.capture());
+        Assertions.assertThat(captor.getValue().getChangedFields()).isEqualTo("description,price");
+    }
+
     @Test
     void saveProductHistory_withNullProduct_throwsValidationExceptionAndDoesNotCallMapperOrRepository() {
         final ProductEntity productEntity = null;
@@ -91,7 +117,7 @@ class ProductHistoryServiceTest {
         );
 
         Mockito.verifyNoInteractions(productHistoryMapper);
-        Mockito.verifyNoInteractions(productHistoryRepository);
+        Mockito.verifyNoInteractions(productHistoryWriter);
     }
 
     @ParameterizedTest
@@ -134,7 +160,7 @@ class ProductHistoryServiceTest {
         sut.saveProductHistory(productEntity, parameterProductAction, changedBy);
 
         final ArgumentCaptor<ProductHistoryEntity> captor = ArgumentCaptor.forClass(ProductHistoryEntity.class);
-        Mockito.verify(productHistoryRepository).save(captor.capture());
+        Mockito.verify(productHistoryWriter).write(captor.capture());
         final ProductHistoryEntity actualHistoryEntity = captor.getValue();
 
         Assertions.assertThat(actualHistoryEntity).usingRecursiveComparison().isEqualTo(expectedHistoryEntity);
@@ -177,10 +203,31 @@ class ProductHistoryServiceTest {
 
         Mockito.when(productHistoryMapper.toEntity(productEntity, productAction, changedBy))
                 .thenReturn(mappedHistoryEntity);
-        Mockito.when(productHistoryRepository.save(mappedHistoryEntity))
-                .thenThrow(new RuntimeException("database not reachable"));
+        Mockito.doThrow(new RuntimeException("database not reachable"))
+                .when(productHistoryWriter).write(mappedHistoryEntity);
 
         org.junit.jupiter.api.Assertions.assertThrows(RuntimeException.class,
                 () -> sut.saveProductHistory(productEntity, productAction, changedBy));
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveProductHistories_persistsAllMappedEntitiesInOneCall() {
+        final ProductEntity firstProductEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        final ProductEntity secondProductEntity = new ProductEntity("Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, BigDecimal.valueOf(3.99));
+        final ProductHistoryEntity firstHistoryEntity = new ProductHistoryEntity();
+        final ProductHistoryEntity secondHistoryEntity = new ProductHistoryEntity();
+
+        Mockito.when(productHistoryMapper.toEntity(firstProductEntity, ProductAction.CREATED, "importer")).thenReturn(firstHistoryEntity);
+        Mockito.when(productHistoryMapper.toEntity(secondProductEntity, ProductAction.CREATED, "importer")).thenReturn(secondHistoryEntity);
+        final LocalDateTime before = LocalDateTime.now();
+
+        sut.saveProductHistories(List.of(firstProductEntity, secondProductEntity), ProductAction.CREATED, "importer");
+
+        Mockito.verify(productHistoryWriter).writeAll(List.of(firstHistoryEntity, secondHistoryEntity));
+        Mockito.verify(productHistoryWriter, Mockito.never()).write(Mockito.any());
+        Assertions.assertThat(firstHistoryEntity.getCreatedAt()).isAfterOrEqualTo(before).isBeforeOrEqualTo(LocalDateTime.now());
+        Assertions.assertThat(secondHistoryEntity.getCreatedAt()).isEqualTo(firstHistoryEntity.getCreatedAt());
+    }
+}
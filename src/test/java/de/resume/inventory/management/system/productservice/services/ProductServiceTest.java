@@ -1,38 +1,82 @@
 package de.resume.inventory.management.system.productservice.services;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.exceptions.ProductBatchValidationException;
 import de.resume.inventory.management.system.productservice.exceptions.ProductNotFoundException;
+import de.resume.inventory.management.system.productservice.exceptions.ProductPreconditionFailedException;
+import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.mapper.ProductHistoryMapper;
 import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
 import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBatchResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkDeleteResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkItemResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductBulkResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursor;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursorPage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductSlicePage;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpdateResult;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUpsertOutcome;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchOperationDto;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBulkDeleteDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
 import de.resume.inventory.management.system.productservice.models.enums.Category;
 import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBatchOperationType;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBulkItemStatus;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryWriteMode;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import de.resume.inventory.management.system.productservice.models.enums.ProductTotalMode;
 import de.resume.inventory.management.system.productservice.models.enums.Unit;
 import de.resume.inventory.management.system.productservice.models.events.ProductDeletedEvent;
 import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
 import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCache;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCatalogVersion;
+import de.resume.inventory.management.system.productservice.services.cache.ProductPageCache;
+import de.resume.inventory.management.system.productservice.services.cursor.ProductCursorCodec;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.patch.ProductMergePatchApplier;
 import de.resume.inventory.management.system.productservice.services.publisher.ProductEventPublisher;
 import de.resume.inventory.management.system.productservice.services.resolver.EventKeyResolver;
+import de.resume.inventory.management.system.productservice.services.resolver.ProductETagResolver;
+import de.resume.inventory.management.system.productservice.services.resolver.ProductFieldsResolver;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
 import de.resume.inventory.management.system.productservice.services.validation.ProductValidationService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -55,6 +99,39 @@ class ProductServiceTest {
     @Mock
     private ProductHistoryService productHistoryService;
 
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private AfterCommitExecutor afterCommitExecutor;
+
+    @Mock
+    private ProductCursorCodec productCursorCodec;
+
+    @Mock
+    private ProductFieldsResolver productFieldsResolver;
+
+    @Mock
+    private ProductETagResolver productETagResolver;
+
+    @Mock
+    private ProductCatalogVersion productCatalogVersion;
+
+    @Mock
+    private ProductPageCache productPageCache;
+
+    @Mock
+    private ProductMergePatchApplier productMergePatchApplier;
+
+    @Mock
+    private ProductKeyFilter productKeyFilter;
+
+    @Mock
+    private ProductHistoryMapper productHistoryMapper;
+
+    @Spy
+    private ProductHistoryConfiguration productHistoryConfiguration = new ProductHistoryConfiguration();
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -62,6 +139,11 @@ class ProductServiceTest {
     void injectTenantIdentifier() {
         final String configuredTenantIdentifier = "Event-tenant";
         ReflectionTestUtils.setField(productService, "tenantId", configuredTenantIdentifier);
+        ReflectionTestUtils.setField(productService, "productSchema", "local");
+        Mockito.lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(afterCommitExecutor).execute(Mockito.any());
     }
 
     @Test
@@ -137,6 +219,192 @@ class ProductServiceTest {
         Mockito.verify(eventKeyResolver).resolveProductKey(tenantIdentifier, persistedProductIdentifier);
         Mockito.verify(productEventPublisher).publishProductUpserted(expectedKafkaKey, productUpsertedEvent);
         Mockito.verify(productHistoryService).saveProductHistory(persistedProductEntity, ProductAction.CREATED, tenantIdentifier);
+        Mockito.verify(productCache).putAfterCommit(Mockito.any());
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+    }
+
+    @Test
+    void createProduct_whenUniqueConstraintViolated_throwsFieldLevelValidationException() {
+        final ProductToCreateDto productToCreateDto = new ProductToCreateDto("Cordless screwdriver", "AS-1001",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, 79.90);
+        final ProductEntity mappedProductEntity = new ProductEntity("Cordless screwdriver", "AS-1001",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, BigDecimal.valueOf(79.90));
+        final DataIntegrityViolationException constraintViolation = new DataIntegrityViolationException("duplicate key");
+        final ProductValidationException expected = new ProductValidationException("Product name: 'Cordless screwdriver' is already taken");
+
+        Mockito.when(productMapper.toEntity(productToCreateDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productRepository.save(mappedProductEntity)).thenReturn(mappedProductEntity);
+        Mockito.doThrow(constraintViolation).when(productRepository).flush();
+        Mockito.when(productValidationService.translateUniqueConstraintViolation(constraintViolation, "Cordless screwdriver", "AS-1001"))
+                .thenReturn(Optional.of(expected));
+
+        final ProductValidationException actual = Assertions.assertThrows(ProductValidationException.class,
+                () -> productService.createProduct(productToCreateDto));
+
+        Assertions.assertSame(expected, actual);
+        Mockito.verifyNoInteractions(productHistoryService, productEventPublisher);
+    }
+
+    @Test
+    void createProduct_withFusedHistory_insertsProductAndHistoryInOneStatement() {
+        productHistoryConfiguration.setWriteMode(ProductHistoryWriteMode.FUSED);
+        final ProductToCreateDto productToCreateDto = new ProductToCreateDto("Cordless screwdriver", "AS-1002",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, 79.90);
+        final ProductEntity mappedProductEntity = new ProductEntity("Cordless screwdriver", "AS-1002",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, BigDecimal.valueOf(79.90));
+        final ProductEntity insertedProductEntity = new ProductEntity("Cordless screwdriver", "AS-1002",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, BigDecimal.valueOf(79.90));
+        insertedProductEntity.setId("product-1002");
+        final ProductHistoryEntity mappedHistoryEntity = new ProductHistoryEntity();
+        final ProductUpsertedEvent productUpsertedEvent = new ProductUpsertedEvent("product-1002", "Cordless screwdriver", "AS-1002",
+                Category.HOUSEHOLD.name(), Unit.PIECE.name(), 79.90, "Compact cordless screwdriver", null, ProductAction.CREATED, "Event-tenant");
+        final Product expectedDomainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productMapper.toEntity(productToCreateDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productHistoryMapper.toEntity(mappedProductEntity, ProductAction.CREATED, "Event-tenant")).thenReturn(mappedHistoryEntity);
+        Mockito.when(productRepository.insertWithHistory(Mockito.eq(mappedProductEntity), Mockito.eq(mappedHistoryEntity), Mockito.any()))
+                .thenReturn(insertedProductEntity);
+        Mockito.when(productMapper.toDomain(insertedProductEntity)).thenReturn(expectedDomainProduct);
+        Mockito.when(productMapper.toEvent(insertedProductEntity, ProductAction.CREATED, "Event-tenant")).thenReturn(productUpsertedEvent);
+
+        final Product actual = productService.createProduct(productToCreateDto);
+
+        Assertions.assertSame(expectedDomainProduct, actual);
+        Mockito.verify(productRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(productRepository, Mockito.never()).flush();
+        Mockito.verifyNoInteractions(productHistoryService);
+        Mockito.verify(productEventPublisher).publishProductUpserted(Mockito.any(), Mockito.eq(productUpsertedEvent));
+    }
+
+    @Test
+    void createProduct_withFusedHistory_translatesUniqueConstraintViolation() {
+        productHistoryConfiguration.setWriteMode(ProductHistoryWriteMode.FUSED);
+        final ProductToCreateDto productToCreateDto = new ProductToCreateDto("Cordless screwdriver", "AS-1003",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, 79.90);
+        final ProductEntity mappedProductEntity = new ProductEntity("Cordless screwdriver", "AS-1003",
+                "Compact cordless screwdriver", Category.HOUSEHOLD, Unit.PIECE, BigDecimal.valueOf(79.90));
+        final DataIntegrityViolationException constraintViolation = new DataIntegrityViolationException("duplicate key");
+        final ProductValidationException expected = new ProductValidationException("Article number: 'AS-1003' is already taken");
+
+        Mockito.when(productMapper.toEntity(productToCreateDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productRepository.insertWithHistory(Mockito.eq(mappedProductEntity), Mockito.any(), Mockito.any()))
+                .thenThrow(constraintViolation);
+        Mockito.when(productValidationService.translateUniqueConstraintViolation(constraintViolation, "Cordless screwdriver", "AS-1003"))
+                .thenReturn(Optional.of(expected));
+
+        final ProductValidationException actual = Assertions.assertThrows(ProductValidationException.class,
+                () -> productService.createProduct(productToCreateDto));
+
+        Assertions.assertSame(expected, actual);
+        Mockito.verifyNoInteractions(productEventPublisher);
+    }
+
+    @Test
+    void createProducts_persistsAcceptedItemsAndReportsRejectedPerIndex() {
+        final ProductToCreateDto acceptedDto = new ProductToCreateDto("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, 0.49);
+        final ProductToCreateDto rejectedDto = new ProductToCreateDto("Fuse", "FS-5x21", "Duplicate name",
+                Category.ELECTRONICS, Unit.PIECE, 0.59);
+        final List<ProductToCreateDto> productsToCreate = List.of(acceptedDto, rejectedDto);
+
+        final ProductEntity mappedProductEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        final ProductEntity persistedProductEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        persistedProductEntity.setId("product-8000");
+        final ProductUpsertedEvent productUpsertedEvent = Mockito.mock(ProductUpsertedEvent.class);
+        final List<String> rejectionErrors = List.of("Product name: 'Fuse' occurs more than once in the batch");
+
+        Mockito.when(productValidationService.validateProductsToCreate(productsToCreate)).thenReturn(Map.of(1, rejectionErrors));
+        Mockito.when(productMapper.toEntity(acceptedDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productRepository.insertAllSkippingConflicts(Mockito.eq(List.of(mappedProductEntity)), Mockito.any()))
+                .thenReturn(List.of(persistedProductEntity));
+        Mockito.when(productMapper.toEvent(persistedProductEntity, ProductAction.CREATED, "Event-tenant")).thenReturn(productUpsertedEvent);
+        Mockito.when(eventKeyResolver.resolveProductKey("Event-tenant", "product-8000")).thenReturn("Event-tenant-product-8000");
+
+        final ProductBulkResult productBulkResult = productService.createProducts(productsToCreate);
+
+        Assertions.assertEquals(new ProductBulkResult(1, 1, List.of(
+                new ProductBulkItemResult(0, ProductBulkItemStatus.CREATED, "product-8000", "FS-5x20", List.of()),
+                new ProductBulkItemResult(1, ProductBulkItemStatus.REJECTED, null, "FS-5x21", rejectionErrors)
+        )), productBulkResult);
+        Mockito.verify(productMapper, Mockito.never()).toEntity(rejectedDto);
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(persistedProductEntity), ProductAction.CREATED, "Event-tenant");
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-product-8000", productUpsertedEvent);
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+        Mockito.verify(productValidationService, Mockito.never()).validateProductToCreate(Mockito.any());
+    }
+
+    @Test
+    void createProducts_whenInsertConflicts_rejectsConflictingItemWithRecheckedErrors() {
+        final ProductToCreateDto conflictingDto = new ProductToCreateDto("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, 0.49);
+        final List<ProductToCreateDto> productsToCreate = List.of(conflictingDto);
+        final ProductEntity mappedProductEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        final List<String> conflictErrors = List.of("Article number: 'FS-5x20' is already taken");
+
+        Mockito.when(productValidationService.validateProductsToCreate(productsToCreate))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(0, conflictErrors));
+        Mockito.when(productMapper.toEntity(conflictingDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productRepository.insertAllSkippingConflicts(Mockito.eq(List.of(mappedProductEntity)), Mockito.any()))
+                .thenReturn(List.of());
+
+        final ProductBulkResult productBulkResult = productService.createProducts(productsToCreate);
+
+        Assertions.assertEquals(new ProductBulkResult(0, 1, List.of(
+                new ProductBulkItemResult(0, ProductBulkItemStatus.REJECTED, null, "FS-5x20", conflictErrors)
+        )), productBulkResult);
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(), ProductAction.CREATED, "Event-tenant");
+        Mockito.verify(productEventPublisher, Mockito.never()).publishProductUpserted(Mockito.anyString(), Mockito.any());
+        Mockito.verify(productCatalogVersion, Mockito.never()).incrementOnCommit();
+    }
+
+    @Test
+    void upsertProducts_writesHistoryAndEventsOnlyForChangedRows() {
+        final ProductToCreateDto insertedDto = new ProductToCreateDto("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, 0.49);
+        final ProductToCreateDto updatedDto = new ProductToCreateDto("Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, 4.49);
+        final ProductToCreateDto unchangedDto = new ProductToCreateDto("Spirit level", "SL-40", "Spirit level 40cm",
+                Category.HOUSEHOLD, Unit.PIECE, 12.90);
+        final List<ProductToCreateDto> productsToUpsert = List.of(insertedDto, updatedDto, unchangedDto);
+
+        final ProductEntity insertedEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        final ProductEntity updatedEntity = new ProductEntity("Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, BigDecimal.valueOf(4.49));
+        final ProductEntity unchangedEntity = new ProductEntity("Spirit level", "SL-40", "Spirit level 40cm",
+                Category.HOUSEHOLD, Unit.PIECE, BigDecimal.valueOf(12.90));
+        insertedEntity.setId("product-9001");
+        updatedEntity.setId("product-9002");
+        final ProductUpsertedEvent createdEvent = Mockito.mock(ProductUpsertedEvent.class);
+        final ProductUpsertedEvent updatedEvent = Mockito.mock(ProductUpsertedEvent.class);
+
+        Mockito.when(productValidationService.validateProductsToUpsert(productsToUpsert)).thenReturn(Map.of());
+        Mockito.when(productMapper.toEntity(insertedDto)).thenReturn(insertedEntity);
+        Mockito.when(productMapper.toEntity(updatedDto)).thenReturn(updatedEntity);
+        Mockito.when(productMapper.toEntity(unchangedDto)).thenReturn(unchangedEntity);
+        Mockito.when(productRepository.upsertByArticleNumber(Mockito.eq(List.of(insertedEntity, updatedEntity, unchangedEntity)), Mockito.any()))
+                .thenReturn(List.of(new ProductUpsertOutcome(insertedEntity, true), new ProductUpsertOutcome(updatedEntity, false)));
+        Mockito.when(productMapper.toEvent(insertedEntity, ProductAction.CREATED, "Event-tenant")).thenReturn(createdEvent);
+        Mockito.when(productMapper.toEvent(updatedEntity, ProductAction.UPDATED, "Event-tenant")).thenReturn(updatedEvent);
+        Mockito.when(eventKeyResolver.resolveProductKey(Mockito.eq("Event-tenant"), Mockito.anyString()))
+                .thenAnswer(invocation -> "Event-tenant-" + invocation.getArgument(1));
+
+        final ProductBulkResult productBulkResult = productService.upsertProducts(productsToUpsert);
+
+        Assertions.assertEquals(List.of(ProductBulkItemStatus.CREATED, ProductBulkItemStatus.UPDATED, ProductBulkItemStatus.UNCHANGED),
+                productBulkResult.items().stream().map(ProductBulkItemResult::status).toList());
+        Assertions.assertEquals(3, productBulkResult.succeeded());
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(insertedEntity), ProductAction.CREATED, "Event-tenant");
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(updatedEntity), ProductAction.UPDATED, "Event-tenant");
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-product-9001", createdEvent);
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-product-9002", updatedEvent);
+        Mockito.verifyNoMoreInteractions(productEventPublisher);
+        Mockito.verify(productCache).evictAllAfterCommit(List.of("product-9002"));
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
     }
 
     @Test
@@ -159,23 +427,13 @@ class ProductServiceTest {
                 productUnit,
                 productPrice
         );
-        final ProductEntity mappedProductEntity = new ProductEntity(
-                productName,
-                productArticleNumber,
-                productDescription,
-                productCategory,
-                productUnit,
-                BigDecimal.valueOf(productPrice)
-        );
-        mappedProductEntity.setId(incomingProductIdentifier);
-
         final ProductEntity persistedProductEntity = new ProductEntity(
                 productName,
                 productArticleNumber,
                 productDescription,
                 productCategory,
                 productUnit,
-                BigDecimal.valueOf(productPrice)
+                new BigDecimal("44.90")
         );
         persistedProductEntity.setId(incomingProductIdentifier);
         final LocalDateTime persistedUpdatedAt = LocalDateTime.of(2025, 2, 5, 9, 30);
@@ -195,25 +453,146 @@ class ProductServiceTest {
         );
         final String expectedKafkaKey = tenantIdentifier + "-" + incomingProductIdentifier;
 
-        Mockito.when(productMapper.toEntity(productToUpdateDto)).thenReturn(mappedProductEntity);
-        Mockito.when(productRepository.existsById(incomingProductIdentifier)).thenReturn(true);
-        Mockito.when(productRepository.save(mappedProductEntity)).thenReturn(persistedProductEntity);
-        Mockito.when(productMapper.toEvent(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier)).thenReturn(expectedProductUpsertedEvent);
+        Mockito.when(productRepository.findById(incomingProductIdentifier)).thenReturn(Optional.of(persistedProductEntity));
+        Mockito.when(productMapper.toEvent(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier, List.of("price")))
+                .thenReturn(expectedProductUpsertedEvent);
         Mockito.when(eventKeyResolver.resolveProductKey(tenantIdentifier, incomingProductIdentifier)).thenReturn(expectedKafkaKey);
 
         final Product expectedDomainProduct = Mockito.mock(Product.class);
         Mockito.when(productMapper.toDomain(persistedProductEntity)).thenReturn(expectedDomainProduct);
 
-        final Product actual = productService.updateProduct(productToUpdateDto);
-        Assertions.assertSame(expectedDomainProduct, actual);
+        final ProductUpdateResult actual = productService.updateProduct(productToUpdateDto, null);
+        Assertions.assertSame(expectedDomainProduct, actual.product());
+        Assertions.assertTrue(actual.changed());
 
-        Mockito.verify(productValidationService).validateProductToUpdate(productToUpdateDto);
-        Mockito.verify(productRepository).existsById(incomingProductIdentifier);
-        Mockito.verify(productRepository).save(mappedProductEntity);
-        Mockito.verify(productMapper).toEvent(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier);
+        Mockito.verify(productValidationService).validateProductToUpdate(productToUpdateDto, persistedProductEntity);
+        Mockito.verify(productMapper).updateEntity(productToUpdateDto, persistedProductEntity);
+        Mockito.verify(productRepository).findById(incomingProductIdentifier);
+        Mockito.verify(productRepository).flush();
+        Mockito.verifyNoMoreInteractions(productRepository);
+        Mockito.verify(productMapper).toEvent(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier, List.of("price"));
         Mockito.verify(eventKeyResolver).resolveProductKey(tenantIdentifier, incomingProductIdentifier);
         Mockito.verify(productEventPublisher).publishProductUpserted(expectedKafkaKey, expectedProductUpsertedEvent);
-        Mockito.verify(productHistoryService).saveProductHistory(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier);
+        Mockito.verify(productHistoryService).saveProductHistory(persistedProductEntity, ProductAction.UPDATED, tenantIdentifier, List.of("price"));
+        Mockito.verify(productCache).evictAfterCommit(incomingProductIdentifier);
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+    }
+
+    @Test
+    void updateProduct_whenNothingChanged_skipsPersistenceHistoryAndEvent() {
+        final String incomingProductIdentifier = "product-2100";
+        final ProductToUpdateDto productToUpdateDto = new ProductToUpdateDto(
+                incomingProductIdentifier,
+                "Laser distance meter",
+                "LEM-21",
+                "Measuring range up to 20m, IP54",
+                Category.HOUSEHOLD,
+                Unit.PIECE,
+                49.5
+        );
+        final ProductEntity persistedProductEntity = new ProductEntity(
+                "Laser distance meter",
+                "LEM-21",
+                "Measuring range up to 20m, IP54",
+                Category.HOUSEHOLD,
+                Unit.PIECE,
+                new BigDecimal("49.50")
+        );
+        persistedProductEntity.setId(incomingProductIdentifier);
+
+        Mockito.when(productRepository.findById(incomingProductIdentifier)).thenReturn(Optional.of(persistedProductEntity));
+        final Product expectedDomainProduct = Mockito.mock(Product.class);
+        Mockito.when(productMapper.toDomain(persistedProductEntity)).thenReturn(expectedDomainProduct);
+
+        final ProductUpdateResult actual = productService.updateProduct(productToUpdateDto, null);
+
+        Assertions.assertSame(expectedDomainProduct, actual.product());
+        Assertions.assertFalse(actual.changed());
+        Mockito.verify(productRepository).findById(incomingProductIdentifier);
+        Mockito.verifyNoMoreInteractions(productRepository);
+        Mockito.verify(productMapper, Mockito.never()).updateEntity(Mockito.any(ProductToUpdateDto.class), Mockito.any());
+        Mockito.verifyNoInteractions(productValidationService, productHistoryService, productEventPublisher, productCache, productCatalogVersion);
+    }
+
+    @Test
+    void patchProduct_whenProductExists_appliesPatchAndRecordsChangedFields() {
+        final String productIdentifier = "product-2200";
+        final ProductEntity persistedProductEntity = new ProductEntity(
+                "Laser distance meter",
+                "LEM-22",
+                "Measuring range up to 20m, IP54",
+                Category.HOUSEHOLD,
+                Unit.PIECE,
+                new BigDecimal("49.50")
+        );
+        persistedProductEntity.setId(productIdentifier);
+        final ProductToUpdateDto currentProduct = new ProductToUpdateDto(productIdentifier, "Laser distance meter", "LEM-22",
+                "Measuring range up to 20m, IP54", Category.HOUSEHOLD, Unit.PIECE, 49.5);
+        final ProductToUpdateDto patchedProduct = new ProductToUpdateDto(productIdentifier, "Laser distance meter", "LEM-22",
+                null, Category.HOUSEHOLD, Unit.PIECE, 44.9);
+        final ObjectNode mergePatch = JsonNodeFactory.instance.objectNode().put("price", 44.9).putNull("description");
+        final ProductUpsertedEvent expectedProductUpsertedEvent = Mockito.mock(ProductUpsertedEvent.class);
+        final Product expectedDomainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productRepository.findById(productIdentifier)).thenReturn(Optional.of(persistedProductEntity));
+        Mockito.when(productMapper.toUpdateDto(persistedProductEntity)).thenReturn(currentProduct);
+        Mockito.when(productMergePatchApplier.applyMergePatch(currentProduct, mergePatch)).thenReturn(patchedProduct);
+        Mockito.when(productMapper.toEvent(persistedProductEntity, ProductAction.UPDATED, "Event-tenant", List.of("description", "price")))
+                .thenReturn(expectedProductUpsertedEvent);
+        Mockito.when(eventKeyResolver.resolveProductKey("Event-tenant", productIdentifier)).thenReturn("Event-tenant-" + productIdentifier);
+        Mockito.when(productMapper.toDomain(persistedProductEntity)).thenReturn(expectedDomainProduct);
+
+        final ProductUpdateResult actual = productService.patchProduct(productIdentifier, mergePatch, null);
+
+        Assertions.assertSame(expectedDomainProduct, actual.product());
+        Assertions.assertTrue(actual.changed());
+        Mockito.verify(productValidationService).validateProductToUpdate(patchedProduct, persistedProductEntity);
+        Mockito.verify(productMapper).updateEntity(patchedProduct, persistedProductEntity);
+        Mockito.verify(productRepository).flush();
+        Mockito.verify(productHistoryService).saveProductHistory(persistedProductEntity, ProductAction.UPDATED, "Event-tenant",
+                List.of("description", "price"));
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-" + productIdentifier, expectedProductUpsertedEvent);
+        Mockito.verify(productCache).evictAfterCommit(productIdentifier);
+    }
+
+    @Test
+    void patchProduct_whenProductDoesNotExist_throwsNotFound() {
+        final ObjectNode mergePatch = JsonNodeFactory.instance.objectNode().put("price", 44.9);
+        Mockito.when(productRepository.findById("missing")).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(ProductNotFoundException.class, () -> productService.patchProduct("missing", mergePatch, null));
+
+        Mockito.verifyNoInteractions(productMergePatchApplier, productHistoryService, productEventPublisher);
+    }
+
+    @Test
+    void updateProduct_whenIfMatchIsStale_throwsPreconditionFailedWithoutWriting() {
+        final ProductToUpdateDto productToUpdateDto = new ProductToUpdateDto("product-2300", "Laser distance meter", "LEM-23",
+                "Measuring range up to 20m, IP54", Category.HOUSEHOLD, Unit.PIECE, 54.9);
+        final ProductEntity persistedProductEntity = new ProductEntity("Laser distance meter", "LEM-23",
+                "Measuring range up to 20m, IP54", Category.HOUSEHOLD, Unit.PIECE, new BigDecimal("49.50"));
+        persistedProductEntity.setId("product-2300");
+        persistedProductEntity.setVersion(3L);
+
+        Mockito.when(productRepository.findById("product-2300")).thenReturn(Optional.of(persistedProductEntity));
+        Mockito.when(productETagResolver.resolveProductETag("product-2300", 3L)).thenReturn("\"v3\"");
+        Mockito.when(productETagResolver.matchesAnyStrong("\"v2\"", "\"v3\"")).thenReturn(false);
+
+        Assertions.assertThrows(ProductPreconditionFailedException.class, () -> productService.updateProduct(productToUpdateDto, "\"v2\""));
+
+        Mockito.verify(productRepository, Mockito.never()).flush();
+        Mockito.verifyNoInteractions(productValidationService, productHistoryService, productEventPublisher);
+    }
+
+    @Test
+    void updateProduct_whenIfMatchGivenForMissingProduct_throwsPreconditionFailed() {
+        final ProductToUpdateDto productToUpdateDto = new ProductToUpdateDto("unknown-2400", "Laser distance meter", "LEM-24",
+                null, Category.HOUSEHOLD, Unit.PIECE, 54.9);
+        Mockito.when(productRepository.findById("unknown-2400")).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(ProductPreconditionFailedException.class, () -> productService.updateProduct(productToUpdateDto, "\"v1\""));
+
+        Mockito.verify(productRepository, Mockito.never()).save(Mockito.any());
     }
 
     @Test
@@ -245,7 +624,14 @@ class ProductServiceTest {
                 productUnit,
                 BigDecimal.valueOf(productPrice)
         );
-        mappedProductEntity.setId(incomingProductIdentifier);
+        final ProductToCreateDto productToCreateDto = new ProductToCreateDto(
+                productName,
+                productArticleNumber,
+                productDescription,
+                productCategory,
+                productUnit,
+                productPrice
+        );
 
         final ProductEntity persistedProductEntity = new ProductEntity(
                 productName,
@@ -273,8 +659,9 @@ class ProductServiceTest {
         );
         final String expectedKafkaKey = tenantIdentifier + "-" + newPersistedProductIdentifier;
 
-        Mockito.when(productMapper.toEntity(productToUpdateDto)).thenReturn(mappedProductEntity);
-        Mockito.when(productRepository.existsById(incomingProductIdentifier)).thenReturn(false);
+        Mockito.when(productMapper.toCreateDto(productToUpdateDto)).thenReturn(productToCreateDto);
+        Mockito.when(productMapper.toEntity(productToCreateDto)).thenReturn(mappedProductEntity);
+        Mockito.when(productRepository.findById(incomingProductIdentifier)).thenReturn(Optional.empty());
         Mockito.when(productRepository.save(mappedProductEntity)).thenReturn(persistedProductEntity);
         Mockito.when(productMapper.toEvent(persistedProductEntity, ProductAction.CREATED, tenantIdentifier)).thenReturn(expectedProductUpsertedEvent);
         Mockito.when(eventKeyResolver.resolveProductKey(tenantIdentifier, newPersistedProductIdentifier)).thenReturn(expectedKafkaKey);
@@ -282,11 +669,12 @@ class ProductServiceTest {
         final Product expectedDomainProduct = Mockito.mock(Product.class);
         Mockito.when(productMapper.toDomain(persistedProductEntity)).thenReturn(expectedDomainProduct);
 
-        final Product actual = productService.updateProduct(productToUpdateDto);
-        Assertions.assertSame(expectedDomainProduct, actual);
+        final ProductUpdateResult actual = productService.updateProduct(productToUpdateDto, null);
+        Assertions.assertSame(expectedDomainProduct, actual.product());
+        Assertions.assertTrue(actual.changed());
 
-        Mockito.verify(productValidationService).validateProductToUpdate(productToUpdateDto);
-        Mockito.verify(productRepository).existsById(incomingProductIdentifier);
+        Mockito.verify(productValidationService).validateProductToCreate(productToCreateDto);
+        Mockito.verify(productRepository).findById(incomingProductIdentifier);
         Mockito.verify(productRepository).save(mappedProductEntity);
         Mockito.verify(productMapper).toEvent(persistedProductEntity, ProductAction.CREATED, tenantIdentifier);
         Mockito.verify(eventKeyResolver).resolveProductKey(tenantIdentifier, newPersistedProductIdentifier);
@@ -313,7 +701,7 @@ class ProductServiceTest {
         Mockito.when(productRepository.findById(productIdentifier)).thenReturn(Optional.of(entity));
         Mockito.when(eventKeyResolver.resolveProductKey(tenantIdentifier, productIdentifier)).thenReturn(expectedKafkaKey);
 
-        productService.deleteProduct(productIdentifier);
+        productService.deleteProduct(productIdentifier, null);
 
         Mockito.verify(productRepository).findById(productIdentifier);
         Mockito.verify(productHistoryService).saveProductHistory(entity, ProductAction.DELETED, tenantIdentifier);
@@ -321,9 +709,200 @@ class ProductServiceTest {
         Mockito.verify(eventKeyResolver).resolveProductKey(tenantIdentifier, productIdentifier);
         Mockito.verify(productEventPublisher)
                 .publishProductDeleted(Mockito.eq(expectedKafkaKey), Mockito.any(ProductDeletedEvent.class));
+        Mockito.verify(productCache).evictAfterCommit(productIdentifier);
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
     }
 
 
+    @Test
+    void deleteProduct_whenIfMatchIsStale_throwsPreconditionFailedWithoutDeleting() {
+        final ProductEntity entity = new ProductEntity("Any", "ANY-2", "Any", Category.HOUSEHOLD, Unit.PIECE, BigDecimal.ONE);
+        entity.setId("product-4100");
+        entity.setVersion(2L);
+        Mockito.when(productRepository.findById("product-4100")).thenReturn(Optional.of(entity));
+        Mockito.when(productETagResolver.resolveProductETag("product-4100", 2L)).thenReturn("\"v2\"");
+        Mockito.when(productETagResolver.matchesAnyStrong("\"v1\"", "\"v2\"")).thenReturn(false);
+
+        Assertions.assertThrows(ProductPreconditionFailedException.class, () -> productService.deleteProduct("product-4100", "\"v1\""));
+
+        Mockito.verify(productRepository, Mockito.never()).deleteById(Mockito.anyString());
+        Mockito.verifyNoInteractions(productHistoryService, productEventPublisher);
+    }
+
+    @Test
+    void deleteProducts_byFilter_deletesSetBasedAndPublishesPerDeletedRow() {
+        final ProductEntity deletedProductEntity = new ProductEntity("Kite", "KT-1", "Summer kite",
+                Category.TOYS, Unit.PIECE, BigDecimal.valueOf(19.99));
+        deletedProductEntity.setId("product-9100");
+
+        Mockito.when(productRepository.deleteByFilterReturning(Category.TOYS, null, 5000)).thenReturn(List.of(deletedProductEntity));
+        Mockito.when(eventKeyResolver.resolveProductKey("Event-tenant", "product-9100")).thenReturn("Event-tenant-product-9100");
+
+        final ProductBulkDeleteResult productBulkDeleteResult =
+                productService.deleteProducts(new ProductBulkDeleteDto(null, Category.TOYS, null), false);
+
+        Assertions.assertEquals(new ProductBulkDeleteResult(false, 1, false, List.of("product-9100")), productBulkDeleteResult);
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(deletedProductEntity), ProductAction.DELETED, "Event-tenant");
+        Mockito.verify(productEventPublisher).publishProductDeleted(Mockito.eq("Event-tenant-product-9100"),
+                Mockito.argThat(event -> event.id().equals("product-9100") && event.productAction() == ProductAction.DELETED));
+        Mockito.verify(productCache).evictAllAfterCommit(List.of("product-9100"));
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+    }
+
+    @Test
+    void deleteProducts_dryRun_onlyCounts() {
+        Mockito.when(productRepository.countByIdIn(Set.of("product-1", "product-2"))).thenReturn(1L);
+
+        final ProductBulkDeleteResult productBulkDeleteResult =
+                productService.deleteProducts(new ProductBulkDeleteDto(List.of("product-1", "product-2", "product-1"), null, null), true);
+
+        Assertions.assertEquals(new ProductBulkDeleteResult(true, 1, false, List.of()), productBulkDeleteResult);
+        Mockito.verify(productRepository, Mockito.never()).deleteAllByIdsReturning(Mockito.any());
+        Mockito.verifyNoInteractions(productHistoryService, productEventPublisher);
+    }
+
+    @Test
+    void deleteProducts_withIdsAndFilter_throwsIllegalArgumentException() {
+        final ProductBulkDeleteDto productBulkDeleteDto = new ProductBulkDeleteDto(List.of("product-1"), Category.TOYS, null);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> productService.deleteProducts(productBulkDeleteDto, false));
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void applyProductBatch_swapsArticleNumbersThroughPlaceholdersAndPublishesAfterCommit() {
+        final ProductEntity firstProduct = new ProductEntity("Fuse", "FS-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, BigDecimal.ONE);
+        final ProductEntity secondProduct = new ProductEntity("Tape", "TP-1", "Tape", Category.OFFICE, Unit.PIECE, BigDecimal.TEN);
+        final ProductEntity deletedProduct = new ProductEntity("Kite", "KT-1", "Kite", Category.TOYS, Unit.PIECE, BigDecimal.TEN);
+        final ProductEntity createdProduct = new ProductEntity("Kite 2", "KT-1", "Kite", Category.TOYS, Unit.PIECE, BigDecimal.TEN);
+        firstProduct.setId("product-1");
+        secondProduct.setId("product-2");
+        deletedProduct.setId("product-3");
+        createdProduct.setId("product-4");
+        final ProductToCreateDto firstUpdate = new ProductToCreateDto("Fuse", "TP-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, 1.0);
+        final ProductToCreateDto secondUpdate = new ProductToCreateDto("Tape", "FS-1", "Tape", Category.OFFICE, Unit.PIECE, 10.0);
+        final ProductToCreateDto creation = new ProductToCreateDto("Kite 2", "KT-1", "Kite", Category.TOYS, Unit.PIECE, 10.0);
+        final List<ProductBatchOperationDto> operations = List.of(
+                new ProductBatchOperationDto(ProductBatchOperationType.UPDATE, "product-1", firstUpdate),
+                new ProductBatchOperationDto(ProductBatchOperationType.UPDATE, "product-2", secondUpdate),
+                new ProductBatchOperationDto(ProductBatchOperationType.DELETE, "product-3", null),
+                new ProductBatchOperationDto(ProductBatchOperationType.CREATE, null, creation));
+        final List<List<String>> articleNumbersAtFlush = new ArrayList<>();
+        final List<List<String>> savedArticleNumbersAtFlush = new ArrayList<>();
+
+        Mockito.when(productValidationService.validateProductBatch(operations)).thenReturn(Map.of());
+        Mockito.when(productRepository.deleteAllByIdsReturning(List.of("product-3"))).thenReturn(List.of(deletedProduct));
+        Mockito.when(productRepository.findAllById(List.of("product-1", "product-2"))).thenReturn(List.of(secondProduct, firstProduct));
+        Mockito.doAnswer(invocation -> {
+            final ProductToCreateDto productToCreateDto = invocation.getArgument(0);
+            invocation.<ProductEntity>getArgument(1).setArticleNumber(productToCreateDto.articleNumber());
+            return null;
+        }).when(productMapper).updateEntity(Mockito.any(ProductToCreateDto.class), Mockito.any());
+        Mockito.doAnswer(invocation -> articleNumbersAtFlush.add(List.of(firstProduct.getArticleNumber(), secondProduct.getArticleNumber())))
+                .when(productRepository).flush();
+        Mockito.when(productMapper.toEntity(creation)).thenReturn(createdProduct);
+        Mockito.when(productRepository.saveAll(List.of(createdProduct))).thenAnswer(invocation -> {
+            savedArticleNumbersAtFlush.addAll(articleNumbersAtFlush);
+            return List.of(createdProduct);
+        });
+        stubBatchEvents();
+
+        final ProductBulkResult productBulkResult = productService.applyProductBatch(operations);
+
+        Assertions.assertEquals(List.of(ProductBulkItemStatus.UPDATED, ProductBulkItemStatus.UPDATED, ProductBulkItemStatus.DELETED,
+                ProductBulkItemStatus.CREATED), productBulkResult.items().stream().map(ProductBulkItemResult::status).toList());
+        Assertions.assertEquals(List.of("product-1", "product-2", "product-3", "product-4"),
+                productBulkResult.items().stream().map(ProductBulkItemResult::id).toList());
+        final InOrder inOrder = Mockito.inOrder(productRepository, productMapper);
+        inOrder.verify(productRepository).releaseUniqueKeys(List.of(), List.of("product-1", "product-2"));
+        inOrder.verify(productMapper, Mockito.times(2)).updateEntity(Mockito.any(ProductToCreateDto.class), Mockito.any());
+        inOrder.verify(productRepository).flush();
+        inOrder.verify(productRepository).saveAll(List.of(createdProduct));
+        inOrder.verify(productRepository).flush();
+        Assertions.assertEquals(List.of(List.of("TP-1", "FS-1")), savedArticleNumbersAtFlush);
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(deletedProduct), ProductAction.DELETED, "Event-tenant");
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(firstProduct, secondProduct), ProductAction.UPDATED, "Event-tenant");
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(createdProduct), ProductAction.CREATED, "Event-tenant");
+        Mockito.verify(productEventPublisher).publishProductDeleted(Mockito.eq("Event-tenant-product-3"), Mockito.any(ProductDeletedEvent.class));
+        Mockito.verify(productEventPublisher, Mockito.times(3)).publishProductUpserted(Mockito.anyString(), Mockito.any());
+        Mockito.verify(productKeyFilter).put("Fuse", "TP-1");
+        Mockito.verify(productKeyFilter).put("Tape", "FS-1");
+        Mockito.verify(productKeyFilter).put("Kite 2", "KT-1");
+        Mockito.verify(productCache).evictAllAfterCommit(List.of("product-3", "product-1", "product-2"));
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+    }
+
+    @Test
+    void applyProductBatch_renameThenCreateWithOldName_flushesUpdateBeforeInsert() {
+        final ProductEntity renamedProduct = new ProductEntity("Fuse", "FS-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, BigDecimal.ONE);
+        final ProductEntity createdProduct = new ProductEntity("Fuse", "FS-2", "Fuse", Category.ELECTRONICS, Unit.PIECE, BigDecimal.ONE);
+        renamedProduct.setId("product-1");
+        createdProduct.setId("product-2");
+        final ProductToCreateDto rename = new ProductToCreateDto("Fuse old", "FS-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, 1.0);
+        final ProductToCreateDto creation = new ProductToCreateDto("Fuse", "FS-2", "Fuse", Category.ELECTRONICS, Unit.PIECE, 1.0);
+        final List<ProductBatchOperationDto> operations = List.of(
+                new ProductBatchOperationDto(ProductBatchOperationType.UPDATE, "product-1", rename),
+                new ProductBatchOperationDto(ProductBatchOperationType.CREATE, null, creation));
+        final List<String> namesAtFlush = new ArrayList<>();
+
+        Mockito.when(productValidationService.validateProductBatch(operations)).thenReturn(Map.of());
+        Mockito.when(productRepository.findAllById(List.of("product-1"))).thenReturn(List.of(renamedProduct));
+        Mockito.doAnswer(invocation -> {
+            invocation.<ProductEntity>getArgument(1).setName(invocation.<ProductToCreateDto>getArgument(0).name());
+            return null;
+        }).when(productMapper).updateEntity(Mockito.any(ProductToCreateDto.class), Mockito.any());
+        Mockito.doAnswer(invocation -> namesAtFlush.add(renamedProduct.getName())).when(productRepository).flush();
+        Mockito.when(productMapper.toEntity(creation)).thenReturn(createdProduct);
+        Mockito.when(productRepository.saveAll(List.of(createdProduct))).thenReturn(List.of(createdProduct));
+        stubBatchEvents();
+
+        productService.applyProductBatch(operations);
+
+        final InOrder inOrder = Mockito.inOrder(productRepository);
+        inOrder.verify(productRepository).flush();
+        inOrder.verify(productRepository).saveAll(List.of(createdProduct));
+        Assertions.assertEquals("Fuse old", namesAtFlush.getFirst());
+        Mockito.verify(productRepository, Mockito.never()).releaseUniqueKeys(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void applyProductBatch_withUnchangedUpdate_skipsPersistenceHistoryAndEvent() {
+        final ProductEntity unchangedProduct = new ProductEntity("Fuse", "FS-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, new BigDecimal("1.00"));
+        unchangedProduct.setId("product-1");
+        final ProductToCreateDto sameValues = new ProductToCreateDto("Fuse", "FS-1", "Fuse", Category.ELECTRONICS, Unit.PIECE, 1.0);
+        final List<ProductBatchOperationDto> operations = List.of(
+                new ProductBatchOperationDto(ProductBatchOperationType.UPDATE, "product-1", sameValues));
+
+        Mockito.when(productValidationService.validateProductBatch(operations)).thenReturn(Map.of());
+        Mockito.when(productRepository.findAllById(List.of("product-1"))).thenReturn(List.of(unchangedProduct));
+        Mockito.when(productRepository.saveAll(List.of())).thenReturn(List.of());
+
+        final ProductBulkResult productBulkResult = productService.applyProductBatch(operations);
+
+        Assertions.assertEquals(List.of(ProductBulkItemStatus.UNCHANGED),
+                productBulkResult.items().stream().map(ProductBulkItemResult::status).toList());
+        Mockito.verify(productMapper, Mockito.never()).updateEntity(Mockito.any(ProductToCreateDto.class), Mockito.any());
+        Mockito.verify(productHistoryService).saveProductHistories(List.of(), ProductAction.UPDATED, "Event-tenant");
+        Mockito.verify(productEventPublisher, Mockito.never()).publishProductUpserted(Mockito.anyString(), Mockito.any());
+        Mockito.verify(productCache).evictAllAfterCommit(List.of());
+        Mockito.verify(productCatalogVersion, Mockito.never()).incrementOnCommit();
+    }
+
+    @Test
+    void applyProductBatch_withInvalidOperation_rejectsWholeBatch() {
+        final List<ProductBatchOperationDto> operations = List.of(
+                new ProductBatchOperationDto(ProductBatchOperationType.DELETE, "product-1", null),
+                new ProductBatchOperationDto(ProductBatchOperationType.DELETE, "missing", null));
+        Mockito.when(productValidationService.validateProductBatch(operations))
+                .thenReturn(Map.of(1, List.of("Product with id: 'missing' does not exist")));
+
+        final ProductBatchValidationException exception =
+                Assertions.assertThrows(ProductBatchValidationException.class, () -> productService.applyProductBatch(operations));
+
+        Assertions.assertEquals(Map.of(1, List.of("Product with id: 'missing' does not exist")), exception.getValidationErrorsByIndex());
+        Mockito.verifyNoInteractions(productRepository, productHistoryService, productEventPublisher, afterCommitExecutor);
+    }
+
     @Test
     void deleteProduct_whenDoesNotExist_throwsProductNotFoundException() {
         final String productIdentifier = "missing-5000";
@@ -332,7 +911,7 @@ class ProductServiceTest {
 
         Assertions.assertThrows(
                 ProductNotFoundException.class,
-                () -> productService.deleteProduct(productIdentifier)
+                () -> productService.deleteProduct(productIdentifier, null)
         );
 
         Mockito.verify(productRepository).findById(productIdentifier);
@@ -341,6 +920,7 @@ class ProductServiceTest {
                 .saveProductHistory(Mockito.any(), Mockito.any(), Mockito.anyString());
         Mockito.verify(productEventPublisher, Mockito.never())
                 .publishProductDeleted(Mockito.anyString(), Mockito.any());
+        Mockito.verify(productCache, Mockito.never()).evictAfterCommit(Mockito.anyString());
     }
 
     @Test
@@ -373,15 +953,38 @@ class ProductServiceTest {
         final Product secondDomainProduct = Mockito.mock(Product.class);
         final Page<Product> expectedPage = new PageImpl<>(List.of(firstDomainProduct, secondDomainProduct), pageable, 2);
 
+        Mockito.when(productPageCache.getPage(Mockito.eq(7L), Mockito.eq(pageable), Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Function<Pageable, Page<Product>>>getArgument(2).apply(pageable));
         Mockito.when(productRepository.findAll(pageable)).thenReturn(repositoryPage);
         Mockito.when(productMapper.toDomain(firstProductEntity)).thenReturn(firstDomainProduct);
         Mockito.when(productMapper.toDomain(secondProductEntity)).thenReturn(secondDomainProduct);
 
-        final Page<Product> actualPage = productService.getAllProducts(pageable);
+        final Page<Product> actualPage = productService.getAllProducts(7L, pageable);
 
         Assertions.assertEquals(expectedPage, actualPage);
     }
 
+    @Test
+    void getAllProducts_whenPageCached_doesNotQueryRepository() {
+        final Pageable pageable = PageRequest.of(0, 2);
+        final Page<Product> cachedPage = new PageImpl<>(List.of(Mockito.mock(Product.class)), pageable, 1);
+
+        Mockito.when(productPageCache.getPage(Mockito.eq(7L), Mockito.eq(pageable), Mockito.any())).thenReturn(cachedPage);
+
+        Assertions.assertEquals(cachedPage, productService.getAllProducts(7L, pageable));
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductPageETag_usesGivenCatalogVersion() {
+        final Pageable pageable = PageRequest.of(1, 20, Sort.by("name"));
+
+        Mockito.when(productETagResolver.resolveCatalogPageETag(42L, pageable)).thenReturn("\"page-etag\"");
+
+        Assertions.assertEquals("\"page-etag\"", productService.getProductPageETag(42L, pageable));
+        Mockito.verifyNoInteractions(productCatalogVersion);
+    }
+
     @Test
     void getProductById_whenFound_returnsDomain() {
         final String productIdentifier = "product-7000";
@@ -399,6 +1002,7 @@ class ProductServiceTest {
         final Product expectedDomainProduct = Mockito.mock(Product.class);
         final Optional<Product> expectedOptional = Optional.of(expectedDomainProduct);
 
+        stubCacheMiss(productIdentifier);
         Mockito.when(productRepository.findById(productIdentifier)).thenReturn(Optional.of(foundProductEntity));
         Mockito.when(productMapper.toDomain(foundProductEntity)).thenReturn(expectedDomainProduct);
 
@@ -412,10 +1016,271 @@ class ProductServiceTest {
         final String productIdentifier = "missing-8000";
         final Optional<Product> expectedOptional = Optional.empty();
 
+        stubCacheMiss(productIdentifier);
         Mockito.when(productRepository.findById(productIdentifier)).thenReturn(Optional.empty());
 
         final Optional<Product> actualOptional = productService.getProductById(productIdentifier);
 
         Assertions.assertEquals(expectedOptional, actualOptional);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getProductById_whenCached_doesNotQueryRepository() {
+        final String productIdentifier = "product-9000";
+        final Product cachedDomainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productCache.getProductById(Mockito.eq(productIdentifier), Mockito.any()))
+                .thenReturn(Optional.of(cachedDomainProduct));
+
+        final Optional<Product> actualOptional = productService.getProductById(productIdentifier);
+
+        Assertions.assertEquals(Optional.of(cachedDomainProduct), actualOptional);
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    private void stubBatchEvents() {
+        Mockito.when(eventKeyResolver.resolveProductKey(Mockito.eq("Event-tenant"), Mockito.anyString()))
+                .thenAnswer(invocation -> "Event-tenant-" + invocation.getArgument(1));
+        Mockito.when(productMapper.toEvent(Mockito.any(ProductEntity.class), Mockito.any(ProductAction.class), Mockito.eq("Event-tenant")))
+                .thenAnswer(invocation -> toBatchEvent(invocation.getArgument(0), invocation.getArgument(1), null));
+        Mockito.when(productMapper.toEvent(Mockito.any(ProductEntity.class), Mockito.any(ProductAction.class), Mockito.eq("Event-tenant"),
+                        Mockito.anyList()))
+                .thenAnswer(invocation -> toBatchEvent(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(3)));
+    }
+
+    private ProductUpsertedEvent toBatchEvent(final ProductEntity productEntity, final ProductAction productAction,
+                                              final List<String> changedFields) {
+        return new ProductUpsertedEvent(productEntity.getId(), productEntity.getName(), productEntity.getArticleNumber(),
+                productEntity.getCategory().name(), productEntity.getUnit().name(), productEntity.getPrice().doubleValue(),
+                productEntity.getDescription(), null, productAction, "Event-tenant", changedFields, productEntity.getVersion());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubCacheMiss(final String productIdentifier) {
+        Mockito.when(productCache.getProductById(Mockito.eq(productIdentifier), Mockito.any()))
+                .thenAnswer(invocation -> ((Function<String, Optional<Product>>) invocation.getArgument(1)).apply(productIdentifier));
+    }
+
+    @Test
+    void getProductsByCursor_fetchesOneExtraRowAndReturnsNextCursor() {
+        final ProductEntity firstProductEntity = new ProductEntity(
+                "Fuse",
+                "FS-5x20",
+                "Time-delay fuse 5x20mm",
+                Category.ELECTRONICS,
+                Unit.PIECE,
+                BigDecimal.valueOf(0.49)
+        );
+        firstProductEntity.setId("product-6001");
+
+        final ProductEntity secondProductEntity = new ProductEntity(
+                "Fuse holder",
+                "FH-5x20",
+                "Fuse holder for 5x20mm fuses",
+                Category.ELECTRONICS,
+                Unit.PIECE,
+                BigDecimal.valueOf(1.49)
+        );
+        secondProductEntity.setId("product-6002");
+
+        final ProductCursor incomingCursor = new ProductCursor(ProductSortKey.NAME, Sort.Direction.ASC, "Cable ties", "product-6000");
+        final ProductCursor expectedNextCursor = new ProductCursor(ProductSortKey.NAME, Sort.Direction.ASC, "Fuse", "product-6001");
+        final Product firstDomainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productCursorCodec.decode("incoming")).thenReturn(incomingCursor);
+        Mockito.when(productRepository.findKeysetPage(ProductSortKey.NAME, Sort.Direction.ASC, "Cable ties", "product-6000", 2))
+                .thenReturn(List.of(firstProductEntity, secondProductEntity));
+        Mockito.when(productCursorCodec.encode(expectedNextCursor)).thenReturn("next");
+        Mockito.when(productMapper.toDomain(firstProductEntity)).thenReturn(firstDomainProduct);
+
+        final ProductCursorPage actualPage = productService.getProductsByCursor(ProductSortKey.NAME, Sort.Direction.ASC, "incoming", 1);
+
+        Assertions.assertEquals(new ProductCursorPage(List.of(firstDomainProduct), 1, true, "next"), actualPage);
+    }
+
+    @Test
+    void getProductsByCursor_lastPageHasNoNextCursor() {
+        final ProductEntity productEntity = new ProductEntity(
+                "Fuse",
+                "FS-5x20",
+                "Time-delay fuse 5x20mm",
+                Category.ELECTRONICS,
+                Unit.PIECE,
+                BigDecimal.valueOf(0.49)
+        );
+        productEntity.setId("product-6001");
+        final Product domainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productRepository.findKeysetPage(ProductSortKey.NAME, Sort.Direction.DESC, null, null, 21))
+                .thenReturn(List.of(productEntity));
+        Mockito.when(productMapper.toDomain(productEntity)).thenReturn(domainProduct);
+
+        final ProductCursorPage actualPage = productService.getProductsByCursor(ProductSortKey.NAME, Sort.Direction.DESC, null, 20);
+
+        Assertions.assertEquals(new ProductCursorPage(List.of(domainProduct), 20, false, null), actualPage);
+        Mockito.verifyNoInteractions(productCursorCodec);
+    }
+
+    @Test
+    void getProductsByCursor_rejectsCursorIssuedForDifferentSort() {
+        final ProductCursor incomingCursor = new ProductCursor(ProductSortKey.UPDATED_AT, Sort.Direction.ASC, "2025-01-10T12:00", "product-6000");
+        Mockito.when(productCursorCodec.decode("incoming")).thenReturn(incomingCursor);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> productService.getProductsByCursor(ProductSortKey.NAME, Sort.Direction.ASC, "incoming", 20));
+        Mockito.verify(productRepository, Mockito.never())
+                .findKeysetPage(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    void getProductSlice_withoutTotal_doesNotCount() {
+        final Pageable pageable = PageRequest.of(0, 1);
+        final ProductEntity productEntity = new ProductEntity(
+                "Fuse",
+                "FS-5x20",
+                "Time-delay fuse 5x20mm",
+                Category.ELECTRONICS,
+                Unit.PIECE,
+                BigDecimal.valueOf(0.49)
+        );
+        final Product domainProduct = Mockito.mock(Product.class);
+
+        Mockito.when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(productEntity), pageable, true));
+        Mockito.when(productMapper.toDomain(productEntity)).thenReturn(domainProduct);
+
+        final ProductSlicePage actualSlice = productService.getProductSlice(pageable, ProductTotalMode.NONE);
+
+        Assertions.assertEquals(new ProductSlicePage(List.of(domainProduct), 0, 1, true, ProductTotalMode.NONE, null), actualSlice);
+        Mockito.verify(productRepository, Mockito.never()).count();
+        Mockito.verify(productRepository, Mockito.never()).estimateRowCount(Mockito.anyString());
+    }
+
+    @Test
+    void getProductSlice_withApproximateTotal_usesTableStatistics() {
+        final Pageable pageable = PageRequest.of(2, 10);
+
+        Mockito.when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        Mockito.when(productRepository.estimateRowCount("local.products")).thenReturn(Optional.of(4_000_000L));
+
+        final ProductSlicePage actualSlice = productService.getProductSlice(pageable, ProductTotalMode.APPROXIMATE);
+
+        Assertions.assertEquals(4_000_000L, actualSlice.totalElements());
+        Mockito.verify(productRepository, Mockito.never()).count();
+    }
+
+    @Test
+    void getProductSlice_withApproximateTotal_fallsBackToCountWithoutStatistics() {
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        Mockito.when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        Mockito.when(productRepository.estimateRowCount("local.products")).thenReturn(Optional.of(-1L));
+        Mockito.when(productRepository.count()).thenReturn(3L);
+
+        final ProductSlicePage actualSlice = productService.getProductSlice(pageable, ProductTotalMode.APPROXIMATE);
+
+        Assertions.assertEquals(3L, actualSlice.totalElements());
+    }
+
+    @Test
+    void getProductSlice_withExactTotal_counts() {
+        final Pageable pageable = PageRequest.of(0, 10);
+
+        Mockito.when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        Mockito.when(productRepository.count()).thenReturn(42L);
+
+        final ProductSlicePage actualSlice = productService.getProductSlice(pageable, ProductTotalMode.EXACT);
+
+        Assertions.assertEquals(42L, actualSlice.totalElements());
+        Mockito.verify(productRepository, Mockito.never()).estimateRowCount(Mockito.anyString());
+    }
+
+    @Test
+    void getProductsByIds_returnsFoundProductsInRequestOrderAndMissingIds() {
+        final ProductEntity productEntity = new ProductEntity(
+                "Fuse",
+                "FS-5x20",
+                "Time-delay fuse 5x20mm",
+                Category.ELECTRONICS,
+                Unit.PIECE,
+                BigDecimal.valueOf(0.49)
+        );
+        productEntity.setId("product-2");
+        final Product cachedProduct = new Product("product-1", "Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, 3.99, null, null, null, 0L);
+        final Product loadedProduct = new Product("product-2", "Fuse", "FS-5x20", "Time-delay fuse 5x20mm",
+                Category.ELECTRONICS, Unit.PIECE, 0.49, null, null, null, 0L);
+
+        Mockito.when(productRepository.findAllById(Set.of("product-2", "missing"))).thenReturn(List.of(productEntity));
+        Mockito.when(productMapper.toDomain(productEntity)).thenReturn(loadedProduct);
+        Mockito.when(productCache.getProductsByIds(Mockito.anyCollection(), Mockito.any())).thenAnswer(invocation -> {
+            final Function<Set<String>, Map<String, Product>> loader = invocation.getArgument(1);
+            final Map<String, Product> resolvedProducts = new HashMap<>(loader.apply(Set.of("product-2", "missing")));
+            resolvedProducts.put("product-1", cachedProduct);
+            return resolvedProducts;
+        });
+
+        final ProductBatchResult<Product> actual = productService.getProductsByIds(List.of("missing", "product-2", "product-1", "product-2"));
+
+        Assertions.assertEquals(List.of(loadedProduct, cachedProduct), actual.products());
+        Assertions.assertEquals(List.of("missing"), actual.missingIds());
+    }
+
+    @Test
+    void getProductsByIdsProjected_projectsCachedProductsAndQueriesOnlyUncachedIds() {
+        final List<ProductField> productFields = List.of(ProductField.ID, ProductField.NAME, ProductField.PRICE);
+        final Product cachedProduct = new Product("product-1", "Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, 3.99, null, null, null, 0L);
+        final Map<String, Object> loadedView = Map.of("id", "product-2", "name", "Fuse", "price", 0.49);
+
+        Mockito.when(productFieldsResolver.resolveFields("name,price")).thenReturn(productFields);
+        Mockito.when(productCache.getPresentProducts(Set.of("product-1", "product-2", "missing")))
+                .thenReturn(Map.of("product-1", cachedProduct));
+        Mockito.when(productRepository.findProjectedByIds(productFields, List.of("product-2", "missing")))
+                .thenReturn(List.of(loadedView));
+
+        final ProductBatchResult<Map<String, Object>> actual =
+                productService.getProductsByIdsProjected(List.of("product-1", "product-2", "missing"), "name,price");
+
+        final Map<String, Object> expectedCachedView = Map.of("id", "product-1", "name", "Cable ties", "price", 3.99);
+        Assertions.assertEquals(List.of(expectedCachedView, loadedView), actual.products());
+        Assertions.assertEquals(List.of("missing"), actual.missingIds());
+        Assertions.assertEquals(List.of("id", "name", "price"), List.copyOf(actual.products().getFirst().keySet()));
+        Mockito.verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void getAllProductsProjected_delegatesResolvedFieldsToRepository() {
+        final Pageable pageable = PageRequest.of(0, 2);
+        final List<ProductField> productFields = List.of(ProductField.ID, ProductField.NAME);
+        final Page<Map<String, Object>> repositoryPage = new PageImpl<>(List.of(Map.of("id", "product-1", "name", "Fuse")), pageable, 1);
+
+        Mockito.when(productFieldsResolver.resolveFields("name")).thenReturn(productFields);
+        Mockito.when(productRepository.findAllProjected(productFields, pageable)).thenReturn(repositoryPage);
+
+        Assertions.assertEquals(repositoryPage, productService.getAllProductsProjected(pageable, "name"));
+        Mockito.verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void getProductETag_whenCached_doesNotQueryRepository() {
+        final LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 10, 12, 0);
+        final Product cachedProduct = new Product("product-1", "Cable ties", "CT-200", "Cable ties 200mm black",
+                Category.HOUSEHOLD, Unit.PACKAGE, 3.99, updatedAt, updatedAt, null, 4L);
+
+        Mockito.when(productCache.getPresentProducts(List.of("product-1"))).thenReturn(Map.of("product-1", cachedProduct));
+        Mockito.when(productETagResolver.resolveProductETag("product-1", 4L)).thenReturn("\"etag\"");
+
+        Assertions.assertEquals(Optional.of("\"etag\""), productService.getProductETag("product-1"));
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductETag_whenNotCached_readsOnlyVersion() {
+        Mockito.when(productCache.getPresentProducts(List.of("product-1"))).thenReturn(Map.of());
+        Mockito.when(productRepository.findVersionById("product-1")).thenReturn(Optional.of(4L));
+        Mockito.when(productETagResolver.resolveProductETag("product-1", 4L)).thenReturn("\"etag\"");
+
+        Assertions.assertEquals(Optional.of("\"etag\""), productService.getProductETag("product-1"));
+        Mockito.verify(productRepository, Mockito.never()).findById(Mockito.anyString());
+    }
+}
@@ -0,0 +1,249 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import de.resume.inventory.management.system.productservice.config.ProductCacheConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ProductCacheImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> deferredActions = new ArrayList<>();
+    private final ProductCacheConfiguration productCacheConfiguration = new ProductCacheConfiguration();
+    private final AtomicBoolean invalidationReady = new AtomicBoolean(true);
+
+    private ProductCacheImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProductCacheImpl(productCacheConfiguration, deferredActions::add, invalidationReady::get, meterRegistry);
+    }
+
+    @Test
+    void getProductById_loadsOnceAndServesFromCache() {
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final Product product = product("product-1");
+
+        final Optional<Product> first = sut.getProductById("product-1", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+        final Optional<Product> second = sut.getProductById("product-1", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+
+        Assertions.assertEquals(Optional.of(product), first);
+        Assertions.assertEquals(Optional.of(product), second);
+        Assertions.assertEquals(1, loaderInvocations.get());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "products").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "products").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getProductById_doesNotCacheMissingProducts() {
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+
+        sut.getProductById("missing", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.empty();
+        });
+        final Optional<Product> actual = sut.getProductById("missing", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.empty();
+        });
+
+        Assertions.assertTrue(actual.isEmpty());
+        Assertions.assertEquals(2, loaderInvocations.get());
+    }
+
+    @Test
+    void getProductsByIds_loadsOnlyMissingIdsInOneCall() {
+        final Product cachedProduct = product("product-5");
+        final Product loadedProduct = product("product-6");
+        sut.getProductById("product-5", id -> Optional.of(cachedProduct));
+        final List<Set<String>> loaderInvocations = new ArrayList<>();
+
+        final Map<String, Product> actual = sut.getProductsByIds(List.of("product-5", "product-6", "missing"), ids -> {
+            loaderInvocations.add(ids);
+            return Map.of("product-6", loadedProduct);
+        });
+
+        Assertions.assertEquals(Map.of("product-5", cachedProduct, "product-6", loadedProduct), actual);
+        Assertions.assertEquals(List.of(Set.of("product-6", "missing")), loaderInvocations);
+        Assertions.assertEquals(Optional.of(loadedProduct), sut.getProductById("product-6", id -> Optional.empty()));
+    }
+
+    @Test
+    void getProductsByIds_whenEvictedDuringLoad_doesNotCacheLoadedProduct() {
+        final Product staleProduct = product("product-11");
+
+        final Map<String, Product> actual = sut.getProductsByIds(List.of("product-11"), ids -> {
+            sut.evict("product-11");
+            return Map.of("product-11", staleProduct);
+        });
+
+        Assertions.assertEquals(Map.of("product-11", staleProduct), actual);
+        Assertions.assertTrue(sut.getPresentProducts(List.of("product-11")).isEmpty());
+    }
+
+    @Test
+    void getProductByArticleNumber_cachesIdMappingAndProduct() {
+        final AtomicInteger idLoaderInvocations = new AtomicInteger();
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final Product product = product("product-7");
+
+        for (int lookup = 0; lookup < 3; lookup++) {
+            final Optional<Product> actual = sut.getProductByArticleNumber("SL-40", articleNumber -> {
+                idLoaderInvocations.incrementAndGet();
+                return Optional.of("product-7");
+            }, id -> {
+                loaderInvocations.incrementAndGet();
+                return Optional.of(product);
+            });
+            Assertions.assertEquals(Optional.of(product), actual);
+        }
+
+        Assertions.assertEquals(1, idLoaderInvocations.get());
+        Assertions.assertEquals(1, loaderInvocations.get());
+    }
+
+    @Test
+    void getProductByArticleNumber_withStaleMapping_reloadsMapping() {
+        final Product renamedProduct = new Product("product-8", "Spirit level", "SL-60", "Spirit level 60cm", Category.HOUSEHOLD,
+                Unit.PIECE, 15.90, LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 3, 10, 0), "Event-tenant", 0L);
+        final Product newOwner = product("product-9");
+        final List<String> resolvedIds = new ArrayList<>(List.of("product-8", "product-9"));
+
+        final Optional<Product> actual = sut.getProductByArticleNumber("SL-40", articleNumber -> Optional.of(resolvedIds.removeFirst()),
+                id -> Optional.of(id.equals("product-8") ? renamedProduct : newOwner));
+
+        Assertions.assertEquals(Optional.of(newOwner), actual);
+        Assertions.assertEquals(Optional.of(newOwner),
+                sut.getProductByArticleNumber("SL-40", articleNumber -> Optional.empty(), id -> Optional.empty()));
+    }
+
+    @Test
+    void evict_removesArticleNumberMapping() {
+        final Product product = product("product-10");
+        sut.getProductByArticleNumber("SL-40", articleNumber -> Optional.of("product-10"), id -> Optional.of(product));
+
+        final Optional<Product> cached = sut.getProductByArticleNumber("SL-40", articleNumber -> Optional.empty(), id -> Optional.empty());
+        Assertions.assertEquals(Optional.of(product), cached);
+
+        sut.evict("product-10");
+        final Optional<Product> afterDelete = sut.getProductByArticleNumber("SL-40", articleNumber -> Optional.empty(), id -> Optional.empty());
+        Assertions.assertTrue(afterDelete.isEmpty());
+    }
+
+    @Test
+    void evictAfterCommit_evictsOnlyOnceTransactionCommitted() {
+        final Product product = product("product-2");
+        sut.getProductById("product-2", id -> Optional.of(product));
+
+        sut.evictAfterCommit("product-2");
+
+        final Optional<Product> beforeCommit = sut.getProductById("product-2", id -> Optional.empty());
+        Assertions.assertEquals(Optional.of(product), beforeCommit);
+
+        deferredActions.forEach(Runnable::run);
+
+        final Optional<Product> afterCommit = sut.getProductById("product-2", id -> Optional.empty());
+        Assertions.assertTrue(afterCommit.isEmpty());
+    }
+
+    @Test
+    void evictAllAfterCommit_registersOneActionForAllIds() {
+        sut.getProductById("product-3", id -> Optional.of(product("product-3")));
+        sut.getProductById("product-4", id -> Optional.of(product("product-4")));
+
+        sut.evictAllAfterCommit(List.of("product-3", "product-4"));
+
+        Assertions.assertEquals(1, deferredActions.size());
+        deferredActions.forEach(Runnable::run);
+        Assertions.assertTrue(sut.getPresentProducts(List.of("product-3", "product-4")).isEmpty());
+    }
+
+    @Test
+    void putAfterCommit_populatesCacheOnceTransactionCommitted() {
+        final Product product = product("product-3");
+
+        sut.putAfterCommit(() -> product);
+        Assertions.assertEquals(1, deferredActions.size());
+        deferredActions.forEach(Runnable::run);
+
+        final Optional<Product> actual = sut.getProductById("product-3", id -> Optional.empty());
+        Assertions.assertEquals(Optional.of(product), actual);
+    }
+
+    @Test
+    void getProductById_whenDisabled_alwaysDelegatesToLoader() {
+        productCacheConfiguration.setEnabled(false);
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final Product product = product("product-4");
+
+        sut.getProductById("product-4", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+        sut.getProductById("product-4", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+        sut.putAfterCommit(() -> product);
+
+        Assertions.assertEquals(2, loaderInvocations.get());
+        Assertions.assertTrue(deferredActions.isEmpty());
+    }
+
+    @Test
+    void getProductById_beforeInvalidationPartitionsAssigned_bypassesCache() {
+        invalidationReady.set(false);
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final Product product = product("product-5");
+
+        sut.getProductById("product-5", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+        sut.putAfterCommit(() -> product);
+        invalidationReady.set(true);
+        sut.getProductById("product-5", id -> {
+            loaderInvocations.incrementAndGet();
+            return Optional.of(product);
+        });
+
+        Assertions.assertEquals(2, loaderInvocations.get());
+        Assertions.assertTrue(deferredActions.isEmpty());
+    }
+
+    @Test
+    void getProductById_withInvalidationDisabled_doesNotWaitForPartitions() {
+        productCacheConfiguration.getInvalidation().setEnabled(false);
+        invalidationReady.set(false);
+        final Product product = product("product-6");
+
+        sut.getProductById("product-6", id -> Optional.of(product));
+        final Optional<Product> actual = sut.getProductById("product-6", id -> Optional.empty());
+
+        Assertions.assertEquals(Optional.of(product), actual);
+    }
+
+    private Product product(final String id) {
+        return new Product(id, "Spirit level", "SL-40", "Spirit level 40cm", Category.HOUSEHOLD, Unit.PIECE,
+                12.90, LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 2, 10, 0), "Event-tenant", 0L);
+    }
+}
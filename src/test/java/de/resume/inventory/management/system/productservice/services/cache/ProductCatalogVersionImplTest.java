@@ -0,0 +1,73 @@
+package de.resume.inventory.management.system.productservice.services.cache;
+
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogVersionImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductCatalogVersionImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProductCatalogVersionImpl(productRepository, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void currentVersion_readsSharedSequenceValue() {
+        Mockito.when(productRepository.findCatalogVersion()).thenReturn(5L);
+
+        Assertions.assertEquals(5L, sut.currentVersion());
+        Assertions.assertEquals(5.0, meterRegistry.get("product.catalog.version").gauge().value());
+    }
+
+    @Test
+    void incrementOnCommit_incrementsSequenceBeforeCommitOfWriteTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        sut.incrementOnCommit();
+
+        Mockito.verify(productRepository, Mockito.never()).nextCatalogVersion();
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        Mockito.verify(productRepository).nextCatalogVersion();
+    }
+
+    @Test
+    void incrementOnCommit_withoutTransaction_incrementsImmediately() {
+        sut.incrementOnCommit();
+
+        Mockito.verify(productRepository).nextCatalogVersion();
+    }
+
+    @Test
+    void createSequence_createsSequenceIfMissing() {
+        sut.createSequence();
+
+        Mockito.verify(productRepository).createCatalogVersionSequence();
+    }
+}
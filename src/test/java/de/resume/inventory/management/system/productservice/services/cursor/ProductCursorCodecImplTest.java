@@ -0,0 +1,46 @@
+package de.resume.inventory.management.system.productservice.services.cursor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.models.domain.ProductCursor;
+import de.resume.inventory.management.system.productservice.models.enums.ProductSortKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+class ProductCursorCodecImplTest {
+
+    private final ProductCursorCodec productCursorCodec = new ProductCursorCodecImpl(new ObjectMapper());
+
+    @Test
+    void encodeAndDecode_roundTripsCursor() {
+        final ProductCursor productCursor = new ProductCursor(
+                ProductSortKey.UPDATED_AT, Sort.Direction.DESC, "2025-01-10T12:00:00.123456", "product-1");
+
+        final String encodedCursor = productCursorCodec.encode(productCursor);
+
+        Assertions.assertEquals(productCursor, productCursorCodec.decode(encodedCursor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64 !",
+            "eyJzb3J0S2V5IjoiTkFNRSJ9",
+            "bm90LWpzb24"
+    })
+    void decode_rejectsMalformedCursor(final String cursor) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> productCursorCodec.decode(cursor));
+    }
+
+    @Test
+    void decode_rejectsValueThatDoesNotMatchSortKey() {
+        final String cursorJson = "{\"sortKey\":\"CREATED_AT\",\"direction\":\"ASC\",\"value\":\"yesterday\",\"id\":\"product-1\"}";
+        final String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(cursorJson.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> productCursorCodec.decode(cursor));
+    }
+}
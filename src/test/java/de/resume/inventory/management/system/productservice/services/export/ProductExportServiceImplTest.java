@@ -0,0 +1,87 @@
+package de.resume.inventory.management.system.productservice.services.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
+import de.resume.inventory.management.system.productservice.models.domain.Product;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ProductExportService productExportService;
+
+    @BeforeEach
+    void setUp() {
+        productExportService = new ProductExportServiceImpl(productRepository, productMapper, objectMapper, entityManager);
+    }
+
+    @Test
+    void exportProducts_writesOneJsonLinePerProductAndDetachesEntities() throws IOException {
+        final ProductEntity firstProductEntity = new ProductEntity("Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, BigDecimal.valueOf(0.49));
+        final ProductEntity secondProductEntity = new ProductEntity("Cable ties", "CT-200", "Cable ties 200mm",
+                Category.HOUSEHOLD, Unit.PACKAGE, BigDecimal.valueOf(3.99));
+        final LocalDateTime timestamp = LocalDateTime.of(2025, 1, 10, 12, 0);
+        final Product firstProduct = new Product("product-1", "Fuse", "FS-5x20", "Time-delay fuse",
+                Category.ELECTRONICS, Unit.PIECE, 0.49, timestamp, timestamp, null, 0L);
+        final Product secondProduct = new Product("product-2", "Cable ties", "CT-200", "Cable ties 200mm",
+                Category.HOUSEHOLD, Unit.PACKAGE, 3.99, timestamp, timestamp, null, 0L);
+        final AtomicBoolean streamClosed = new AtomicBoolean(false);
+
+        Mockito.when(productRepository.streamAll())
+                .thenReturn(Stream.of(firstProductEntity, secondProductEntity).onClose(() -> streamClosed.set(true)));
+        Mockito.when(productMapper.toDomain(firstProductEntity)).thenReturn(firstProduct);
+        Mockito.when(productMapper.toDomain(secondProductEntity)).thenReturn(secondProduct);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final long exportedProducts = productExportService.exportProducts(outputStream);
+
+        Assertions.assertEquals(2, exportedProducts);
+        Assertions.assertEquals(objectMapper.writeValueAsString(firstProduct) + "\n" + objectMapper.writeValueAsString(secondProduct) + "\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(streamClosed.get());
+        Mockito.verify(entityManager).detach(firstProductEntity);
+        Mockito.verify(entityManager).detach(secondProductEntity);
+    }
+
+    @Test
+    void exportProducts_withEmptyCatalog_writesNothing() throws IOException {
+        Mockito.when(productRepository.streamAll()).thenReturn(Stream.empty());
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Assertions.assertEquals(0, productExportService.exportProducts(outputStream));
+        Assertions.assertEquals(0, outputStream.size());
+    }
+}
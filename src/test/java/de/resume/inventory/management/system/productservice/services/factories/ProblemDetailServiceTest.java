@@ -1,6 +1,7 @@
 package de.resume.inventory.management.system.productservice.services.factories;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
 import de.resume.inventory.management.system.productservice.services.advices.ProblemDetailService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -201,6 +202,19 @@ class ProblemDetailServiceTest {
         Assertions.assertEquals(URI.create("about:blank#conflict"), problemDetail.getType());
     }
 
+    @Test
+    @DisplayName("buildDataIntegrityViolation — names the violated unique field")
+    void buildDataIntegrityViolation_withViolatedField_setsField() {
+        final DataIntegrityViolationException exception =
+                new DataIntegrityViolationException("violated", new RuntimeException("duplicate key"));
+
+        final ProblemDetail problemDetail = sut.buildDataIntegrityViolation(exception, ProductField.ARTICLE_NUMBER);
+
+        Assertions.assertEquals(HttpStatus.CONFLICT.value(), problemDetail.getStatus());
+        Assertions.assertEquals("Value of 'articleNumber' is already taken.", problemDetail.getDetail());
+        Assertions.assertEquals("articleNumber", problemDetail.getProperties().get("field"));
+    }
+
     @Test
     @DisplayName("buildNotFound — sets NOT_FOUND and detail")
     void buildNotFound_setsValues() {
@@ -229,6 +243,19 @@ class ProblemDetailServiceTest {
         Assertions.assertEquals(URI.create("about:blank#invalid-request"), problemDetail.getType());
     }
 
+    @Test
+    @DisplayName("buildPreconditionFailed — sets PRECONDITION_FAILED and detail")
+    void buildPreconditionFailed_setsValues() {
+        final String detail = "If-Match does not match";
+
+        final ProblemDetail problemDetail = sut.buildPreconditionFailed(detail);
+
+        Assertions.assertEquals(HttpStatus.PRECONDITION_FAILED.value(), problemDetail.getStatus());
+        Assertions.assertEquals("Precondition failed", problemDetail.getTitle());
+        Assertions.assertEquals(detail, problemDetail.getDetail());
+        Assertions.assertEquals(URI.create("about:blank#precondition-failed"), problemDetail.getType());
+    }
+
     @Test
     @DisplayName("buildServerError — sets INTERNAL_SERVER_ERROR and detail")
     void buildServerError_setsValues() {
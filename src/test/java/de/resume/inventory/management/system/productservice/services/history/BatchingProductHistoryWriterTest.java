@@ -0,0 +1,140 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.models.entities.ProductHistoryEntity;
+import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+class BatchingProductHistoryWriterTest {
+
+    private final ProductHistoryRepository productHistoryRepository = Mockito.mock(ProductHistoryRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductHistoryConfiguration productHistoryConfiguration = new ProductHistoryConfiguration();
+    private final List<Runnable> deferredActions = new ArrayList<>();
+    private final List<List<ProductHistoryEntity>> flushedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    private BatchingProductHistoryWriter sut;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.shutdown();
+    }
+
+    @Test
+    void writeAll_flushesFullBatchesWithoutWaitingForInterval() throws InterruptedException {
+        productHistoryConfiguration.getAsync().setBatchSize(2);
+        productHistoryConfiguration.getAsync().setFlushInterval(Duration.ofSeconds(1));
+        productHistoryConfiguration.getAsync().setEnqueueAfterCommit(false);
+        final CountDownLatch flushed = recordFlushes(2);
+        sut = writer();
+
+        sut.writeAll(entries(4));
+
+        Assertions.assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(2, 2), flushedBatches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void write_flushesPartialBatchOnceIntervalElapsed() throws InterruptedException {
+        productHistoryConfiguration.getAsync().setFlushInterval(Duration.ofMillis(20));
+        productHistoryConfiguration.getAsync().setEnqueueAfterCommit(false);
+        final CountDownLatch flushed = recordFlushes(1);
+        sut = writer();
+
+        sut.write(entries(1).getFirst());
+
+        Assertions.assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        sut.shutdown();
+        Assertions.assertEquals(1.0, meterRegistry.get("product.history.entries").tag("result", "flushed").counter().count());
+    }
+
+    @Test
+    void writeAll_withEnqueueAfterCommit_defersUntilTransactionCommitted() throws InterruptedException {
+        productHistoryConfiguration.getAsync().setFlushInterval(Duration.ofMillis(20));
+        final CountDownLatch flushed = recordFlushes(1);
+        sut = writer();
+
+        sut.writeAll(entries(3));
+
+        Assertions.assertFalse(flushed.await(200, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(1, deferredActions.size());
+        deferredActions.forEach(Runnable::run);
+        Assertions.assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, flushedBatches.getFirst().size());
+    }
+
+    @Test
+    void writeAll_whenQueueFull_writesOverflowInCallerThread() {
+        productHistoryConfiguration.getAsync().setQueueCapacity(2);
+        productHistoryConfiguration.getAsync().setBatchSize(2);
+        productHistoryConfiguration.getAsync().setEnqueueTimeout(Duration.ofMillis(1));
+        productHistoryConfiguration.getAsync().setEnqueueAfterCommit(false);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread callerThread = Thread.currentThread();
+        Mockito.when(productHistoryRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+            if (Thread.currentThread() != callerThread) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return invocation.getArgument(0);
+        });
+        sut = writer();
+
+        sut.writeAll(entries(10));
+        release.countDown();
+
+        Assertions.assertTrue(meterRegistry.get("product.history.entries").tag("result", "caller").counter().count() > 0);
+    }
+
+    @Test
+    void shutdown_drainsQueuedEntries() throws InterruptedException {
+        productHistoryConfiguration.getAsync().setBatchSize(1_000);
+        productHistoryConfiguration.getAsync().setFlushInterval(Duration.ofSeconds(1));
+        productHistoryConfiguration.getAsync().setEnqueueAfterCommit(false);
+        recordFlushes(1);
+        sut = writer();
+
+        sut.writeAll(entries(5));
+        sut.shutdown();
+
+        Assertions.assertEquals(5, flushedBatches.stream().mapToInt(List::size).sum());
+    }
+
+    private BatchingProductHistoryWriter writer() {
+        return new BatchingProductHistoryWriter(productHistoryConfiguration, productHistoryRepository, deferredActions::add,
+                transactionManager, meterRegistry);
+    }
+
+    private CountDownLatch recordFlushes(final int expectedFlushes) {
+        final CountDownLatch flushed = new CountDownLatch(expectedFlushes);
+        Mockito.when(productHistoryRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+            flushedBatches.add(List.copyOf(invocation.<List<ProductHistoryEntity>>getArgument(0)));
+            flushed.countDown();
+            return invocation.getArgument(0);
+        });
+        return flushed;
+    }
+
+    private List<ProductHistoryEntity> entries(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> {
+                    final ProductHistoryEntity productHistoryEntity = new ProductHistoryEntity();
+                    productHistoryEntity.setProductId("product-" + index);
+                    return productHistoryEntity;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,169 @@
+package de.resume.inventory.management.system.productservice.services.history;
+
+import de.resume.inventory.management.system.productservice.config.ProductHistoryConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductHistoryPartition;
+import de.resume.inventory.management.system.productservice.models.enums.ProductHistoryRetentionAction;
+import de.resume.inventory.management.system.productservice.repositories.ProductHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ProductHistoryPartitionServiceImplTest {
+
+    private static final LocalDate CURRENT_MONTH = LocalDate.now().withDayOfMonth(1);
+
+    @Mock
+    private ProductHistoryRepository productHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ProductHistoryConfiguration productHistoryConfiguration = new ProductHistoryConfiguration();
+
+    private ProductHistoryPartitionServiceImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        productHistoryConfiguration.getPartitioning().setPremakeMonths(2);
+        productHistoryConfiguration.getPartitioning().setRetentionMonths(12);
+        sut = new ProductHistoryPartitionServiceImpl(productHistoryConfiguration, productHistoryRepository, transactionManager);
+    }
+
+    @Test
+    void convertToPartitioned_preparesOutsideLockThenSwapsUnderLock() {
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(false);
+        Mockito.when(productHistoryRepository.prepareLegacyPartition(CURRENT_MONTH.plusMonths(2))).thenReturn(true);
+
+        sut.convertToPartitioned();
+
+        final var inOrder = Mockito.inOrder(productHistoryRepository);
+        inOrder.verify(productHistoryRepository).prepareLegacyPartition(CURRENT_MONTH.plusMonths(2));
+        inOrder.verify(productHistoryRepository).lockPartitionMaintenance();
+        inOrder.verify(productHistoryRepository).convertToPartitioned(CURRENT_MONTH.plusMonths(2));
+    }
+
+    @Test
+    void convertToPartitioned_whenAlreadyPartitioned_doesNothing() {
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(true);
+
+        sut.convertToPartitioned();
+
+        Mockito.verify(productHistoryRepository, Mockito.never()).prepareLegacyPartition(Mockito.any());
+        Mockito.verify(productHistoryRepository, Mockito.never()).convertToPartitioned(Mockito.any());
+    }
+
+    @Test
+    void convertToPartitioned_whenPreparedByAnotherInstance_skipsSwap() {
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(false);
+        Mockito.when(productHistoryRepository.prepareLegacyPartition(Mockito.any())).thenReturn(false);
+
+        sut.convertToPartitioned();
+
+        Mockito.verify(productHistoryRepository, Mockito.never()).lockPartitionMaintenance();
+        Mockito.verify(productHistoryRepository, Mockito.never()).convertToPartitioned(Mockito.any());
+    }
+
+    @Test
+    void onApplicationReady_withoutConvertOnStartup_doesNotConvertPopulatedHistory() {
+        Mockito.when(productHistoryRepository.tryLockPartitionMaintenance()).thenReturn(true);
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(false);
+        Mockito.when(productHistoryRepository.isHistoryEmpty()).thenReturn(false);
+
+        sut.onApplicationReady();
+
+        Mockito.verify(productHistoryRepository, Mockito.never()).prepareLegacyPartition(Mockito.any());
+        Mockito.verify(productHistoryRepository, Mockito.never()).convertToPartitioned(Mockito.any());
+        Mockito.verify(productHistoryRepository, Mockito.never()).createPartition(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void onApplicationReady_withoutConvertOnStartup_convertsEmptyHistoryAndPremakesPartitions() {
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(false, false, false, true);
+        Mockito.when(productHistoryRepository.isHistoryEmpty()).thenReturn(true);
+        Mockito.when(productHistoryRepository.prepareLegacyPartition(CURRENT_MONTH.plusMonths(2))).thenReturn(true);
+        Mockito.when(productHistoryRepository.tryLockPartitionMaintenance()).thenReturn(true);
+        Mockito.when(productHistoryRepository.findPartitions()).thenReturn(List.of());
+
+        sut.onApplicationReady();
+
+        Mockito.verify(productHistoryRepository).convertToPartitioned(CURRENT_MONTH.plusMonths(2));
+        Mockito.verify(productHistoryRepository).createPartition(partitionName(CURRENT_MONTH), CURRENT_MONTH, CURRENT_MONTH.plusMonths(1));
+    }
+
+    @Test
+    void maintainPartitions_premakesOnlyMonthsNotCoveredByExistingPartitions() {
+        givenMaintenanceLockAcquired(List.of(
+                new ProductHistoryPartition("product_history_legacy", null, CURRENT_MONTH.plusMonths(1), false),
+                new ProductHistoryPartition("product_history_default", null, null, true)));
+
+        sut.maintainPartitions();
+
+        Mockito.verify(productHistoryRepository).createPartition(partitionName(CURRENT_MONTH.plusMonths(1)),
+                CURRENT_MONTH.plusMonths(1), CURRENT_MONTH.plusMonths(2));
+        Mockito.verify(productHistoryRepository).createPartition(partitionName(CURRENT_MONTH.plusMonths(2)),
+                CURRENT_MONTH.plusMonths(2), CURRENT_MONTH.plusMonths(3));
+        Mockito.verify(productHistoryRepository, Mockito.never()).createPartition(Mockito.eq(partitionName(CURRENT_MONTH)),
+                Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void maintainPartitions_detachesPartitionsOlderThanRetention() {
+        final LocalDate expiredMonth = CURRENT_MONTH.minusMonths(13);
+        final LocalDate retainedMonth = CURRENT_MONTH.minusMonths(12);
+        givenMaintenanceLockAcquired(List.of(
+                partition(expiredMonth),
+                partition(retainedMonth),
+                new ProductHistoryPartition("product_history_default", null, null, true)));
+
+        sut.maintainPartitions();
+
+        Mockito.verify(productHistoryRepository).detachPartition(partitionName(expiredMonth));
+        Mockito.verify(productHistoryRepository, Mockito.never()).detachPartition(partitionName(retainedMonth));
+        Mockito.verify(productHistoryRepository, Mockito.never()).detachPartition("product_history_default");
+        Mockito.verify(productHistoryRepository, Mockito.never()).dropPartition(Mockito.any());
+    }
+
+    @Test
+    void maintainPartitions_withDropRetention_dropsExpiredPartitions() {
+        productHistoryConfiguration.getPartitioning().setRetentionAction(ProductHistoryRetentionAction.DROP);
+        final LocalDate expiredMonth = CURRENT_MONTH.minusMonths(24);
+        givenMaintenanceLockAcquired(List.of(partition(expiredMonth)));
+
+        sut.maintainPartitions();
+
+        Mockito.verify(productHistoryRepository).dropPartition(partitionName(expiredMonth));
+        Mockito.verify(productHistoryRepository, Mockito.never()).detachPartition(Mockito.any());
+    }
+
+    @Test
+    void maintainPartitions_whenLockHeldElsewhere_skips() {
+        Mockito.when(productHistoryRepository.tryLockPartitionMaintenance()).thenReturn(false);
+
+        sut.maintainPartitions();
+
+        Mockito.verify(productHistoryRepository, Mockito.never()).findPartitions();
+        Mockito.verify(productHistoryRepository, Mockito.never()).createPartition(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    private void givenMaintenanceLockAcquired(final List<ProductHistoryPartition> partitions) {
+        Mockito.when(productHistoryRepository.tryLockPartitionMaintenance()).thenReturn(true);
+        Mockito.when(productHistoryRepository.isPartitioned()).thenReturn(true);
+        Mockito.when(productHistoryRepository.findPartitions()).thenReturn(partitions);
+    }
+
+    private ProductHistoryPartition partition(final LocalDate month) {
+        return new ProductHistoryPartition(partitionName(month), month, month.plusMonths(1), false);
+    }
+
+    private String partitionName(final LocalDate month) {
+        return "product_history_%d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,124 @@
+package de.resume.inventory.management.system.productservice.services.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.config.ProductIdempotencyConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotencyClaim;
+import de.resume.inventory.management.system.productservice.models.domain.ProductIdempotentResponse;
+import de.resume.inventory.management.system.productservice.models.entities.ProductIdempotencyKeyEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyClaimStatus;
+import de.resume.inventory.management.system.productservice.models.enums.ProductIdempotencyStatus;
+import de.resume.inventory.management.system.productservice.repositories.ProductIdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class ProductIdempotencyServiceImplTest {
+
+    private final ProductIdempotencyKeyRepository productIdempotencyKeyRepository = Mockito.mock(ProductIdempotencyKeyRepository.class);
+    private final ProductIdempotencyConfiguration productIdempotencyConfiguration = new ProductIdempotencyConfiguration();
+
+    private ProductIdempotencyServiceImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProductIdempotencyServiceImpl(productIdempotencyConfiguration, productIdempotencyKeyRepository,
+                new ObjectMapper(), Runnable::run, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void claim_whenKeyIsNew_acquiresLease() {
+        Mockito.when(productIdempotencyKeyRepository.claim(ArgumentMatchers.eq("key-1"), ArgumentMatchers.eq("fingerprint-1"),
+                ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(1);
+
+        final ProductIdempotencyClaim actual = sut.claim("key-1", "fingerprint-1");
+
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.ACQUIRED, actual.status());
+        Mockito.verify(productIdempotencyKeyRepository, Mockito.never()).findById(ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void claim_whenCompletedInStore_replaysStoredResponseAndServesLaterHitsLocally() {
+        final ProductIdempotencyKeyEntity completedEntity = new ProductIdempotencyKeyEntity("key-2", "fingerprint-2",
+                ProductIdempotencyStatus.COMPLETED, 201, "{\"ETag\":[\"\\\"v0\\\"\"]}", "{\"id\":\"product-1\"}".getBytes(StandardCharsets.UTF_8),
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        Mockito.when(productIdempotencyKeyRepository.claim(ArgumentMatchers.eq("key-2"), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(0);
+        Mockito.when(productIdempotencyKeyRepository.findById("key-2")).thenReturn(Optional.of(completedEntity));
+
+        final ProductIdempotencyClaim first = sut.claim("key-2", "fingerprint-2");
+        final ProductIdempotencyClaim second = sut.claim("key-2", "fingerprint-2");
+
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.REPLAY, first.status());
+        Assertions.assertEquals(201, first.response().status());
+        Assertions.assertEquals(Map.of("ETag", List.of("\"v0\"")), first.response().headers());
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.REPLAY, second.status());
+        Mockito.verify(productIdempotencyKeyRepository, Mockito.times(1)).findById("key-2");
+    }
+
+    @Test
+    void claim_whenKeyHeldWithDifferentPayload_reportsMismatch() {
+        final ProductIdempotencyKeyEntity inProgressEntity = new ProductIdempotencyKeyEntity("key-3", "fingerprint-3",
+                ProductIdempotencyStatus.IN_PROGRESS, null, null, null, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+        Mockito.when(productIdempotencyKeyRepository.claim(ArgumentMatchers.eq("key-3"), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(0);
+        Mockito.when(productIdempotencyKeyRepository.findById("key-3")).thenReturn(Optional.of(inProgressEntity));
+
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.IN_PROGRESS, sut.claim("key-3", "fingerprint-3").status());
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.FINGERPRINT_MISMATCH, sut.claim("key-3", "other").status());
+    }
+
+    @Test
+    void complete_storesResponseAndAnswersNextClaimWithoutDatabase() {
+        final ProductIdempotencyKeyEntity inProgressEntity = new ProductIdempotencyKeyEntity("key-4", "fingerprint-4",
+                ProductIdempotencyStatus.IN_PROGRESS, null, null, null, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+        Mockito.when(productIdempotencyKeyRepository.findById("key-4")).thenReturn(Optional.of(inProgressEntity));
+        final ProductIdempotentResponse response = new ProductIdempotentResponse("fingerprint-4", 200,
+                Map.of("Content-Type", List.of("application/json")), "{}".getBytes(StandardCharsets.UTF_8));
+
+        sut.complete("key-4", response);
+        final ProductIdempotencyClaim actual = sut.claim("key-4", "fingerprint-4");
+
+        Assertions.assertEquals(ProductIdempotencyStatus.COMPLETED, inProgressEntity.getStatus());
+        Assertions.assertEquals(200, inProgressEntity.getResponseStatus());
+        Assertions.assertTrue(inProgressEntity.getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+        Assertions.assertEquals(ProductIdempotencyClaim.replay(response), actual);
+        Mockito.verify(productIdempotencyKeyRepository, Mockito.never()).claim(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void complete_withBodyAboveLocalLimit_replaysFromDatabaseOnly() {
+        productIdempotencyConfiguration.setMaxCachedBodySize(DataSize.ofBytes(8));
+        final ProductIdempotencyKeyEntity inProgressEntity = new ProductIdempotencyKeyEntity("key-6", "fingerprint-6",
+                ProductIdempotencyStatus.IN_PROGRESS, null, null, null, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+        Mockito.when(productIdempotencyKeyRepository.findById("key-6")).thenReturn(Optional.of(inProgressEntity));
+        Mockito.when(productIdempotencyKeyRepository.claim(ArgumentMatchers.eq("key-6"), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(0);
+        final ProductIdempotentResponse response = new ProductIdempotentResponse("fingerprint-6", 201,
+                Map.of(), "{\"items\":[1,2,3]}".getBytes(StandardCharsets.UTF_8));
+
+        sut.complete("key-6", response);
+        final ProductIdempotencyClaim actual = sut.claim("key-6", "fingerprint-6");
+
+        Assertions.assertEquals(ProductIdempotencyClaimStatus.REPLAY, actual.status());
+        Assertions.assertArrayEquals(response.body(), actual.response().body());
+        Mockito.verify(productIdempotencyKeyRepository, Mockito.times(2)).findById("key-6");
+    }
+
+    @Test
+    void release_deletesOnlyInProgressLease() {
+        sut.release("key-5");
+
+        Mockito.verify(productIdempotencyKeyRepository).deleteByIdempotencyKeyAndStatus("key-5", ProductIdempotencyStatus.IN_PROGRESS);
+    }
+}
@@ -0,0 +1,217 @@
+package de.resume.inventory.management.system.productservice.services.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.config.ProductImportConfiguration;
+import de.resume.inventory.management.system.productservice.mapper.ProductMapper;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReject;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportReport;
+import de.resume.inventory.management.system.productservice.models.domain.ProductImportedRow;
+import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.ProductAction;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportFormat;
+import de.resume.inventory.management.system.productservice.models.enums.ProductImportStatus;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import de.resume.inventory.management.system.productservice.models.events.ProductUpsertedEvent;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCatalogVersion;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.publisher.ProductEventPublisher;
+import de.resume.inventory.management.system.productservice.services.resolver.EventKeyResolver;
+import de.resume.inventory.management.system.productservice.services.transaction.AfterCommitExecutor;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceImplTest {
+
+    private static final String TENANT_ID = "Event-tenant";
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductEventPublisher productEventPublisher;
+
+    @Mock
+    private EventKeyResolver eventKeyResolver;
+
+    @Mock
+    private AfterCommitExecutor afterCommitExecutor;
+
+    @Mock
+    private ProductCatalogVersion productCatalogVersion;
+
+    @Mock
+    private ProductKeyFilter productKeyFilter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final ProductImportConfiguration productImportConfiguration = new ProductImportConfiguration();
+    private final List<String> copiedChunks = new ArrayList<>();
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        productImportService = new ProductImportServiceImpl(productRepository, productMapper, productEventPublisher, eventKeyResolver,
+                afterCommitExecutor, productCatalogVersion, productKeyFilter, transactionTemplate, validatorFactory.getValidator(), new ObjectMapper(),
+                productImportConfiguration);
+        ReflectionTestUtils.setField(productImportService, "tenantId", TENANT_ID);
+
+        Mockito.lenient().when(transactionTemplate.execute(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        Mockito.lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(afterCommitExecutor).execute(ArgumentMatchers.any(Runnable.class));
+        Mockito.lenient().when(productRepository.copyIntoImportStaging(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            final StringWriter copiedRows = new StringWriter();
+            invocation.<Reader>getArgument(0).transferTo(copiedRows);
+            copiedChunks.add(copiedRows.toString());
+            return copiedRows.toString().lines().count();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void importProducts_csv_copiesValidRowsAndReportsRejects() throws IOException {
+        final String csv = """
+                name,articleNumber,description,category,unit,price
+                Spirit level,SL-40,"Spirit level, 40cm",HOUSEHOLD,PIECE,12.90
+                Fuse,FS-5x20,,ELECTRONICS,PIECE,0.49
+                Broken,BR-1,,NOT_A_CATEGORY,PIECE,1.00
+
+                Fuse copy,FS-5x20,,ELECTRONICS,PIECE,0.59
+                """;
+        final ProductEntity spiritLevel = productEntity("product-1", "Spirit level", "SL-40");
+        final ProductEntity fuse = productEntity("product-2", "Fuse", "FS-5x20");
+        final ProductUpsertedEvent spiritLevelEvent = Mockito.mock(ProductUpsertedEvent.class);
+        final ProductUpsertedEvent fuseEvent = Mockito.mock(ProductUpsertedEvent.class);
+
+        Mockito.when(productRepository.mergeImportStaging(ArgumentMatchers.any(), ArgumentMatchers.eq(TENANT_ID)))
+                .thenReturn(List.of(new ProductImportedRow(2, spiritLevel), new ProductImportedRow(3, fuse)));
+        Mockito.when(eventKeyResolver.resolveProductKey(TENANT_ID, "product-1")).thenReturn("Event-tenant-product-1");
+        Mockito.when(eventKeyResolver.resolveProductKey(TENANT_ID, "product-2")).thenReturn("Event-tenant-product-2");
+        Mockito.when(productMapper.toEvent(spiritLevel, ProductAction.CREATED, TENANT_ID)).thenReturn(spiritLevelEvent);
+        Mockito.when(productMapper.toEvent(fuse, ProductAction.CREATED, TENANT_ID)).thenReturn(fuseEvent);
+
+        final ProductImportReport report = productImportService.importProducts(inputStream(csv), ProductImportFormat.CSV);
+
+        Assertions.assertEquals(List.of("""
+                2,"Spirit level","SL-40","Spirit level, 40cm",HOUSEHOLD,PIECE,12.9
+                3,"Fuse","FS-5x20",,ELECTRONICS,PIECE,0.49
+                6,"Fuse copy","FS-5x20",,ELECTRONICS,PIECE,0.59
+                """), copiedChunks);
+        Assertions.assertEquals(ProductImportStatus.COMPLETED, report.status());
+        Assertions.assertEquals(4, report.linesRead());
+        Assertions.assertEquals(2, report.imported());
+        Assertions.assertEquals(2, report.rejected());
+        Assertions.assertEquals(List.of(4L, 6L), report.rejects().stream().map(ProductImportReject::lineNumber).toList());
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-product-1", spiritLevelEvent);
+        Mockito.verify(productEventPublisher).publishProductUpserted("Event-tenant-product-2", fuseEvent);
+        Mockito.verify(productCatalogVersion).incrementOnCommit();
+        Assertions.assertTrue(productImportService.getRunningImports().isEmpty());
+    }
+
+    @Test
+    void importProducts_ndjson_flushesOneTransactionPerChunkAndRejectsInvalidRows() throws IOException {
+        productImportConfiguration.setChunkSize(2);
+        final String ndjson = """
+                {"name":"Fuse","articleNumber":"FS-1","category":"ELECTRONICS","unit":"PIECE","price":0.49}
+                {"name":"Cable ties","articleNumber":"CT-200","category":"HOUSEHOLD","unit":"PACKAGE","price":3.99}
+                {"name":"X","articleNumber":"XX-1","category":"OTHER","unit":"PIECE","price":-1}
+                {not json
+                {"name":"Tape","articleNumber":"TP-50","description":"Tape \\"50m\\"","category":"OFFICE","unit":"PIECE","price":2}
+                """;
+
+        Mockito.when(productRepository.mergeImportStaging(ArgumentMatchers.any(), ArgumentMatchers.eq(TENANT_ID)))
+                .thenReturn(List.of(), List.of());
+
+        final ProductImportReport report = productImportService.importProducts(inputStream(ndjson), ProductImportFormat.NDJSON);
+
+        Assertions.assertEquals(2, copiedChunks.size());
+        Assertions.assertEquals("5,\"Tape\",\"TP-50\",\"Tape \"\"50m\"\"\",OFFICE,PIECE,2.0\n", copiedChunks.get(1));
+        Assertions.assertEquals(5, report.linesRead());
+        Assertions.assertEquals(0, report.imported());
+        Assertions.assertEquals(5, report.rejected());
+        Mockito.verify(transactionTemplate, Mockito.times(2)).execute(ArgumentMatchers.any());
+        Mockito.verifyNoInteractions(productEventPublisher, productCatalogVersion);
+    }
+
+    @Test
+    void importProducts_capsReportedRejects() throws IOException {
+        productImportConfiguration.setMaxReportedRejects(1);
+        final String csv = """
+                name,articleNumber,category,unit,price
+                A,AA-1,OTHER,PIECE,1
+                B,BB-1,OTHER,PIECE,1
+                """;
+
+        final ProductImportReport report = productImportService.importProducts(inputStream(csv), ProductImportFormat.CSV);
+
+        Assertions.assertEquals(2, report.rejected());
+        Assertions.assertEquals(1, report.rejects().size());
+        Mockito.verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void importProducts_csvWithoutRequiredColumns_throwsIllegalArgumentException() {
+        final String csv = """
+                name,articleNumber,category
+                Fuse,FS-1,ELECTRONICS
+                """;
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> productImportService.importProducts(inputStream(csv), ProductImportFormat.CSV));
+        Assertions.assertTrue(productImportService.getRunningImports().isEmpty());
+        Mockito.verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void fromContentType_resolvesFormatIgnoringParameters() {
+        Assertions.assertEquals(ProductImportFormat.CSV, ProductImportFormat.fromContentType("text/csv; charset=UTF-8"));
+        Assertions.assertEquals(ProductImportFormat.NDJSON, ProductImportFormat.fromContentType("application/x-ndjson"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ProductImportFormat.fromContentType("application/json"));
+    }
+
+    private ByteArrayInputStream inputStream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProductEntity productEntity(final String id, final String name, final String articleNumber) {
+        final ProductEntity productEntity = new ProductEntity(name, articleNumber, null, Category.HOUSEHOLD, Unit.PIECE, BigDecimal.ONE);
+        productEntity.setId(id);
+        return productEntity;
+    }
+}
@@ -0,0 +1,37 @@
+package de.resume.inventory.management.system.productservice.services.keyfilter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+class ProductBloomFilterTest {
+
+    @Test
+    void mightContain_neverReportsInsertedValueAsAbsent() {
+        final ProductBloomFilter productBloomFilter = ProductBloomFilter.create(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(index -> productBloomFilter.put("SL-" + index));
+
+        Assertions.assertTrue(IntStream.range(0, 10_000).allMatch(index -> productBloomFilter.mightContain("SL-" + index)));
+    }
+
+    @Test
+    void mightContain_keepsFalsePositiveRateNearConfiguredProbability() {
+        final ProductBloomFilter productBloomFilter = ProductBloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(index -> productBloomFilter.put("SL-" + index));
+
+        final long falsePositives = IntStream.range(0, 100_000)
+                .filter(index -> productBloomFilter.mightContain("TP-" + index))
+                .count();
+
+        Assertions.assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        Assertions.assertTrue(productBloomFilter.expectedFalsePositiveProbability() < 0.02);
+    }
+
+    @Test
+    void create_rejectsInvalidParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ProductBloomFilter.create(0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ProductBloomFilter.create(100, 1.0));
+    }
+}
@@ -0,0 +1,143 @@
+package de.resume.inventory.management.system.productservice.services.keyfilter;
+
+import de.resume.inventory.management.system.productservice.config.ProductKeyFilterConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class ProductKeyFilterImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductKeyFilterConfiguration productKeyFilterConfiguration = new ProductKeyFilterConfiguration();
+    private final List<String> databaseLookups = new ArrayList<>();
+    private final AtomicBoolean invalidationReady = new AtomicBoolean(true);
+
+    private ProductKeyFilterImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        productKeyFilterConfiguration.setExpectedInsertions(1_000);
+        sut = new ProductKeyFilterImpl(productKeyFilterConfiguration, productRepository, invalidationReady::get, meterRegistry);
+    }
+
+    @Test
+    void exists_beforeFirstRebuild_delegatesToDatabase() {
+        final boolean actual = sut.exists(ProductField.NAME, "Spirit level", this::lookup);
+
+        Assertions.assertFalse(actual);
+        Assertions.assertEquals(List.of("Spirit level"), databaseLookups);
+    }
+
+    @Test
+    void exists_afterRebuild_skipsDatabaseForAbsentKeys() {
+        rebuildWith(new ProductUniqueKeys("Spirit level", "SL-40"));
+
+        final boolean actual = sut.exists(ProductField.ARTICLE_NUMBER, "TP-1", this::lookup);
+
+        Assertions.assertFalse(actual);
+        Assertions.assertTrue(databaseLookups.isEmpty());
+        Assertions.assertEquals(1.0, checks("articleNumber", "absent"));
+        Assertions.assertEquals(1, meterRegistry.get("product.key.filter.rebuild").timer().count());
+    }
+
+    @Test
+    void exists_afterRebuild_confirmsMaybePresentKeysAgainstDatabase() {
+        rebuildWith(new ProductUniqueKeys("Spirit level", "SL-40"));
+
+        final boolean present = sut.exists(ProductField.NAME, "Spirit level", value -> true);
+        final boolean falsePositive = sut.exists(ProductField.NAME, "Spirit level", this::lookup);
+
+        Assertions.assertTrue(present);
+        Assertions.assertFalse(falsePositive);
+        Assertions.assertEquals(1.0, checks("name", "present"));
+        Assertions.assertEquals(1.0, checks("name", "false_positive"));
+        Assertions.assertEquals(1.0, meterRegistry.get("product.key.filter.false.positive.rate").tag("key", "name").gauge().value());
+    }
+
+    @Test
+    void put_makesNewKeysVisibleWithoutRebuild() {
+        rebuildWith(new ProductUniqueKeys("Spirit level", "SL-40"));
+
+        sut.put("Tape", "TP-1");
+
+        Assertions.assertTrue(sut.exists(ProductField.NAME, "Tape", value -> true));
+        Assertions.assertTrue(sut.exists(ProductField.ARTICLE_NUMBER, "TP-1", value -> true));
+    }
+
+    @Test
+    void put_duringRebuild_isVisibleAfterSwap() {
+        rebuildWith(new ProductUniqueKeys("Spirit level", "SL-40"));
+        Mockito.when(productRepository.streamUniqueKeys()).thenReturn(Stream.of(new ProductUniqueKeys("Spirit level", "SL-40"))
+                .peek(productUniqueKeys -> sut.put("Tape", "TP-1")));
+
+        sut.rebuild();
+
+        Assertions.assertTrue(sut.exists(ProductField.NAME, "Tape", value -> true));
+        Assertions.assertTrue(sut.exists(ProductField.ARTICLE_NUMBER, "TP-1", value -> true));
+    }
+
+    @Test
+    void exists_whenDisabled_alwaysDelegatesToDatabase() {
+        productKeyFilterConfiguration.setEnabled(false);
+
+        sut.rebuild();
+        sut.exists(ProductField.NAME, "Spirit level", this::lookup);
+
+        Assertions.assertEquals(List.of("Spirit level"), databaseLookups);
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void rebuild_beforeInvalidationPartitionsAssigned_isDeferred() {
+        invalidationReady.set(false);
+
+        sut.rebuild();
+        sut.exists(ProductField.NAME, "Spirit level", this::lookup);
+
+        Assertions.assertEquals(List.of("Spirit level"), databaseLookups);
+        Mockito.verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void rebuild_withSyncDisabled_doesNotWaitForPartitions() {
+        productKeyFilterConfiguration.getSync().setEnabled(false);
+        invalidationReady.set(false);
+
+        rebuildWith(new ProductUniqueKeys("Spirit level", "SL-40"));
+
+        Assertions.assertFalse(sut.exists(ProductField.ARTICLE_NUMBER, "TP-1", this::lookup));
+        Assertions.assertTrue(databaseLookups.isEmpty());
+    }
+
+    private void rebuildWith(final ProductUniqueKeys... productUniqueKeys) {
+        Mockito.when(productRepository.count()).thenReturn((long) productUniqueKeys.length);
+        Mockito.when(productRepository.streamUniqueKeys()).thenReturn(Stream.of(productUniqueKeys));
+        sut.rebuild();
+    }
+
+    private boolean lookup(final String value) {
+        databaseLookups.add(value);
+        return false;
+    }
+
+    private double checks(final String key, final String result) {
+        return meterRegistry.get("product.key.filter.checks").tag("key", key).tag("result", result).counter().count();
+    }
+}
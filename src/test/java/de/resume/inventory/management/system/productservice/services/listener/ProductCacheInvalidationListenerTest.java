@@ -0,0 +1,112 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+import de.resume.inventory.management.system.productservice.models.events.ProductEventHeaders;
+import de.resume.inventory.management.system.productservice.models.events.ProductInvalidationMessage;
+import de.resume.inventory.management.system.productservice.services.cache.ProductCache;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import de.resume.inventory.management.system.productservice.services.resolver.InstanceIdResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheInvalidationListenerTest {
+
+    private static final String TOPIC = "inventory.product.upsert.v1";
+    private static final String LOCAL_INSTANCE = "instance-local";
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductKeyFilter productKeyFilter;
+
+    @Mock
+    private InstanceIdResolver instanceIdResolver;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductCacheInvalidationListener sut;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(instanceIdResolver.resolveInstanceId()).thenReturn(LOCAL_INSTANCE);
+        sut = new ProductCacheInvalidationListener(productCache, productKeyFilter, instanceIdResolver, meterRegistry);
+    }
+
+    @Test
+    void onProductChanged_fromOtherInstance_evictsAndRecordsLag() {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord =
+                record(new ProductInvalidationMessage("product-1"), "instance-remote");
+
+        sut.onProductChanged(consumerRecord, acknowledgment);
+
+        Mockito.verify(productCache).evict("product-1");
+        Mockito.verify(acknowledgment).acknowledge();
+        Assertions.assertEquals(1, meterRegistry.get("product.cache.invalidation.lag").timer().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("product.cache.invalidations").tag("result", "applied").counter().count());
+    }
+
+    @Test
+    void onProductChanged_fromThisInstance_isSkipped() {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord =
+                record(new ProductInvalidationMessage("product-2"), LOCAL_INSTANCE);
+
+        sut.onProductChanged(consumerRecord, acknowledgment);
+
+        Mockito.verifyNoInteractions(productCache);
+        Mockito.verify(acknowledgment).acknowledge();
+        Assertions.assertEquals(1.0, meterRegistry.get("product.cache.invalidations").tag("result", "skipped").counter().count());
+    }
+
+    @Test
+    void onProductChanged_fromAnyInstance_registersUniqueKeys() {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord =
+                record(new ProductInvalidationMessage("product-4", "Spirit level", "SL-40"), LOCAL_INSTANCE);
+
+        sut.onProductChanged(consumerRecord, acknowledgment);
+
+        Mockito.verify(productKeyFilter).put("Spirit level", "SL-40");
+        Mockito.verifyNoInteractions(productCache);
+    }
+
+    @Test
+    void onProductChanged_withoutOriginHeader_evicts() {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord =
+                new ConsumerRecord<>(TOPIC, 0, 0L, "key", new ProductInvalidationMessage("product-3"));
+
+        sut.onProductChanged(consumerRecord, acknowledgment);
+
+        Mockito.verify(productCache).evict("product-3");
+        Mockito.verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void onProductChanged_withUnreadablePayload_isAcknowledgedAndSkipped() {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord =
+                new ConsumerRecord<>(TOPIC, 0, 0L, "key", null);
+
+        sut.onProductChanged(consumerRecord, acknowledgment);
+
+        Mockito.verifyNoInteractions(productCache);
+        Mockito.verify(acknowledgment).acknowledge();
+    }
+
+    private ConsumerRecord<String, ProductInvalidationMessage> record(final ProductInvalidationMessage message, final String originInstance) {
+        final ConsumerRecord<String, ProductInvalidationMessage> consumerRecord = new ConsumerRecord<>(TOPIC, 0, 0L, "key", message);
+        consumerRecord.headers().add(ProductEventHeaders.ORIGIN_INSTANCE, originInstance.getBytes(StandardCharsets.UTF_8));
+        return consumerRecord;
+    }
+}
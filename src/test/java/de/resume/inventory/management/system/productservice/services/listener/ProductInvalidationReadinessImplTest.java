@@ -0,0 +1,68 @@
+package de.resume.inventory.management.system.productservice.services.listener;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class ProductInvalidationReadinessImplTest {
+
+    private static final TopicPartition UPSERT_PARTITION = new TopicPartition("inventory.product.upsert.v1", 0);
+    private static final TopicPartition DELETE_PARTITION = new TopicPartition("inventory.product.delete.v1", 0);
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private Consumer<String, Object> consumer;
+
+    private ProductInvalidationReadinessImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProductInvalidationReadinessImpl(applicationEventPublisher);
+    }
+
+    @Test
+    void isReady_beforePartitionsAssigned_isFalse() {
+        Assertions.assertFalse(sut.isReady());
+    }
+
+    @Test
+    void onPartitionsAssigned_resolvesPositionsBeforeBecomingReady() {
+        sut.onPartitionsAssigned(consumer, List.of(UPSERT_PARTITION, DELETE_PARTITION));
+
+        final InOrder inOrder = Mockito.inOrder(consumer, applicationEventPublisher);
+        inOrder.verify(consumer).position(UPSERT_PARTITION);
+        inOrder.verify(consumer).position(DELETE_PARTITION);
+        inOrder.verify(applicationEventPublisher).publishEvent(new ProductInvalidationReadyEvent(Set.of(UPSERT_PARTITION, DELETE_PARTITION)));
+        Assertions.assertTrue(sut.isReady());
+    }
+
+    @Test
+    void onPartitionsAssigned_afterRebalance_publishesReadyEventOnlyOnce() {
+        sut.onPartitionsAssigned(consumer, List.of(UPSERT_PARTITION));
+        sut.onPartitionsAssigned(consumer, List.of(UPSERT_PARTITION));
+
+        Mockito.verify(applicationEventPublisher, Mockito.times(1)).publishEvent(Mockito.any(ProductInvalidationReadyEvent.class));
+    }
+
+    @Test
+    void onPartitionsAssigned_withoutPartitions_staysNotReady() {
+        sut.onPartitionsAssigned(consumer, List.of());
+
+        Assertions.assertFalse(sut.isReady());
+        Mockito.verifyNoInteractions(applicationEventPublisher);
+    }
+}
@@ -0,0 +1,65 @@
+package de.resume.inventory.management.system.productservice.services.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProductMergePatchApplierImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductMergePatchApplier productMergePatchApplier =
+            new ProductMergePatchApplierImpl(objectMapper, Validation.buildDefaultValidatorFactory().getValidator());
+
+    private final ProductToUpdateDto currentProduct = new ProductToUpdateDto("product-1", "Spirit level", "SL-40",
+            "Spirit level 40cm", Category.HOUSEHOLD, Unit.PIECE, 12.9);
+
+    @Test
+    void applyMergePatch_replacesOnlySuppliedFields() throws Exception {
+        final ProductToUpdateDto actual = productMergePatchApplier.applyMergePatch(currentProduct, json("{\"price\":14.5,\"unit\":\"PACKAGE\"}"));
+
+        Assertions.assertEquals(new ProductToUpdateDto("product-1", "Spirit level", "SL-40", "Spirit level 40cm",
+                Category.HOUSEHOLD, Unit.PACKAGE, 14.5), actual);
+    }
+
+    @Test
+    void applyMergePatch_withNullValue_clearsField() throws Exception {
+        final ProductToUpdateDto actual = productMergePatchApplier.applyMergePatch(currentProduct, json("{\"description\":null}"));
+
+        Assertions.assertNull(actual.description());
+        Assertions.assertEquals(currentProduct.name(), actual.name());
+    }
+
+    @Test
+    void applyMergePatch_whenRequiredFieldCleared_throwsValidationException() throws Exception {
+        final JsonNode mergePatch = json("{\"name\":null}");
+
+        Assertions.assertThrows(ProductValidationException.class, () -> productMergePatchApplier.applyMergePatch(currentProduct, mergePatch));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[]",
+            "{\"id\":\"product-2\"}",
+            "{\"updatedAt\":\"2025-01-01\"}",
+            "{\"colour\":\"red\"}",
+            "{\"price\":\"cheap\"}",
+            "{\"category\":\"UNKNOWN\"}"
+    })
+    void applyMergePatch_rejectsInvalidPatch(final String mergePatch) throws Exception {
+        final JsonNode mergePatchNode = json(mergePatch);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> productMergePatchApplier.applyMergePatch(currentProduct, mergePatchNode));
+    }
+
+    private JsonNode json(final String value) throws Exception {
+        return objectMapper.readTree(value);
+    }
+}
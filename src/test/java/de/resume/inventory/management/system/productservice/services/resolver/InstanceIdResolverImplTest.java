@@ -0,0 +1,23 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InstanceIdResolverImplTest {
+
+    @Test
+    void resolveInstanceId_withConfiguredId_usesConfiguredId() {
+        final InstanceIdResolver sut = new InstanceIdResolverImpl("product-service-1");
+
+        Assertions.assertEquals("product-service-1", sut.resolveInstanceId());
+    }
+
+    @Test
+    void resolveInstanceId_withoutConfiguredId_isStableAcrossRestarts() {
+        final String firstStart = new InstanceIdResolverImpl("").resolveInstanceId();
+        final String secondStart = new InstanceIdResolverImpl(" ").resolveInstanceId();
+
+        Assertions.assertFalse(firstStart.isBlank());
+        Assertions.assertEquals(firstStart, secondStart);
+    }
+}
@@ -0,0 +1,61 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class ProductETagResolverTest {
+
+    private final ProductETagResolver productETagResolver = new ProductETagResolverImpl();
+
+    @Test
+    void resolveProductETag_isQuotedStableAndChangesWithVersion() {
+        final String eTag = productETagResolver.resolveProductETag("product-1", 3L);
+
+        Assertions.assertTrue(eTag.matches("\"[0-9a-f]{32}\""));
+        Assertions.assertEquals(eTag, productETagResolver.resolveProductETag("product-1", 3L));
+        Assertions.assertNotEquals(eTag, productETagResolver.resolveProductETag("product-2", 3L));
+        Assertions.assertNotEquals(eTag, productETagResolver.resolveProductETag("product-1", 4L));
+    }
+
+    @Test
+    void resolveCatalogPageETag_changesWithVersionPageAndSort() {
+        final PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("name"));
+
+        final String eTag = productETagResolver.resolveCatalogPageETag(1L, pageRequest);
+
+        Assertions.assertTrue(eTag.matches("\"[0-9a-f]{32}\""));
+        Assertions.assertEquals(eTag, productETagResolver.resolveCatalogPageETag(1L, PageRequest.of(0, 20, Sort.by("name"))));
+        Assertions.assertNotEquals(eTag, productETagResolver.resolveCatalogPageETag(2L, pageRequest));
+        Assertions.assertNotEquals(eTag, productETagResolver.resolveCatalogPageETag(1L, pageRequest.next()));
+        Assertions.assertNotEquals(eTag, productETagResolver.resolveCatalogPageETag(1L, PageRequest.of(0, 20, Sort.by("price"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc\"", "W/\"abc\"", "\"other\", \"abc\"", "*"})
+    void matchesAny_matchesListedWeakAndWildcardETags(final String ifNoneMatch) {
+        Assertions.assertTrue(productETagResolver.matchesAny(ifNoneMatch, "\"abc\""));
+    }
+
+    @Test
+    void matchesAny_rejectsDifferentETag() {
+        Assertions.assertFalse(productETagResolver.matchesAny("\"other\"", "\"abc\""));
+        Assertions.assertFalse(productETagResolver.matchesAny(null, "\"abc\""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"abc\"", "\"other\", \"abc\"", "W/\"other\", \"abc\"", "*"})
+    void matchesAnyStrong_matchesListedStrongAndWildcardETags(final String ifMatch) {
+        Assertions.assertTrue(productETagResolver.matchesAnyStrong(ifMatch, "\"abc\""));
+    }
+
+    @Test
+    void matchesAnyStrong_rejectsWeakAndDifferentETags() {
+        Assertions.assertFalse(productETagResolver.matchesAnyStrong("W/\"abc\"", "\"abc\""));
+        Assertions.assertFalse(productETagResolver.matchesAnyStrong("\"other\"", "\"abc\""));
+        Assertions.assertFalse(productETagResolver.matchesAnyStrong(null, "\"abc\""));
+    }
+}
@@ -0,0 +1,32 @@
+package de.resume.inventory.management.system.productservice.services.resolver;
+
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+class ProductFieldsResolverTest {
+
+    private final ProductFieldsResolver productFieldsResolver = new ProductFieldsResolverImpl();
+
+    @Test
+    void resolveFields_keepsRequestedOrderAndAlwaysIncludesId() {
+        final List<ProductField> actualFields = productFieldsResolver.resolveFields("price, name,articleNumber,,name");
+
+        Assertions.assertEquals(List.of(ProductField.ID, ProductField.PRICE, ProductField.NAME, ProductField.ARTICLE_NUMBER), actualFields);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "name,tenantId", "NAME"})
+    void resolveFields_rejectsBlankOrUnknownFields(final String fields) {
+        final IllegalArgumentException exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> productFieldsResolver.resolveFields(fields)
+        );
+
+        Assertions.assertTrue(exception.getMessage().contains("Allowed fields: id, name, articleNumber"));
+    }
+}
@@ -1,18 +1,35 @@
 package de.resume.inventory.management.system.productservice.services.validation;
 
+import de.resume.inventory.management.system.productservice.config.ProductValidationConfiguration;
 import de.resume.inventory.management.system.productservice.exceptions.ProductValidationException;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductBatchOperationDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
 import de.resume.inventory.management.system.productservice.models.dtos.ProductToUpdateDto;
 import de.resume.inventory.management.system.productservice.models.entities.ProductEntity;
+import de.resume.inventory.management.system.productservice.models.enums.ProductBatchOperationType;
+import de.resume.inventory.management.system.productservice.models.enums.ProductField;
+import de.resume.inventory.management.system.productservice.models.enums.ProductUniquenessMode;
 import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,6 +37,8 @@ import java.util.Objects;
 final class ProductValidationServiceImpl implements ProductValidationService {
 
     private final ProductRepository productRepository;
+    private final ProductValidationConfiguration productValidationConfiguration;
+    private final ProductKeyFilter productKeyFilter;
 
     @Override
     public void validateProductToCreate(final ProductToCreateDto productToCreateDto) {
@@ -28,8 +47,10 @@ final class ProductValidationServiceImpl implements ProductValidationService {
 
         final List<String> validationErrors = new ArrayList<>();
 
-        validateNameUniqueness(productToCreateDto.name(), validationErrors);
-        validateArticleNumberUniqueness(productToCreateDto.articleNumber(), validationErrors);
+        if (isPreCheckMode()) {
+            validateNameUniqueness(productToCreateDto.name(), validationErrors);
+            validateArticleNumberUniqueness(productToCreateDto.articleNumber(), validationErrors);
+        }
         validatePriceGreaterThanZero(productToCreateDto.price(), validationErrors);
 
         throwIfErrors(validationErrors);
@@ -38,19 +59,16 @@ final class ProductValidationServiceImpl implements ProductValidationService {
     }
 
     @Override
-    public void validateProductToUpdate(final ProductToUpdateDto productToUpdateDto) {
+    public void validateProductToUpdate(final ProductToUpdateDto productToUpdateDto, final ProductEntity existingProduct) {
         log.info("Validating product to update: id='{}', name='{}', articleNumber='{}'",
                 productToUpdateDto.id(), productToUpdateDto.name(), productToUpdateDto.articleNumber());
 
         final List<String> validationErrors = new ArrayList<>();
 
-        final ProductEntity existingProduct = productRepository.findById(productToUpdateDto.id())
-                .orElseThrow(() -> new ProductValidationException("Product with id: '" + productToUpdateDto.id() + "' does not exist"));
-
-        if (isNameModified(productToUpdateDto, existingProduct)) {
+        if (isPreCheckMode() && isNameModified(productToUpdateDto, existingProduct)) {
             validateNameUniquenessForUpdate(productToUpdateDto.id(), productToUpdateDto.name(), validationErrors);
         }
-        if (isArticleNumberModified(productToUpdateDto, existingProduct)) {
+        if (isPreCheckMode() && isArticleNumberModified(productToUpdateDto, existingProduct)) {
             validateArticleNumberUniquenessForUpdate(productToUpdateDto.id(), productToUpdateDto.articleNumber(), validationErrors);
         }
         if (isPriceModified(productToUpdateDto, existingProduct)) {
@@ -61,6 +79,206 @@ final class ProductValidationServiceImpl implements ProductValidationService {
         log.info("Product update validation passed: id='{}'", productToUpdateDto.id());
     }
 
+    @Override
+    public Map<Integer, List<String>> validateProductsToCreate(final List<ProductToCreateDto> productsToCreate) {
+        log.info("Validating {} products to create", productsToCreate.size());
+
+        final Set<String> names = productsToCreate.stream().map(ProductToCreateDto::name).collect(Collectors.toSet());
+        final Set<String> articleNumbers = productsToCreate.stream().map(ProductToCreateDto::articleNumber).collect(Collectors.toSet());
+        final List<ProductUniqueKeys> existingKeys = productRepository.findUniqueKeysByNamesOrArticleNumbers(names, articleNumbers);
+        final Set<String> takenNames = existingKeys.stream().map(ProductUniqueKeys::name).collect(Collectors.toSet());
+        final Set<String> takenArticleNumbers = existingKeys.stream().map(ProductUniqueKeys::articleNumber).collect(Collectors.toSet());
+
+        final Set<String> batchNames = new HashSet<>();
+        final Set<String> batchArticleNumbers = new HashSet<>();
+        final Map<Integer, List<String>> validationErrorsByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < productsToCreate.size(); index++) {
+            final ProductToCreateDto productToCreateDto = productsToCreate.get(index);
+            final List<String> validationErrors = new ArrayList<>();
+
+            if (takenNames.contains(productToCreateDto.name())) {
+                validationErrors.add(nameTakenMessage(productToCreateDto.name()));
+            } else if (batchNames.contains(productToCreateDto.name())) {
+                validationErrors.add(String.format("Product name: '%s' occurs more than once in the batch", productToCreateDto.name()));
+            }
+            if (takenArticleNumbers.contains(productToCreateDto.articleNumber())) {
+                validationErrors.add(articleNumberTakenMessage(productToCreateDto.articleNumber()));
+            } else if (batchArticleNumbers.contains(productToCreateDto.articleNumber())) {
+                validationErrors.add(String.format("Article number: '%s' occurs more than once in the batch", productToCreateDto.articleNumber()));
+            }
+            validatePriceGreaterThanZero(productToCreateDto.price(), validationErrors);
+
+            if (validationErrors.isEmpty()) {
+                batchNames.add(productToCreateDto.name());
+                batchArticleNumbers.add(productToCreateDto.articleNumber());
+            } else {
+                validationErrorsByIndex.put(index, validationErrors);
+            }
+        }
+
+        log.info("Bulk create validation finished: products={}, rejected={}", productsToCreate.size(), validationErrorsByIndex.size());
+        return validationErrorsByIndex;
+    }
+
+    @Override
+    public Map<Integer, List<String>> validateProductsToUpsert(final List<ProductToCreateDto> productsToUpsert) {
+        log.info("Validating {} products to upsert", productsToUpsert.size());
+
+        final Set<String> names = productsToUpsert.stream().map(ProductToCreateDto::name).collect(Collectors.toSet());
+        final Set<String> articleNumbers = productsToUpsert.stream().map(ProductToCreateDto::articleNumber).collect(Collectors.toSet());
+        final Map<String, String> articleNumbersByTakenName = productRepository.findUniqueKeysByNamesOrArticleNumbers(names, articleNumbers)
+                .stream()
+                .collect(Collectors.toMap(ProductUniqueKeys::name, ProductUniqueKeys::articleNumber));
+
+        final Set<String> batchNames = new HashSet<>();
+        final Set<String> batchArticleNumbers = new HashSet<>();
+        final Map<Integer, List<String>> validationErrorsByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < productsToUpsert.size(); index++) {
+            final ProductToCreateDto productToUpsertDto = productsToUpsert.get(index);
+            final List<String> validationErrors = new ArrayList<>();
+
+            final String takenByArticleNumber = articleNumbersByTakenName.get(productToUpsertDto.name());
+            if (Objects.nonNull(takenByArticleNumber) && !takenByArticleNumber.equals(productToUpsertDto.articleNumber())) {
+                validationErrors.add(nameTakenMessage(productToUpsertDto.name()));
+            } else if (batchNames.contains(productToUpsertDto.name())) {
+                validationErrors.add(String.format("Product name: '%s' occurs more than once in the batch", productToUpsertDto.name()));
+            }
+            if (batchArticleNumbers.contains(productToUpsertDto.articleNumber())) {
+                validationErrors.add(String.format("Article number: '%s' occurs more than once in the batch", productToUpsertDto.articleNumber()));
+            }
+            validatePriceGreaterThanZero(productToUpsertDto.price(), validationErrors);
+
+            if (validationErrors.isEmpty()) {
+                batchNames.add(productToUpsertDto.name());
+                batchArticleNumbers.add(productToUpsertDto.articleNumber());
+            } else {
+                validationErrorsByIndex.put(index, validationErrors);
+            }
+        }
+
+        log.info("Bulk upsert validation finished: products={}, rejected={}", productsToUpsert.size(), validationErrorsByIndex.size());
+        return validationErrorsByIndex;
+    }
+
+    @Override
+    public Map<Integer, List<String>> validateProductBatch(final List<ProductBatchOperationDto> operations) {
+        log.info("Validating product batch with {} operations", operations.size());
+
+        final Set<String> referencedIds = operations.stream()
+                .filter(operation -> operation.operation() != ProductBatchOperationType.CREATE)
+                .map(ProductBatchOperationDto::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<String, ProductEntity> existingProductsById = productRepository.findAllById(referencedIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        final Set<String> names = operations.stream()
+                .map(ProductBatchOperationDto::product)
+                .filter(Objects::nonNull)
+                .map(ProductToCreateDto::name)
+                .collect(Collectors.toSet());
+        final Set<String> articleNumbers = operations.stream()
+                .map(ProductBatchOperationDto::product)
+                .filter(Objects::nonNull)
+                .map(ProductToCreateDto::articleNumber)
+                .collect(Collectors.toSet());
+
+        final Map<String, String> nameOwners = new HashMap<>();
+        final Map<String, String> articleNumberOwners = new HashMap<>();
+        productRepository.findAllByNameInOrArticleNumberIn(names, articleNumbers).forEach(keyHolder -> {
+            nameOwners.put(keyHolder.getName(), keyHolder.getId());
+            articleNumberOwners.put(keyHolder.getArticleNumber(), keyHolder.getId());
+        });
+
+        final Set<String> batchIds = new HashSet<>();
+        final Map<Integer, List<String>> validationErrorsByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < operations.size(); index++) {
+            final ProductBatchOperationDto operation = operations.get(index);
+            final List<String> validationErrors = new ArrayList<>();
+
+            if (operation.operation() != ProductBatchOperationType.DELETE && Objects.isNull(operation.product())) {
+                validationErrors.add(String.format("product must not be null for %s", operation.operation()));
+            }
+            if (operation.operation() != ProductBatchOperationType.CREATE) {
+                if (Objects.isNull(operation.id()) || operation.id().isBlank()) {
+                    validationErrors.add(String.format("id must not be blank for %s", operation.operation()));
+                } else if (!batchIds.add(operation.id())) {
+                    validationErrors.add(String.format("Product with id: '%s' occurs more than once in the batch", operation.id()));
+                } else {
+                    final ProductEntity existingProduct = existingProductsById.get(operation.id());
+                    if (Objects.isNull(existingProduct)) {
+                        validationErrors.add(String.format("Product with id: '%s' does not exist", operation.id()));
+                    } else {
+                        nameOwners.remove(existingProduct.getName(), existingProduct.getId());
+                        articleNumberOwners.remove(existingProduct.getArticleNumber(), existingProduct.getId());
+                    }
+                }
+            }
+
+            if (!validationErrors.isEmpty()) {
+                validationErrorsByIndex.put(index, validationErrors);
+            }
+        }
+
+        final Set<String> batchNames = new HashSet<>();
+        final Set<String> batchArticleNumbers = new HashSet<>();
+        for (int index = 0; index < operations.size(); index++) {
+            final ProductBatchOperationDto operation = operations.get(index);
+            if (operation.operation() == ProductBatchOperationType.DELETE || Objects.isNull(operation.product())) {
+                continue;
+            }
+            final ProductToCreateDto product = operation.product();
+            final String owner = operation.operation() == ProductBatchOperationType.CREATE ? "#" + index : operation.id();
+            final List<String> validationErrors = new ArrayList<>();
+
+            if (!batchNames.add(product.name())) {
+                validationErrors.add(String.format("Product name: '%s' occurs more than once in the batch", product.name()));
+            } else if (!owner.equals(nameOwners.getOrDefault(product.name(), owner))) {
+                validationErrors.add(nameTakenMessage(product.name()));
+            }
+            if (!batchArticleNumbers.add(product.articleNumber())) {
+                validationErrors.add(String.format("Article number: '%s' occurs more than once in the batch", product.articleNumber()));
+            } else if (!owner.equals(articleNumberOwners.getOrDefault(product.articleNumber(), owner))) {
+                validationErrors.add(articleNumberTakenMessage(product.articleNumber()));
+            }
+            validatePriceGreaterThanZero(product.price(), validationErrors);
+
+            if (!validationErrors.isEmpty()) {
+                validationErrorsByIndex.computeIfAbsent(index, ignored -> new ArrayList<>()).addAll(validationErrors);
+            }
+        }
+
+        log.info("Product batch validation finished: operations={}, rejected={}", operations.size(), validationErrorsByIndex.size());
+        return validationErrorsByIndex;
+    }
+
+    @Override
+    public Optional<ProductField> resolveViolatedUniqueField(final DataIntegrityViolationException exception) {
+        Throwable cause = exception;
+        while (Objects.nonNull(cause) && !(cause instanceof ConstraintViolationException)) {
+            cause = cause.getCause();
+        }
+        if (!(cause instanceof final ConstraintViolationException constraintViolationException)
+                || Objects.isNull(constraintViolationException.getConstraintName())) {
+            return Optional.empty();
+        }
+        return switch (constraintViolationException.getConstraintName().toLowerCase(Locale.ROOT)) {
+            case ProductEntity.NAME_UNIQUE_CONSTRAINT -> Optional.of(ProductField.NAME);
+            case ProductEntity.ARTICLE_NUMBER_UNIQUE_CONSTRAINT -> Optional.of(ProductField.ARTICLE_NUMBER);
+            default -> Optional.empty();
+        };
+    }
+
+    @Override
+    public Optional<ProductValidationException> translateUniqueConstraintViolation(final DataIntegrityViolationException exception,
+                                                                                   final String name, final String articleNumber) {
+        return resolveViolatedUniqueField(exception)
+                .map(violatedField -> violatedField == ProductField.NAME ? nameTakenMessage(name) : articleNumberTakenMessage(articleNumber))
+                .map(message -> {
+                    log.warn("Validation error from unique constraint: {}", message);
+                    return new ProductValidationException(message);
+                });
+    }
+
     private boolean isNameModified(final ProductToUpdateDto productToUpdateDto, final ProductEntity existing) {
         return !Objects.equals(productToUpdateDto.name(), existing.getName());
     }
@@ -75,8 +293,8 @@ final class ProductValidationServiceImpl implements ProductValidationService {
 
     private void validateNameUniqueness(final String name, final List<String> errors) {
         log.debug("Checking product name uniqueness: name='{}'", name);
-        if (productRepository.existsByName(name)) {
-            final String message = String.format("Product name: '%s' is already taken", name);
+        if (productKeyFilter.exists(ProductField.NAME, name, productRepository::existsByName)) {
+            final String message = nameTakenMessage(name);
             log.warn("Validation error: {}", message);
             errors.add(message);
         } else {
@@ -86,8 +304,8 @@ final class ProductValidationServiceImpl implements ProductValidationService {
 
     private void validateArticleNumberUniqueness(final String articleNumber, final List<String> errors) {
         log.debug("Checking article number uniqueness: articleNumber='{}'", articleNumber);
-        if (productRepository.existsByArticleNumber(articleNumber)) {
-            final String message = String.format("Article number: '%s' is already taken", articleNumber);
+        if (productKeyFilter.exists(ProductField.ARTICLE_NUMBER, articleNumber, productRepository::existsByArticleNumber)) {
+            final String message = articleNumberTakenMessage(articleNumber);
             log.warn("Validation error: {}", message);
             errors.add(message);
         } else {
@@ -97,24 +315,24 @@ final class ProductValidationServiceImpl implements ProductValidationService {
 
     private void validateNameUniquenessForUpdate(final String productId, final String name, final List<String> errors) {
         log.debug("Checking product name uniqueness for update: id='{}', name='{}'", productId, name);
-        productRepository.findByName(name)
+        if (productKeyFilter.exists(ProductField.NAME, name, candidate -> productRepository.findByName(candidate)
                 .filter(found -> !found.getId().equals(productId))
-                .ifPresent(found -> {
-                    final String message = String.format("Product name: '%s' is already taken", name);
-                    log.warn("Validation error: {}", message);
-                    errors.add(message);
-                });
+                .isPresent())) {
+            final String message = nameTakenMessage(name);
+            log.warn("Validation error: {}", message);
+            errors.add(message);
+        }
     }
 
     private void validateArticleNumberUniquenessForUpdate(final String productId, final String articleNumber, final List<String> errors) {
         log.debug("Checking article number uniqueness for update: id='{}', articleNumber='{}'", productId, articleNumber);
-        productRepository.findByArticleNumber(articleNumber)
+        if (productKeyFilter.exists(ProductField.ARTICLE_NUMBER, articleNumber, candidate -> productRepository.findByArticleNumber(candidate)
                 .filter(found -> !found.getId().equals(productId))
-                .ifPresent(found -> {
-                    final String message = String.format("Article number: '%s' is already taken", articleNumber);
-                    log.warn("Validation error: {}", message);
-                    errors.add(message);
-                });
+                .isPresent())) {
+            final String message = articleNumberTakenMessage(articleNumber);
+            log.warn("Validation error: {}", message);
+            errors.add(message);
+        }
     }
 
     private void validatePriceGreaterThanZero(final double price, final List<String> errors) {
@@ -126,6 +344,18 @@ final class ProductValidationServiceImpl implements ProductValidationService {
         }
     }
 
+    private boolean isPreCheckMode() {
+        return productValidationConfiguration.getUniquenessMode() == ProductUniquenessMode.PRE_CHECK;
+    }
+
+    private String nameTakenMessage(final String name) {
+        return String.format("Product name: '%s' is already taken", name);
+    }
+
+    private String articleNumberTakenMessage(final String articleNumber) {
+        return String.format("Article number: '%s' is already taken", articleNumber);
+    }
+
     private void throwIfErrors(final List<String> validationErrors) {
         if (!validationErrors.isEmpty()) {
             final String joined = String.join(", ", validationErrors);
@@ -0,0 +1,86 @@
+package de.resume.inventory.management.system.productservice.services.validation;
+
+import de.resume.inventory.management.system.productservice.config.ProductValidationConfiguration;
+import de.resume.inventory.management.system.productservice.models.domain.ProductUniqueKeys;
+import de.resume.inventory.management.system.productservice.models.dtos.ProductToCreateDto;
+import de.resume.inventory.management.system.productservice.models.enums.Category;
+import de.resume.inventory.management.system.productservice.models.enums.Unit;
+import de.resume.inventory.management.system.productservice.repositories.ProductRepository;
+import de.resume.inventory.management.system.productservice.services.keyfilter.ProductKeyFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class ProductValidationServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductKeyFilter productKeyFilter;
+
+    private ProductValidationServiceImpl sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ProductValidationServiceImpl(productRepository, new ProductValidationConfiguration(), productKeyFilter);
+    }
+
+    @Test
+    void validateProductsToCreate_rejectedItemDoesNotClaimBatchKeys() {
+        final List<ProductToCreateDto> productsToCreate = List.of(
+                product("Spirit level", "SL-40", -1.0),
+                product("Spirit level", "SL-40", 19.9),
+                product("Spirit level", "SL-40", 24.9));
+        Mockito.when(productRepository.findUniqueKeysByNamesOrArticleNumbers(Set.of("Spirit level"), Set.of("SL-40")))
+                .thenReturn(List.of());
+
+        final Map<Integer, List<String>> actual = sut.validateProductsToCreate(productsToCreate);
+
+        Assertions.assertEquals(Set.of(0, 2), actual.keySet());
+        Assertions.assertEquals(List.of("price: '-1.00' must be greater than 0"), actual.get(0));
+        Assertions.assertEquals(List.of("Product name: 'Spirit level' occurs more than once in the batch",
+                "Article number: 'SL-40' occurs more than once in the batch"), actual.get(2));
+    }
+
+    @Test
+    void validateProductsToCreate_itemTakenInDatabaseDoesNotClaimOtherBatchKey() {
+        final List<ProductToCreateDto> productsToCreate = List.of(
+                product("Spirit level", "SL-40", 19.9),
+                product("Tape measure", "SL-40", 9.9),
+                product("Spirit level", "TM-5", 19.9));
+        Mockito.when(productRepository.findUniqueKeysByNamesOrArticleNumbers(Mockito.anySet(), Mockito.anySet()))
+                .thenReturn(List.of(new ProductUniqueKeys("Spirit level", "OTHER-1")));
+
+        final Map<Integer, List<String>> actual = sut.validateProductsToCreate(productsToCreate);
+
+        Assertions.assertEquals(Set.of(0, 2), actual.keySet());
+        Assertions.assertEquals(List.of("Product name: 'Spirit level' is already taken"), actual.get(0));
+    }
+
+    @Test
+    void validateProductsToUpsert_rejectedItemDoesNotClaimBatchKeys() {
+        final List<ProductToCreateDto> productsToUpsert = List.of(
+                product("Spirit level", "SL-40", 0.0),
+                product("Spirit level", "SL-40", 19.9));
+        Mockito.when(productRepository.findUniqueKeysByNamesOrArticleNumbers(Set.of("Spirit level"), Set.of("SL-40")))
+                .thenReturn(List.of());
+
+        final Map<Integer, List<String>> actual = sut.validateProductsToUpsert(productsToUpsert);
+
+        Assertions.assertEquals(Set.of(0), actual.keySet());
+    }
+
+    private ProductToCreateDto product(final String name, final String articleNumber, final double price) {
+        return new ProductToCreateDto(name, articleNumber, null, Category.HOUSEHOLD, Unit.PIECE, price);
+    }
+}